@@ -0,0 +1,76 @@
+package edu.utec.cs3081.benchmarks;
+
+import edu.utec.cs3081.calculator.ColumnarCohort;
+import edu.utec.cs3081.calculator.ColumnarGradeEngine;
+import edu.utec.cs3081.calculator.ColumnarResults;
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo masivo de una cohorte: secuencial, en paralelo con fork-join y con el motor columnar.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CohortGradingBenchmark {
+
+    private static final int ACADEMIC_YEAR = 2025;
+
+    @Param({"1000", "100000"})
+    private int cohortSize;
+
+    private GradeCalculator calculator;
+    private ColumnarGradeEngine engine;
+    private List<Student> cohort;
+    private ColumnarCohort columnarCohort;
+
+    @Setup
+    public void setUp() {
+        ExtraPointsPolicy policy = new ExtraPointsPolicy(Arrays.asList(2024, 2025));
+        calculator = new GradeCalculator(policy);
+        engine = new ColumnarGradeEngine(policy);
+        cohort = Fixtures.cohort(cohortSize, 42);
+        columnarCohort = new ColumnarCohort(cohortSize);
+        for (Student student : cohort) {
+            columnarCohort.add(student);
+        }
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) {
+        for (Student student : cohort) {
+            blackhole.consume(calculator.calculateFinalGrade(student, ACADEMIC_YEAR));
+        }
+    }
+
+    @Benchmark
+    public List<GradeOutcome> forkJoin() {
+        return calculator.calculateAll(cohort, ACADEMIC_YEAR);
+    }
+
+    @Benchmark
+    public ColumnarResults columnar() {
+        return engine.calculateAll(columnarCohort, ACADEMIC_YEAR);
+    }
+}
@@ -0,0 +1,57 @@
+package edu.utec.cs3081.benchmarks;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación del reporte detallado: como String y escrito sobre un búfer reutilizado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DetailedReportBenchmark {
+
+    @Param({"3", "10"})
+    private int evaluationCount;
+
+    private GradeResult result;
+    private final StringBuilder buffer = new StringBuilder(4096);
+
+    @Setup
+    public void setUp() {
+        result = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025)))
+            .calculateFinalGrade(Fixtures.student("STU001", evaluationCount, true, new Random(11)), 2025);
+    }
+
+    @Benchmark
+    public String getDetailedReport() {
+        return result.getDetailedReport();
+    }
+
+    @Benchmark
+    public int writeDetailedReport() throws IOException {
+        buffer.setLength(0);
+        result.writeDetailedReport(buffer);
+        return buffer.length();
+    }
+}
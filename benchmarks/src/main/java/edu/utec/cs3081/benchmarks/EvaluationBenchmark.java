@@ -0,0 +1,51 @@
+package edu.utec.cs3081.benchmarks;
+
+import edu.utec.cs3081.exception.InvalidEvaluationException;
+import edu.utec.cs3081.model.Evaluation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción y validación de {@link Evaluation}, incluyendo el rechazo de datos inválidos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvaluationBenchmark {
+
+    private String name = "Parcial";
+    private double grade = 15.5;
+    private double weight = 0.4;
+    private double invalidGrade = 21.0;
+
+    @Benchmark
+    public Evaluation createValid() {
+        return new Evaluation(name, grade, weight);
+    }
+
+    @Benchmark
+    public double weightedGrade() {
+        return new Evaluation(name, grade, weight).getWeightedGrade();
+    }
+
+    @Benchmark
+    public Object rejectInvalid() {
+        try {
+            return new Evaluation(name, invalidGrade, weight);
+        } catch (InvalidEvaluationException e) {
+            return e;
+        }
+    }
+}
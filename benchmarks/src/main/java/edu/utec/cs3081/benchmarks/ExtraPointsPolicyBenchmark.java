@@ -0,0 +1,60 @@
+package edu.utec.cs3081.benchmarks;
+
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda del año académico en {@link ExtraPointsPolicy}, con años con y sin puntos extra.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExtraPointsPolicyBenchmark {
+
+    private static final int YEAR_COUNT = 64;
+
+    private ExtraPointsPolicy policy;
+    private int[] years;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<Integer> eligible = new ArrayList<>();
+        for (int year = 1990; year <= 2030; year += 3) {
+            eligible.add(year);
+        }
+        policy = new ExtraPointsPolicy(eligible);
+        years = new int[YEAR_COUNT];
+        for (int i = 0; i < YEAR_COUNT; i++) {
+            years[i] = 1980 + (i * 7) % 60;
+        }
+    }
+
+    @Benchmark
+    public double applyExtraPoints() {
+        cursor = (cursor + 1) & (YEAR_COUNT - 1);
+        return policy.applyExtraPoints(15.0, years[cursor]);
+    }
+
+    @Benchmark
+    public boolean hasExtraPoints() {
+        cursor = (cursor + 1) & (YEAR_COUNT - 1);
+        return policy.hasExtraPoints(years[cursor]);
+    }
+}
@@ -0,0 +1,47 @@
+package edu.utec.cs3081.benchmarks;
+
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Datos sintéticos reproducibles para los benchmarks.
+ */
+final class Fixtures {
+
+    private static final int MAX_EVALUATIONS = 10;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Estudiante con la cantidad de evaluaciones indicada y pesos que suman 1.0.
+     */
+    static Student student(String code, int evaluationCount, boolean attendance, Random random) {
+        Student student = new Student(code, attendance);
+        double weight = 1.0 / evaluationCount;
+        double remaining = 1.0;
+        for (int i = 0; i < evaluationCount; i++) {
+            double current = i == evaluationCount - 1 ? remaining : weight;
+            remaining -= current;
+            student.addEvaluation(new Evaluation("E" + (i + 1), Math.round(random.nextDouble() * 2000) / 100.0,
+                Math.max(0.0, current)));
+        }
+        return student;
+    }
+
+    /**
+     * Cohorte con entre 1 y 10 evaluaciones por estudiante; uno de cada diez sin asistencia.
+     */
+    static List<Student> cohort(int size, long seed) {
+        Random random = new Random(seed);
+        List<Student> cohort = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cohort.add(student("STU" + i, 1 + random.nextInt(MAX_EVALUATIONS), i % 10 != 0, random));
+        }
+        return cohort;
+    }
+}
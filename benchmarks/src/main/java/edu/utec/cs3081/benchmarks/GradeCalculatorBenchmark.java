@@ -0,0 +1,57 @@
+package edu.utec.cs3081.benchmarks;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GradeCalculator#calculateFinalGrade(edu.utec.cs3081.model.StudentRecord, int)}
+ * según la cantidad de evaluaciones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GradeCalculatorBenchmark {
+
+    @Param({"1", "3", "10"})
+    private int evaluationCount;
+
+    private GradeCalculator calculator;
+    private Student student;
+    private int academicYear = 2025;
+
+    @Setup
+    public void setUp() {
+        calculator = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2023, 2025)));
+        student = Fixtures.student("STU001", evaluationCount, true, new Random(7));
+    }
+
+    @Benchmark
+    public GradeResult calculateFinalGrade() {
+        return calculator.calculateFinalGrade(student, academicYear);
+    }
+
+    @Benchmark
+    public double finalGradeOnly() {
+        return calculator.calculateFinalGrade(student, academicYear).getFinalGrade();
+    }
+}
@@ -0,0 +1,74 @@
+package edu.utec.cs3081.benchmarks;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.ranking.GradeRanking;
+import edu.utec.cs3081.ranking.TopGrades;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking de una facultad: orden por conteo y mejores 10 frente a ordenar con comparador.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RankingBenchmark {
+
+    private static final Comparator<GradeResult> BY_GRADE_THEN_CODE = Comparator
+        .comparingDouble(GradeResult::getFinalGrade).reversed()
+        .thenComparing(GradeResult::getStudentCode);
+
+    @Param({"1000", "100000"})
+    private int cohortSize;
+
+    private List<GradeResult> results;
+
+    @Setup
+    public void setUp() {
+        GradeCalculator calculator = new GradeCalculator();
+        results = new ArrayList<>(cohortSize);
+        for (Student student : Fixtures.cohort(cohortSize, 42)) {
+            results.add(calculator.calculateFinalGrade(student, 2025));
+        }
+    }
+
+    @Benchmark
+    public GradeRanking countingRanking() {
+        return GradeRanking.of(results);
+    }
+
+    @Benchmark
+    public List<GradeResult> comparatorSort() {
+        List<GradeResult> sorted = new ArrayList<>(results);
+        sorted.sort(BY_GRADE_THEN_CODE);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<GradeResult> topTen() {
+        TopGrades top = new TopGrades(10);
+        for (GradeResult result : results) {
+            top.accept(result);
+        }
+        return top.toList();
+    }
+}
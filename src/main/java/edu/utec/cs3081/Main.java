@@ -1,12 +1,18 @@
 package edu.utec.cs3081;
 
+import edu.utec.cs3081.batch.BatchSummary;
+import edu.utec.cs3081.batch.CsvBatchGrader;
+import edu.utec.cs3081.calculator.CalculatorRegistry;
 import edu.utec.cs3081.calculator.GradeCalculator;
 import edu.utec.cs3081.calculator.GradeResult;
 import edu.utec.cs3081.model.Evaluation;
 import edu.utec.cs3081.model.Student;
 import edu.utec.cs3081.policy.AttendancePolicy;
 import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import edu.utec.cs3081.server.GradingServer;
+import edu.utec.cs3081.server.ServerExecutors;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -19,8 +25,19 @@ import java.util.Scanner;
 public class Main {
     
     private static final Scanner scanner = new Scanner(System.in);
+    private static final String BATCH_OPTION = "--batch";
+    private static final String SERVER_OPTION = "--server";
+    private static final CalculatorRegistry CALCULATORS = new CalculatorRegistry();
     
     public static void main(String[] args) {
+        if (args.length > 0 && BATCH_OPTION.equals(args[0])) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && SERVER_OPTION.equals(args[0])) {
+            runServer(args);
+            return;
+        }
         printWelcome();
         
         try {
@@ -32,12 +49,14 @@ public class Main {
             AttendancePolicy attendancePolicy = new AttendancePolicy();
             GradeCalculator calculator = new GradeCalculator(attendancePolicy, extraPointsPolicy);
             
-            long startTime = System.currentTimeMillis();
+            long startTime = System.nanoTime();
             GradeResult result = calculator.calculateFinalGrade(student, academicYear);
-            long endTime = System.currentTimeMillis();
+            long endTime = System.nanoTime();
             
-            System.out.println("\n" + result.getDetailedReport());
-            System.out.printf("Tiempo de cálculo: %d ms%n", (endTime - startTime));
+            System.out.println();
+            result.writeDetailedReport(System.out);
+            System.out.println();
+            System.out.printf("Tiempo de cálculo: %.3f ms%n", (endTime - startTime) / 1_000_000.0);
             
         } catch (Exception e) {
             System.err.println("Error: " + e.getMessage());
@@ -45,6 +64,50 @@ public class Main {
         }
     }
 
+    /**
+     * Modo por lotes no interactivo.
+     * Uso: {@code --batch <roster.csv> <resultados.csv> <año> [años_con_puntos_extra]}
+     */
+    private static void runBatch(String[] args) {
+        if (args.length < 4) {
+            System.err.println("Uso: --batch <roster.csv> <resultados.csv> <año> [años_con_puntos_extra]");
+            System.exit(2);
+        }
+        try {
+            int academicYear = Integer.parseInt(args[3].trim());
+            List<Integer> yearsWithExtra = args.length > 4 ? parseYears(args[4]) : new ArrayList<>();
+            GradeCalculator calculator = new GradeCalculator(new ExtraPointsPolicy(yearsWithExtra));
+            BatchSummary summary = new CsvBatchGrader(calculator)
+                .run(Path.of(args[1]), Path.of(args[2]), academicYear);
+            System.out.printf("Filas procesadas: %d (calculadas: %d, con error: %d)%n",
+                summary.getRows(), summary.getGraded(), summary.getFailed());
+            System.out.printf("Rendimiento: %.0f filas/s%n", summary.getRowsPerSecond());
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Servicio HTTP embebido.
+     * Uso: {@code --server [puerto] [hilos]}; sin hilos se usa el ejecutor por defecto.
+     */
+    private static void runServer(String[] args) {
+        try {
+            int port = args.length > 1 ? Integer.parseInt(args[1].trim()) : GradingServer.DEFAULT_PORT;
+            GradingServer.Builder builder = GradingServer.builder().port(port).calculators(CALCULATORS);
+            if (args.length > 2) {
+                builder.executor(ServerExecutors.platform(Integer.parseInt(args[2].trim())));
+            }
+            GradingServer server = builder.build().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            System.out.printf("Servidor de notas escuchando en el puerto %d%n", server.getPort());
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
     private static void printWelcome() {
         System.out.println("╔═══════════════════════════════════════════╗");
         System.out.println("║     CS-GradeCalculator - UTEC 2025-2      ║");
@@ -100,7 +163,11 @@ public class Main {
         System.out.print("Ingrese los años con puntos extra (separados por coma, ej: 2024,2025): ");
         String yearsInput = scanner.nextLine().trim();
         
-        if (yearsInput.isEmpty()) {
+        return parseYears(yearsInput);
+    }
+
+    private static List<Integer> parseYears(String yearsInput) {
+        if (yearsInput.isBlank()) {
             return new ArrayList<>();
         }
         
@@ -112,6 +179,7 @@ public class Main {
 
     /**
      * Método para ejecución programática (útil para tests de integración).
+     * La calculadora de cada configuración de años se construye una sola vez y se reutiliza.
      * 
      * @param student estudiante a evaluar
      * @param academicYear año académico
@@ -119,8 +187,6 @@ public class Main {
      * @return resultado del cálculo
      */
     public static GradeResult calculateGrade(Student student, int academicYear, List<Integer> yearsWithExtra) {
-        ExtraPointsPolicy extraPointsPolicy = new ExtraPointsPolicy(yearsWithExtra);
-        GradeCalculator calculator = new GradeCalculator(extraPointsPolicy);
-        return calculator.calculateFinalGrade(student, academicYear);
+        return CALCULATORS.forYears(yearsWithExtra).calculateFinalGrade(student, academicYear);
     }
 }
@@ -0,0 +1,159 @@
+package edu.utec.cs3081.batch;
+
+import edu.utec.cs3081.statistics.CohortStatistics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Estado de un cálculo por lotes en un punto de control: hasta dónde se leyó la entrada,
+ * cuántos bytes de la salida están completos, los contadores y las estadísticas parciales.
+ * También identifica la entrada (tamaño y fecha de modificación), el año académico y la
+ * configuración de políticas de la calculadora, para no retomar un lote con datos o reglas
+ * distintos.
+ *
+ * <p>El archivo termina con un CRC32C del contenido y se reemplaza de forma atómica, así
+ * que tras una caída queda el punto de control anterior o el nuevo, entero.</p>
+ */
+final class BatchCheckpoint {
+
+    private static final int MAGIC = 0x52474350;
+    private static final short VERSION = 2;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final int academicYear;
+    private final int policyHash;
+    private final long inputSize;
+    private final long inputModified;
+    private final long inputOffset;
+    private final long lineNumber;
+    private final long outputLength;
+    private final long graded;
+    private final long failed;
+    private final CohortStatistics statistics;
+
+    BatchCheckpoint(int academicYear, int policyHash, long inputSize, long inputModified, long inputOffset, long lineNumber,
+                    long outputLength, long graded, long failed, CohortStatistics statistics) {
+        this.academicYear = academicYear;
+        this.policyHash = policyHash;
+        this.inputSize = inputSize;
+        this.inputModified = inputModified;
+        this.inputOffset = inputOffset;
+        this.lineNumber = lineNumber;
+        this.outputLength = outputLength;
+        this.graded = graded;
+        this.failed = failed;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Lee el punto de control de un archivo.
+     *
+     * @param path ruta del punto de control
+     * @return el punto de control, o null si el archivo no existe
+     * @throws IOException si falla la lectura o el archivo está dañado
+     */
+    static BatchCheckpoint read(Path path) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        int length = bytes.length - Integer.BYTES;
+        if (length < 0 || checksum(bytes, length) != ByteBuffer.wrap(bytes).getInt(length)) {
+            throw new IOException("El punto de control está dañado: " + path);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+        if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+            throw new IOException("El archivo no es un punto de control de cálculo por lotes: " + path);
+        }
+        return new BatchCheckpoint(in.readInt(), in.readInt(), in.readLong(), in.readLong(), in.readLong(), in.readLong(),
+            in.readLong(), in.readLong(), in.readLong(), CohortStatistics.readFrom(in));
+    }
+
+    /**
+     * Escribe el punto de control en un archivo temporal, lo fuerza a disco y reemplaza el
+     * anterior de forma atómica.
+     *
+     * @param path ruta del punto de control
+     * @throws IOException si falla la escritura
+     */
+    void write(Path path) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(academicYear);
+        out.writeInt(policyHash);
+        out.writeLong(inputSize);
+        out.writeLong(inputModified);
+        out.writeLong(inputOffset);
+        out.writeLong(lineNumber);
+        out.writeLong(outputLength);
+        out.writeLong(graded);
+        out.writeLong(failed);
+        statistics.writeTo(out);
+        out.writeInt(checksum(bytes.toByteArray(), bytes.size()));
+
+        Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static int checksum(byte[] bytes, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Indica si el punto de control corresponde a esta entrada, año académico y
+     * configuración de políticas.
+     */
+    boolean matches(long size, long modified, int year, int policies) {
+        return inputSize == size && inputModified == modified && academicYear == year && policyHash == policies;
+    }
+
+    long getInputOffset() {
+        return inputOffset;
+    }
+
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    long getOutputLength() {
+        return outputLength;
+    }
+
+    long getGraded() {
+        return graded;
+    }
+
+    long getFailed() {
+        return failed;
+    }
+
+    CohortStatistics getStatistics() {
+        return statistics;
+    }
+}
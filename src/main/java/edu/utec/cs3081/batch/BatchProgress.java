@@ -0,0 +1,65 @@
+package edu.utec.cs3081.batch;
+
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.statistics.CohortStatistics;
+
+/**
+ * Contadores de un lote en curso, compartidos por los procesadores CSV para que el paso
+ * por fila de {@link CsvBatchGrader} sea el mismo con o sin puntos de control.
+ */
+final class BatchProgress {
+
+    private final CohortStatistics statistics;
+    private long graded;
+    private long failed;
+
+    /**
+     * Constructor para un lote que empieza desde cero sin acumular estadísticas.
+     */
+    BatchProgress() {
+        this(0, 0, null);
+    }
+
+    /**
+     * Constructor que continúa contadores previos.
+     *
+     * @param graded filas calculadas antes de continuar
+     * @param failed filas fallidas antes de continuar
+     * @param statistics acumulador de estadísticas, o null si no se requieren
+     */
+    BatchProgress(long graded, long failed, CohortStatistics statistics) {
+        this.graded = graded;
+        this.failed = failed;
+        this.statistics = statistics;
+    }
+
+    void recordResult(GradeResult result) {
+        graded++;
+        if (statistics != null) {
+            statistics.accept(result);
+        }
+    }
+
+    void recordFailure() {
+        failed++;
+        if (statistics != null) {
+            statistics.recordFailure();
+        }
+    }
+
+    long getGraded() {
+        return graded;
+    }
+
+    long getFailed() {
+        return failed;
+    }
+
+    long getRows() {
+        return graded + failed;
+    }
+
+    BatchSummary toSummary(long elapsedNanos) {
+        return new BatchSummary(getRows(), graded, failed, elapsedNanos);
+    }
+}
@@ -0,0 +1,55 @@
+package edu.utec.cs3081.batch;
+
+/**
+ * Resumen de una ejecución de cálculo por lotes.
+ */
+public class BatchSummary {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final long rows;
+    private final long graded;
+    private final long failed;
+    private final long elapsedNanos;
+
+    public BatchSummary(long rows, long graded, long failed, long elapsedNanos) {
+        this.rows = rows;
+        this.graded = graded;
+        this.failed = failed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getGraded() {
+        return graded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Calcula el rendimiento de la ejecución.
+     *
+     * @return filas procesadas por segundo
+     */
+    public double getRowsPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return rows * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchSummary[filas=%d, calculadas=%d, errores=%d, %.0f filas/s]",
+            rows, graded, failed, getRowsPerSecond());
+    }
+}
@@ -0,0 +1,169 @@
+package edu.utec.cs3081.batch;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.events.GradingBatchEvent;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.io.CsvResultWriter;
+import edu.utec.cs3081.io.CsvRosterReader;
+import edu.utec.cs3081.statistics.CohortStatistics;
+import edu.utec.cs3081.validation.ValidationErrors;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Cálculo por lotes de un roster CSV que se puede retomar si el proceso se detiene a mitad
+ * de camino. Produce la misma salida que {@link CsvBatchGrader} y, cada cierta cantidad de
+ * filas, guarda un punto de control con el desplazamiento en la entrada, los bytes ya
+ * escritos y forzados a disco de la salida, los contadores y las estadísticas parciales.
+ *
+ * <p>Al volver a ejecutarlo con la misma entrada, el mismo punto de control y una calculadora
+ * con las mismas políticas, la salida se trunca al largo guardado (descartando las filas
+ * escritas después del punto de control) y la lectura continúa desde el desplazamiento guardado. Retomar repite como máximo un
+ * intervalo de filas, sin importar el tamaño del roster, y el resultado final es idéntico
+ * al de una ejecución sin interrupciones. Al terminar, el punto de control se elimina.</p>
+ */
+public class CheckpointedBatchGrader {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 10_000;
+
+    private final CsvBatchGrader rowGrader;
+    private final int policyHash;
+    private final int checkpointInterval;
+
+    /**
+     * Constructor con un punto de control cada {@value #DEFAULT_CHECKPOINT_INTERVAL} filas.
+     *
+     * @param calculator calculadora de notas
+     */
+    public CheckpointedBatchGrader(GradeCalculator calculator) {
+        this(calculator, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructor con la calculadora y el intervalo entre puntos de control.
+     *
+     * @param calculator calculadora de notas
+     * @param checkpointInterval filas entre puntos de control
+     */
+    public CheckpointedBatchGrader(GradeCalculator calculator, int checkpointInterval) {
+        if (calculator == null) {
+            throw new GradeCalculationException("La calculadora no puede ser nula");
+        }
+        if (checkpointInterval <= 0) {
+            throw new GradeCalculationException("El intervalo de puntos de control debe ser mayor a cero");
+        }
+        this.rowGrader = new CsvBatchGrader(calculator);
+        this.policyHash = calculator.policyConfigurationHash();
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Procesa un roster, retomando desde el punto de control si existe.
+     *
+     * @param input ruta del roster CSV
+     * @param output ruta del archivo de resultados
+     * @param checkpoint ruta del punto de control
+     * @param academicYear año académico para aplicar política de puntos extra
+     * @return resumen de todo el lote, incluidas las filas procesadas antes de retomar
+     * @throws IOException si falla la lectura o escritura, o si el punto de control no
+     *                     corresponde a la entrada, al año académico o a las políticas de
+     *                     la calculadora
+     */
+    public BatchSummary run(Path input, Path output, Path checkpoint, int academicYear) throws IOException {
+        return run(input, output, checkpoint, academicYear, new CohortStatistics());
+    }
+
+    /**
+     * Procesa un roster, retomando desde el punto de control si existe, y acumula las
+     * estadísticas de todo el lote.
+     *
+     * @param input ruta del roster CSV
+     * @param output ruta del archivo de resultados
+     * @param checkpoint ruta del punto de control
+     * @param academicYear año académico para aplicar política de puntos extra
+     * @param statistics acumulador donde se incorporan las estadísticas de todo el lote
+     * @return resumen de todo el lote, incluidas las filas procesadas antes de retomar
+     * @throws IOException si falla la lectura o escritura, o si el punto de control no
+     *                     corresponde a la entrada, al año académico o a las políticas de
+     *                     la calculadora
+     */
+    public BatchSummary run(Path input, Path output, Path checkpoint, int academicYear,
+                            CohortStatistics statistics) throws IOException {
+        if (statistics == null) {
+            throw new GradeCalculationException("El acumulador de estadísticas no puede ser nulo");
+        }
+        GradingBatchEvent event = new GradingBatchEvent();
+        event.begin();
+        long batchId = GradingBatchEvent.nextBatchId();
+        long start = System.nanoTime();
+        BasicFileAttributes attributes = Files.readAttributes(input, BasicFileAttributes.class);
+        long inputSize = attributes.size();
+        long inputModified = attributes.lastModifiedTime().toMillis();
+        BatchCheckpoint resume = BatchCheckpoint.read(checkpoint);
+        if (resume != null && !resume.matches(inputSize, inputModified, academicYear, policyHash)) {
+            throw new IOException(String.format(
+                "El punto de control %s no corresponde a la entrada %s, al año %d o a las políticas de la calculadora",
+                checkpoint, input, academicYear));
+        }
+
+        CohortStatistics partial;
+        BatchProgress progress;
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            CsvRosterReader reader;
+            if (resume != null) {
+                if (out.size() < resume.getOutputLength()) {
+                    throw new IOException("La salida es más corta que lo registrado en el punto de control: " + output);
+                }
+                out.truncate(resume.getOutputLength());
+                in.position(resume.getInputOffset());
+                reader = new CsvRosterReader(Channels.newInputStream(in), resume.getInputOffset(), resume.getLineNumber());
+                partial = resume.getStatistics();
+                progress = new BatchProgress(resume.getGraded(), resume.getFailed(), partial);
+            } else {
+                out.truncate(0);
+                reader = new CsvRosterReader(Channels.newInputStream(in));
+                partial = new CohortStatistics(statistics.getPassingGrade(), statistics.getHistogram().length);
+                progress = new BatchProgress(0, 0, partial);
+            }
+            out.position(out.size());
+            CsvResultWriter writer = new CsvResultWriter(new BufferedWriter(
+                new OutputStreamWriter(Channels.newOutputStream(out), StandardCharsets.UTF_8)));
+            if (resume == null) {
+                writer.writeHeader();
+            }
+
+            ValidationErrors errors = new ValidationErrors();
+            long checkpointRows = progress.getRows();
+            while (rowGrader.gradeNext(reader, writer, errors, academicYear, batchId, progress)) {
+                if (progress.getRows() - checkpointRows >= checkpointInterval) {
+                    writer.flush();
+                    out.force(false);
+                    new BatchCheckpoint(academicYear, policyHash, inputSize, inputModified, reader.getOffset(),
+                        reader.getLineNumber(), out.position(), progress.getGraded(), progress.getFailed(), partial)
+                        .write(checkpoint);
+                    checkpointRows = progress.getRows();
+                }
+            }
+            writer.flush();
+            out.force(false);
+        }
+        Files.deleteIfExists(checkpoint);
+        statistics.combine(partial);
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(batchId, GradingBatchEvent.KIND_CSV, progress.getRows(), progress.getFailed());
+            event.commit();
+        }
+        return progress.toSummary(System.nanoTime() - start);
+    }
+}
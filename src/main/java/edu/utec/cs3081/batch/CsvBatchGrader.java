@@ -0,0 +1,148 @@
+package edu.utec.cs3081.batch;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.events.GradingBatchEvent;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.io.CsvResultWriter;
+import edu.utec.cs3081.io.CsvRosterReader;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.validation.ValidationErrors;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Calcula las notas de un roster CSV fila por fila y escribe los resultados en otro CSV.
+ * Solo se mantiene en memoria el estudiante de la fila actual, por lo que el consumo de
+ * memoria es constante y el rendimiento en filas por segundo no depende del tamaño del archivo.
+ * Las filas inválidas se registran como filas de error sin detener el proceso; la lectura
+ * valida sin lanzar excepciones, de modo que un roster con muchas filas sucias no paga el
+ * costo de crear una excepción por cada valor inválido.
+ */
+public class CsvBatchGrader {
+
+    private final GradeCalculator calculator;
+
+    /**
+     * Constructor con la calculadora a utilizar.
+     *
+     * @param calculator calculadora de notas
+     */
+    public CsvBatchGrader(GradeCalculator calculator) {
+        if (calculator == null) {
+            throw new GradeCalculationException("La calculadora no puede ser nula");
+        }
+        this.calculator = calculator;
+    }
+
+    /**
+     * Procesa un archivo de roster y escribe el archivo de resultados.
+     *
+     * @param input ruta del roster CSV
+     * @param output ruta del archivo de resultados
+     * @param academicYear año académico para aplicar política de puntos extra
+     * @return resumen de la ejecución
+     * @throws IOException si falla la lectura o escritura
+     */
+    public BatchSummary run(Path input, Path output, int academicYear) throws IOException {
+        try (InputStream in = Files.newInputStream(input);
+             Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(output),
+                 StandardCharsets.UTF_8))) {
+            return run(new CsvRosterReader(in), new CsvResultWriter(out), academicYear);
+        }
+    }
+
+    /**
+     * Procesa todas las filas del lector y las escribe en el escritor.
+     *
+     * @param reader lector del roster
+     * @param writer escritor de resultados
+     * @param academicYear año académico para aplicar política de puntos extra
+     * @return resumen de la ejecución
+     * @throws IOException si falla la lectura o escritura
+     */
+    public BatchSummary run(CsvRosterReader reader, CsvResultWriter writer, int academicYear) throws IOException {
+        GradingBatchEvent event = new GradingBatchEvent();
+        event.begin();
+        long batchId = GradingBatchEvent.nextBatchId();
+        long start = System.nanoTime();
+        BatchProgress progress = new BatchProgress();
+        writer.writeHeader();
+        ValidationErrors errors = new ValidationErrors();
+        while (gradeNext(reader, writer, errors, academicYear, batchId, progress)) {
+            // cada iteración procesa una fila válida y las inválidas que la preceden
+        }
+        writer.flush();
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(batchId, GradingBatchEvent.KIND_CSV, progress.getRows(), progress.getFailed());
+            event.commit();
+        }
+        return progress.toSummary(System.nanoTime() - start);
+    }
+
+    /**
+     * Procesa la siguiente fila válida del lector: escribe como error cada fila inválida
+     * encontrada antes de ella y luego su resultado, o su error si no se puede calcular.
+     * Es el paso por fila de todos los procesadores CSV.
+     *
+     * @param reader lector del roster
+     * @param writer escritor de resultados
+     * @param errors registro reutilizable de errores de validación
+     * @param academicYear año académico para aplicar política de puntos extra
+     * @param batchId identificador del lote
+     * @param progress contadores del lote
+     * @return false si se llegó al final del roster
+     * @throws IOException si falla la lectura o escritura
+     */
+    boolean gradeNext(CsvRosterReader reader, CsvResultWriter writer, ValidationErrors errors,
+                      int academicYear, long batchId, BatchProgress progress) throws IOException {
+        Student student = reader.readStudent(errors);
+        int invalidRows = writeValidationErrors(errors, writer);
+        for (int i = 0; i < invalidRows; i++) {
+            progress.recordFailure();
+        }
+        if (student == null) {
+            return false;
+        }
+        try {
+            GradeResult result = calculator.calculateFinalGrade(student, academicYear, batchId);
+            writer.writeResult(result);
+            progress.recordResult(result);
+        } catch (RuntimeException e) {
+            writer.writeError(student.getCode(), e.getMessage());
+            progress.recordFailure();
+        }
+        return true;
+    }
+
+    /**
+     * Escribe una fila de error por cada línea inválida, con el código de estudiante de la fila
+     * y todos sus errores, y vacía el registro.
+     *
+     * @return cantidad de filas inválidas
+     */
+    static int writeValidationErrors(ValidationErrors errors, CsvResultWriter writer) throws IOException {
+        int rows = 0;
+        int i = 0;
+        while (i < errors.size()) {
+            StringBuilder message = new StringBuilder(errors.getMessage(i));
+            String studentCode = errors.getStudentCode(i);
+            long line = errors.getLine(i);
+            for (i++; i < errors.size() && errors.getLine(i) == line; i++) {
+                message.append("; ").append(errors.getMessage(i));
+            }
+            writer.writeError(studentCode, message.toString());
+            rows++;
+        }
+        errors.clear();
+        return rows;
+    }
+}
@@ -0,0 +1,185 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.events.GradingBatchEvent;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Student;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fachada asíncrona sobre {@link GradeCalculator}: cada cálculo se ejecuta en el
+ * {@link Executor} indicado y se entrega como {@link CompletableFuture}, de modo que el
+ * hilo que llama no queda bloqueado y puede encadenar lectura y escritura de resultados.
+ *
+ * <p>Cancelar un futuro (o que venza su plazo) evita el trabajo que aún no empezó: un
+ * cálculo individual no se ejecuta y un lote deja de procesar los estudiantes pendientes.
+ * Los errores de cálculo completan el futuro individual de forma excepcional; en los lotes
+ * se informan como {@link GradeOutcome} fallidos, igual que en
+ * {@link GradeCalculator#calculateAll(Collection, int)}.</p>
+ */
+public class AsyncGradeCalculator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final GradeCalculator calculator;
+    private final Executor executor;
+    private final int chunkSize;
+
+    /**
+     * Constructor con la calculadora y el ejecutor del llamador.
+     *
+     * @param calculator calculadora a utilizar
+     * @param executor ejecutor donde se realizan los cálculos
+     */
+    public AsyncGradeCalculator(GradeCalculator calculator, Executor executor) {
+        this(calculator, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor con tamaño de tarea para los lotes.
+     *
+     * @param calculator calculadora a utilizar
+     * @param executor ejecutor donde se realizan los cálculos
+     * @param chunkSize estudiantes calculados por cada tarea enviada al ejecutor
+     * @throws GradeCalculationException si algún argumento es nulo o el tamaño no es positivo
+     */
+    public AsyncGradeCalculator(GradeCalculator calculator, Executor executor, int chunkSize) {
+        if (calculator == null) {
+            throw new GradeCalculationException("La calculadora no puede ser nula");
+        }
+        if (executor == null) {
+            throw new GradeCalculationException("El ejecutor no puede ser nulo");
+        }
+        if (chunkSize <= 0) {
+            throw new GradeCalculationException("El tamaño de tarea debe ser mayor a cero");
+        }
+        this.calculator = calculator;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Calcula la nota final de un estudiante de forma asíncrona.
+     *
+     * @param student el estudiante con sus evaluaciones
+     * @param academicYear el año académico para aplicar política de puntos extra
+     * @return futuro con el resultado, o completado con la excepción del cálculo
+     */
+    public CompletableFuture<GradeResult> calculate(Student student, int academicYear) {
+        CompletableFuture<GradeResult> result = new CompletableFuture<>();
+        submit(result, () -> {
+            if (!result.isDone()) {
+                result.complete(calculator.calculateFinalGrade(student, academicYear));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Variante con plazo máximo; al vencer, el futuro se completa con
+     * {@link java.util.concurrent.TimeoutException}.
+     *
+     * @param student el estudiante con sus evaluaciones
+     * @param academicYear el año académico
+     * @param timeout plazo máximo
+     * @return futuro con el resultado
+     */
+    public CompletableFuture<GradeResult> calculate(Student student, int academicYear, Duration timeout) {
+        return calculate(student, academicYear).orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Calcula las notas de una cohorte en tareas de {@code chunkSize} estudiantes.
+     * El futuro se completa cuando terminan todas las tareas, con los resultados en el
+     * orden de la colección.
+     *
+     * @param students estudiantes a calcular
+     * @param academicYear el año académico
+     * @return futuro con un resultado por estudiante
+     * @throws GradeCalculationException si la colección es nula
+     */
+    public CompletableFuture<List<GradeOutcome>> calculateAll(Collection<Student> students, int academicYear) {
+        if (students == null) {
+            throw new GradeCalculationException("La colección de estudiantes no puede ser nula");
+        }
+        Student[] roster = students.toArray(new Student[0]);
+        GradeOutcome[] outcomes = new GradeOutcome[roster.length];
+        CompletableFuture<List<GradeOutcome>> result = new CompletableFuture<>();
+        if (roster.length == 0) {
+            result.complete(Collections.emptyList());
+            return result;
+        }
+        GradingBatchEvent event = new GradingBatchEvent();
+        event.begin();
+        long batchId = GradingBatchEvent.nextBatchId();
+        AtomicInteger pendingChunks = new AtomicInteger((roster.length + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < roster.length; from += chunkSize) {
+            int start = from;
+            int end = Math.min(roster.length, from + chunkSize);
+            submit(result, () -> {
+                for (int i = start; i < end && !result.isDone(); i++) {
+                    outcomes[i] = calculator.calculateOutcome(i, roster[i], academicYear, batchId);
+                }
+                if (pendingChunks.decrementAndGet() == 0 && !result.isDone()) {
+                    commit(event, batchId, outcomes);
+                    result.complete(Collections.unmodifiableList(Arrays.asList(outcomes)));
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Variante de lote con plazo máximo.
+     *
+     * @param students estudiantes a calcular
+     * @param academicYear el año académico
+     * @param timeout plazo máximo para todo el lote
+     * @return futuro con un resultado por estudiante
+     */
+    public CompletableFuture<List<GradeOutcome>> calculateAll(Collection<Student> students, int academicYear,
+                                                             Duration timeout) {
+        return calculateAll(students, academicYear).orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public GradeCalculator getCalculator() {
+        return calculator;
+    }
+
+    private void submit(CompletableFuture<?> result, Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static void commit(GradingBatchEvent event, long batchId, GradeOutcome[] outcomes) {
+        event.end();
+        if (event.shouldCommit()) {
+            long failures = 0;
+            for (GradeOutcome outcome : outcomes) {
+                if (!outcome.isSuccess()) {
+                    failures++;
+                }
+            }
+            event.set(batchId, GradingBatchEvent.KIND_ASYNC, outcomes.length, failures);
+            event.commit();
+        }
+    }
+}
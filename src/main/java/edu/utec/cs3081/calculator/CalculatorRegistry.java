@@ -0,0 +1,111 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.metrics.GradeMetrics;
+import edu.utec.cs3081.policy.AttendancePolicy;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import edu.utec.cs3081.policy.PolicyPipeline;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Calculadoras compartidas por configuración de años con puntos extra.
+ * Una {@link GradeCalculator} es inmutable y segura para uso concurrente, así que una
+ * misma instancia atiende todas las solicitudes con la misma lista de años (sin importar
+ * el orden o los duplicados) en lugar de construir políticas y pipeline en cada cálculo.
+ *
+ * <p>La cantidad de configuraciones almacenadas es acotada; superado el límite, las
+ * configuraciones nuevas se construyen sin almacenarse.</p>
+ */
+public class CalculatorRegistry {
+
+    public static final int DEFAULT_MAX_CONFIGURATIONS = 256;
+
+    private final int maxConfigurations;
+    private final GradeMetrics metrics;
+    private final ConcurrentMap<List<Integer>, GradeCalculator> calculators = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor con la capacidad por defecto y sin métricas.
+     */
+    public CalculatorRegistry() {
+        this(DEFAULT_MAX_CONFIGURATIONS, GradeMetrics.disabled());
+    }
+
+    /**
+     * Constructor con capacidad y registro de métricas compartido por todas las calculadoras.
+     *
+     * @param maxConfigurations número máximo de calculadoras almacenadas
+     * @param metrics registro de métricas
+     * @throws GradeCalculationException si la capacidad no es positiva o las métricas son nulas
+     */
+    public CalculatorRegistry(int maxConfigurations, GradeMetrics metrics) {
+        if (maxConfigurations <= 0) {
+            throw new GradeCalculationException("La capacidad del registro debe ser mayor a cero");
+        }
+        if (metrics == null) {
+            throw new GradeCalculationException("El registro de métricas no puede ser nulo");
+        }
+        this.maxConfigurations = maxConfigurations;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Calculadora con la política de asistencia estándar y puntos extra en los años indicados.
+     *
+     * @param yearsWithExtraPoints años con puntos extra; null equivale a ninguno
+     * @return calculadora compartida para esa configuración
+     */
+    public GradeCalculator forYears(List<Integer> yearsWithExtraPoints) {
+        List<Integer> key = normalize(yearsWithExtraPoints);
+        GradeCalculator calculator = calculators.get(key);
+        if (calculator != null) {
+            return calculator;
+        }
+        GradeCalculator created = create(key);
+        if (calculators.size() >= maxConfigurations) {
+            return created;
+        }
+        GradeCalculator existing = calculators.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Número de configuraciones almacenadas.
+     *
+     * @return cantidad de calculadoras compartidas
+     */
+    public int size() {
+        return calculators.size();
+    }
+
+    private GradeCalculator create(List<Integer> years) {
+        return new GradeCalculator(
+            PolicyPipeline.standard(new AttendancePolicy(), new ExtraPointsPolicy(years)), metrics);
+    }
+
+    private static List<Integer> normalize(List<Integer> years) {
+        if (years == null || years.isEmpty()) {
+            return List.of();
+        }
+        int[] values = new int[years.size()];
+        int count = 0;
+        for (Integer year : years) {
+            if (year != null) {
+                values[count++] = year;
+            }
+        }
+        Arrays.sort(values, 0, count);
+        Integer[] distinct = new Integer[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (size == 0 || distinct[size - 1] != values[i]) {
+                distinct[size++] = values[i];
+            }
+        }
+        return List.of(Arrays.copyOf(distinct, size));
+    }
+}
@@ -0,0 +1,48 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.model.Student;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Tarea fork-join que calcula las notas de un rango de estudiantes.
+ * Divide el rango por la mitad hasta llegar al umbral secuencial y escribe
+ * cada resultado en su misma posición, preservando el orden de entrada.
+ */
+class CohortGradingTask extends RecursiveAction {
+
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final GradeCalculator calculator;
+    private final Student[] students;
+    private final GradeOutcome[] outcomes;
+    private final int academicYear;
+    private final long batchId;
+    private final int from;
+    private final int to;
+
+    CohortGradingTask(GradeCalculator calculator, Student[] students, GradeOutcome[] outcomes,
+                      int academicYear, long batchId, int from, int to) {
+        this.calculator = calculator;
+        this.students = students;
+        this.outcomes = outcomes;
+        this.academicYear = academicYear;
+        this.batchId = batchId;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            for (int i = from; i < to; i++) {
+                outcomes[i] = calculator.calculateOutcome(i, students[i], academicYear, batchId);
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new CohortGradingTask(calculator, students, outcomes, academicYear, batchId, from, middle),
+            new CohortGradingTask(calculator, students, outcomes, academicYear, batchId, middle, to));
+    }
+}
@@ -0,0 +1,180 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.InvalidEvaluationException;
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+
+import java.util.Arrays;
+
+/**
+ * Cohorte almacenada en columnas (struct-of-arrays) de tipos primitivos.
+ * Las notas y pesos se guardan por posición de evaluación: {@code grades[slot][student]},
+ * de forma que los bucles de cálculo recorren memoria contigua y el JIT puede vectorizarlos.
+ * Las posiciones no usadas quedan con nota y peso 0, que no alteran las sumas.
+ */
+public class ColumnarCohort {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final int slots;
+    private String[] codes;
+    private boolean[] attendance;
+    private int[] evaluationCounts;
+    private double[][] grades;
+    private double[][] weights;
+    private int size;
+
+    /**
+     * Constructor con capacidad inicial por defecto.
+     */
+    public ColumnarCohort() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor con capacidad inicial.
+     *
+     * @param initialCapacity número de estudiantes esperado
+     */
+    public ColumnarCohort(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.slots = Student.getMaxEvaluations();
+        this.codes = new String[capacity];
+        this.attendance = new boolean[capacity];
+        this.evaluationCounts = new int[capacity];
+        this.grades = new double[slots][capacity];
+        this.weights = new double[slots][capacity];
+    }
+
+    /**
+     * Agrega un estudiante copiando sus evaluaciones a las columnas.
+     *
+     * @param student el estudiante
+     * @return posición asignada al estudiante
+     */
+    public int add(Student student) {
+        if (student == null) {
+            throw new InvalidStudentDataException("El estudiante no puede ser nulo");
+        }
+        int row = nextRow(student.getCode(), student.hasReachedMinimumClasses());
+        int slot = 0;
+        for (Evaluation evaluation : student.getEvaluations()) {
+            grades[slot][row] = evaluation.getGrade();
+            weights[slot][row] = evaluation.getWeight();
+            slot++;
+        }
+        evaluationCounts[row] = slot;
+        return row;
+    }
+
+    /**
+     * Agrega un estudiante a partir de arreglos primitivos, validando los mismos
+     * rangos que {@link Evaluation}.
+     *
+     * @param code código del estudiante
+     * @param hasReachedMinimumClasses si cumple asistencia mínima
+     * @param studentGrades notas de las evaluaciones
+     * @param studentWeights pesos de las evaluaciones
+     * @param count número de evaluaciones a tomar de los arreglos
+     * @return posición asignada al estudiante
+     */
+    public int add(String code, boolean hasReachedMinimumClasses,
+                   double[] studentGrades, double[] studentWeights, int count) {
+        if (count < 0 || count > slots) {
+            throw new InvalidStudentDataException(
+                String.format("No se pueden agregar más de %d evaluaciones", slots));
+        }
+        for (int i = 0; i < count; i++) {
+            validateEvaluation(studentGrades[i], studentWeights[i]);
+        }
+        int row = nextRow(code, hasReachedMinimumClasses);
+        for (int i = 0; i < count; i++) {
+            grades[i][row] = studentGrades[i];
+            weights[i][row] = studentWeights[i];
+        }
+        evaluationCounts[row] = count;
+        return row;
+    }
+
+    static void validateEvaluation(double grade, double weight) {
+        if (grade < Evaluation.MIN_GRADE || grade > Evaluation.MAX_GRADE) {
+            throw new InvalidEvaluationException(
+                String.format("La nota debe estar entre %.1f y %.1f. Valor recibido: %.2f",
+                    Evaluation.MIN_GRADE, Evaluation.MAX_GRADE, grade));
+        }
+        if (weight <= Evaluation.MIN_WEIGHT || weight > Evaluation.MAX_WEIGHT) {
+            throw new InvalidEvaluationException(
+                String.format("El peso debe estar entre %.1f (exclusivo) y %.1f. Valor recibido: %.2f",
+                    Evaluation.MIN_WEIGHT, Evaluation.MAX_WEIGHT, weight));
+        }
+    }
+
+    private int nextRow(String code, boolean hasReachedMinimumClasses) {
+        if (code == null || code.isBlank()) {
+            throw new InvalidStudentDataException("El código del estudiante no puede ser nulo o vacío");
+        }
+        if (size == codes.length) {
+            grow();
+        }
+        int row = size++;
+        codes[row] = code;
+        attendance[row] = hasReachedMinimumClasses;
+        return row;
+    }
+
+    private void grow() {
+        int capacity = codes.length * 2;
+        codes = Arrays.copyOf(codes, capacity);
+        attendance = Arrays.copyOf(attendance, capacity);
+        evaluationCounts = Arrays.copyOf(evaluationCounts, capacity);
+        for (int slot = 0; slot < slots; slot++) {
+            grades[slot] = Arrays.copyOf(grades[slot], capacity);
+            weights[slot] = Arrays.copyOf(weights[slot], capacity);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    public String getCode(int row) {
+        return codes[row];
+    }
+
+    public boolean hasReachedMinimumClasses(int row) {
+        return attendance[row];
+    }
+
+    public int getEvaluationCount(int row) {
+        return evaluationCounts[row];
+    }
+
+    public double getGrade(int row, int slot) {
+        return grades[slot][row];
+    }
+
+    public double getWeight(int row, int slot) {
+        return weights[slot][row];
+    }
+
+    boolean[] attendanceColumn() {
+        return attendance;
+    }
+
+    int[] evaluationCountColumn() {
+        return evaluationCounts;
+    }
+
+    double[] gradeColumn(int slot) {
+        return grades[slot];
+    }
+
+    double[] weightColumn(int slot) {
+        return weights[slot];
+    }
+}
@@ -0,0 +1,154 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.StudentRecord;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+
+/**
+ * Motor de cálculo de notas sobre una {@link ColumnarCohort}.
+ * Aplica las mismas reglas que {@link GradeCalculator} (validación de pesos, promedio
+ * ponderado, asistencia mínima y puntos extra con tope) mediante bucles planos sobre
+ * arreglos primitivos. Las sumas se acumulan en el mismo orden que GradeCalculator,
+ * por lo que los resultados son idénticos bit a bit.
+ */
+public class ColumnarGradeEngine {
+
+    private final ExtraPointsPolicy extraPointsPolicy;
+
+    /**
+     * Constructor con política de puntos extra.
+     *
+     * @param extraPointsPolicy política de puntos extra (puede ser null)
+     */
+    public ColumnarGradeEngine(ExtraPointsPolicy extraPointsPolicy) {
+        this.extraPointsPolicy = extraPointsPolicy;
+    }
+
+    /**
+     * Constructor por defecto sin puntos extra.
+     */
+    public ColumnarGradeEngine() {
+        this(null);
+    }
+
+    /**
+     * Calcula las notas finales de toda la cohorte.
+     *
+     * @param cohort la cohorte en formato columnar
+     * @param academicYear el año académico para aplicar política de puntos extra
+     * @return resultados en formato columnar
+     */
+    public ColumnarResults calculateAll(ColumnarCohort cohort, int academicYear) {
+        if (cohort == null) {
+            throw new GradeCalculationException("La cohorte no puede ser nula");
+        }
+        int size = cohort.size();
+        double[] weightedSums = new double[size];
+        double[] totalWeights = new double[size];
+
+        for (int slot = 0; slot < cohort.getSlots(); slot++) {
+            accumulate(cohort.gradeColumn(slot), cohort.weightColumn(slot), weightedSums, totalWeights, size);
+        }
+
+        double[] extraPoints = new double[size];
+        double[] finalGrades = new double[size];
+        byte[] statuses = new byte[size];
+        classify(cohort, totalWeights, statuses, size);
+        applyAttendance(cohort.attendanceColumn(), weightedSums, finalGrades, statuses, size);
+        if (extraPointsPolicy != null && extraPointsPolicy.hasExtraPoints(academicYear)) {
+            applyExtraPoints(extraPointsPolicy.getExtraPointsForYear(academicYear),
+                weightedSums, finalGrades, extraPoints, statuses, size);
+        }
+        return new ColumnarResults(size, weightedSums, extraPoints, finalGrades, statuses);
+    }
+
+    /**
+     * Calcula las notas finales de una cohorte fuera del heap leyendo cada registro en su
+     * lugar, sin crear estudiantes. Usa las sumas acumuladas de cada registro, que siguen el
+     * mismo orden que {@link edu.utec.cs3081.model.Student}, por lo que los resultados son
+     * idénticos bit a bit a los de {@link GradeCalculator}.
+     *
+     * @param cohort la cohorte fuera del heap
+     * @param academicYear el año académico para aplicar política de puntos extra
+     * @return resultados en formato columnar
+     */
+    public ColumnarResults calculateAll(OffHeapCohort cohort, int academicYear) {
+        if (cohort == null) {
+            throw new GradeCalculationException("La cohorte no puede ser nula");
+        }
+        int size = cohort.size();
+        double[] weightedSums = new double[size];
+        double[] extraPoints = new double[size];
+        double[] finalGrades = new double[size];
+        byte[] statuses = new byte[size];
+        boolean hasBonus = extraPointsPolicy != null && extraPointsPolicy.hasExtraPoints(academicYear);
+        double bonus = hasBonus ? extraPointsPolicy.getExtraPointsForYear(academicYear) : 0.0;
+        for (int row = 0; row < size; row++) {
+            double weightedSum = cohort.getWeightedGradeSum(row);
+            weightedSums[row] = weightedSum;
+            if (cohort.getEvaluationCount(row) == 0) {
+                statuses[row] = (byte) ColumnarResults.Status.NO_EVALUATIONS.ordinal();
+                finalGrades[row] = Double.NaN;
+            } else if (!StudentRecord.isValidTotalWeight(cohort.getTotalWeight(row))) {
+                statuses[row] = (byte) ColumnarResults.Status.INVALID_WEIGHTS.ordinal();
+                finalGrades[row] = Double.NaN;
+            } else if (!cohort.hasReachedMinimumClasses(row)) {
+                statuses[row] = (byte) ColumnarResults.Status.PENALIZED_BY_ATTENDANCE.ordinal();
+            } else if (hasBonus) {
+                double grade = Math.min(weightedSum + bonus, Evaluation.MAX_GRADE);
+                finalGrades[row] = grade;
+                extraPoints[row] = grade - weightedSum;
+            } else {
+                finalGrades[row] = weightedSum;
+            }
+        }
+        return new ColumnarResults(size, weightedSums, extraPoints, finalGrades, statuses);
+    }
+
+    private static void accumulate(double[] grades, double[] weights,
+                                   double[] weightedSums, double[] totalWeights, int size) {
+        for (int i = 0; i < size; i++) {
+            weightedSums[i] += grades[i] * weights[i];
+            totalWeights[i] += weights[i];
+        }
+    }
+
+    private static void classify(ColumnarCohort cohort, double[] totalWeights, byte[] statuses, int size) {
+        int[] counts = cohort.evaluationCountColumn();
+        for (int i = 0; i < size; i++) {
+            if (counts[i] == 0) {
+                statuses[i] = (byte) ColumnarResults.Status.NO_EVALUATIONS.ordinal();
+            } else if (!StudentRecord.isValidTotalWeight(totalWeights[i])) {
+                statuses[i] = (byte) ColumnarResults.Status.INVALID_WEIGHTS.ordinal();
+            }
+        }
+    }
+
+    private static void applyAttendance(boolean[] attendance, double[] weightedSums,
+                                        double[] finalGrades, byte[] statuses, int size) {
+        byte graded = (byte) ColumnarResults.Status.GRADED.ordinal();
+        byte penalized = (byte) ColumnarResults.Status.PENALIZED_BY_ATTENDANCE.ordinal();
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] != graded) {
+                finalGrades[i] = Double.NaN;
+            } else if (attendance[i]) {
+                finalGrades[i] = weightedSums[i];
+            } else {
+                statuses[i] = penalized;
+            }
+        }
+    }
+
+    private static void applyExtraPoints(double bonus, double[] weightedSums, double[] finalGrades,
+                                         double[] extraPoints, byte[] statuses, int size) {
+        byte graded = (byte) ColumnarResults.Status.GRADED.ordinal();
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] == graded) {
+                double grade = Math.min(weightedSums[i] + bonus, Evaluation.MAX_GRADE);
+                finalGrades[i] = grade;
+                extraPoints[i] = grade - weightedSums[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package edu.utec.cs3081.calculator;
+
+/**
+ * Resultados del motor columnar, también almacenados como arreglos primitivos.
+ * La posición i corresponde a la posición i de la {@link ColumnarCohort} calculada.
+ */
+public class ColumnarResults {
+
+    /**
+     * Estado del cálculo de cada estudiante.
+     */
+    public enum Status {
+        GRADED,
+        PENALIZED_BY_ATTENDANCE,
+        NO_EVALUATIONS,
+        INVALID_WEIGHTS
+    }
+
+    private static final Status[] STATUSES = Status.values();
+
+    private final int size;
+    private final double[] weightedAverages;
+    private final double[] extraPointsApplied;
+    private final double[] finalGrades;
+    private final byte[] statuses;
+
+    ColumnarResults(int size, double[] weightedAverages, double[] extraPointsApplied,
+                    double[] finalGrades, byte[] statuses) {
+        this.size = size;
+        this.weightedAverages = weightedAverages;
+        this.extraPointsApplied = extraPointsApplied;
+        this.finalGrades = finalGrades;
+        this.statuses = statuses;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getWeightedAverage(int row) {
+        return weightedAverages[row];
+    }
+
+    public double getExtraPointsApplied(int row) {
+        return extraPointsApplied[row];
+    }
+
+    /**
+     * Obtiene la nota final; es NaN cuando el estudiante no pudo calcularse.
+     *
+     * @param row posición del estudiante
+     * @return nota final
+     */
+    public double getFinalGrade(int row) {
+        return finalGrades[row];
+    }
+
+    public Status getStatus(int row) {
+        return STATUSES[statuses[row]];
+    }
+
+    public boolean isValid(int row) {
+        return statuses[row] <= Status.PENALIZED_BY_ATTENDANCE.ordinal();
+    }
+
+    public boolean isPenalizedByAttendance(int row) {
+        return statuses[row] == Status.PENALIZED_BY_ATTENDANCE.ordinal();
+    }
+}
@@ -1,25 +1,40 @@
 package edu.utec.cs3081.calculator;
 
+import edu.utec.cs3081.events.GradeCalculationEvent;
+import edu.utec.cs3081.events.GradingBatchEvent;
 import edu.utec.cs3081.exception.GradeCalculationException;
-import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.metrics.GradeMetrics;
+import edu.utec.cs3081.metrics.LatencyHistogram;
 import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.model.StudentRecord;
 import edu.utec.cs3081.policy.AttendancePolicy;
 import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import edu.utec.cs3081.policy.GradeContext;
+import edu.utec.cs3081.policy.PolicyPipeline;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Calculadora de nota final para estudiantes de UTEC.
  * Implementa RF04: cálculo de nota final considerando evaluaciones,
  * asistencia mínima y políticas de puntos extra.
+ *
+ * <p>Las políticas se aplican mediante un {@link PolicyPipeline} que se arma una sola vez
+ * al construir la calculadora.</p>
  */
 public class GradeCalculator {
     
-    private static final double WEIGHT_TOLERANCE = 0.001;
-    private static final double EXPECTED_TOTAL_WEIGHT = 1.0;
-    
-    private final AttendancePolicy attendancePolicy;
-    private final ExtraPointsPolicy extraPointsPolicy;
+    private final PolicyPipeline pipeline;
+    private final GradeMetrics metrics;
+    private final LatencyHistogram validationLatency;
+    private final LatencyHistogram averagingLatency;
+    private final LatencyHistogram[] stageLatencies;
+    private final LatencyHistogram resultBuildLatency;
+    private final LatencyHistogram totalLatency;
 
     /**
      * Constructor con políticas personalizadas.
@@ -28,8 +43,54 @@ public class GradeCalculator {
      * @param extraPointsPolicy política de puntos extra
      */
     public GradeCalculator(AttendancePolicy attendancePolicy, ExtraPointsPolicy extraPointsPolicy) {
-        this.attendancePolicy = attendancePolicy != null ? attendancePolicy : new AttendancePolicy();
-        this.extraPointsPolicy = extraPointsPolicy;
+        this(PolicyPipeline.standard(
+            attendancePolicy != null ? attendancePolicy : new AttendancePolicy(), extraPointsPolicy));
+    }
+
+    /**
+     * Constructor con un pipeline de políticas propio del curso.
+     *
+     * @param pipeline políticas a aplicar, en orden, sobre el promedio ponderado
+     * @throws GradeCalculationException si el pipeline es nulo
+     */
+    public GradeCalculator(PolicyPipeline pipeline) {
+        this(pipeline, GradeMetrics.disabled());
+    }
+
+    /**
+     * Constructor con pipeline de políticas y registro de métricas. Con métricas habilitadas
+     * se mide la latencia de cada etapa (validación, promedio, cada política y construcción
+     * del resultado) y se cuentan los desenlaces.
+     *
+     * @param pipeline políticas a aplicar, en orden, sobre el promedio ponderado
+     * @param metrics registro de métricas compartido
+     * @throws GradeCalculationException si el pipeline o las métricas son nulos
+     */
+    public GradeCalculator(PolicyPipeline pipeline, GradeMetrics metrics) {
+        if (pipeline == null) {
+            throw new GradeCalculationException("El pipeline de políticas no puede ser nulo");
+        }
+        if (metrics == null) {
+            throw new GradeCalculationException("El registro de métricas no puede ser nulo");
+        }
+        this.pipeline = pipeline;
+        this.metrics = metrics;
+        if (metrics.isEnabled()) {
+            this.validationLatency = metrics.histogram(GradeMetrics.VALIDATION);
+            this.averagingLatency = metrics.histogram(GradeMetrics.AVERAGING);
+            this.stageLatencies = new LatencyHistogram[pipeline.size()];
+            for (int i = 0; i < stageLatencies.length; i++) {
+                stageLatencies[i] = metrics.histogram(pipeline.getStages().get(i).getName());
+            }
+            this.resultBuildLatency = metrics.histogram(GradeMetrics.RESULT_BUILD);
+            this.totalLatency = metrics.histogram(GradeMetrics.TOTAL);
+        } else {
+            this.validationLatency = null;
+            this.averagingLatency = null;
+            this.stageLatencies = null;
+            this.resultBuildLatency = null;
+            this.totalLatency = null;
+        }
     }
 
     /**
@@ -51,38 +112,115 @@ public class GradeCalculator {
     /**
      * Calcula la nota final de un estudiante para un año académico.
      * El cálculo es determinista: mismos datos producen misma nota (RNF03).
+     * Usa las sumas acumuladas del estudiante; si está sellado, no vuelve a validarlo.
      * 
      * @param student el estudiante con sus evaluaciones
      * @param academicYear el año académico para aplicar política de puntos extra
      * @return GradeResult con la nota final y detalles del cálculo
      * @throws GradeCalculationException si hay error en el cálculo
      */
-    public GradeResult calculateFinalGrade(Student student, int academicYear) {
-        validateStudent(student);
-        validateWeights(student.getEvaluations());
+    public GradeResult calculateFinalGrade(StudentRecord student, int academicYear) {
+        return calculateFinalGrade(student, academicYear, GradeCalculationEvent.NO_BATCH);
+    }
 
-        double weightedAverage = calculateWeightedAverage(student.getEvaluations());
-        boolean meetsAttendance = attendancePolicy.meetsMinimumAttendance(student);
-        String attendanceDetail = attendancePolicy.getPolicyDescription(student);
+    /**
+     * Calcula la nota final dentro de un lote. El identificador de lote solo se usa para
+     * correlacionar los eventos de JFR ({@link GradeCalculationEvent}) con su lote.
+     *
+     * @param student el estudiante con sus evaluaciones
+     * @param academicYear el año académico para aplicar política de puntos extra
+     * @param batchId identificador del lote ({@link GradingBatchEvent#nextBatchId()})
+     * @return GradeResult con la nota final y detalles del cálculo
+     * @throws GradeCalculationException si hay error en el cálculo
+     */
+    public GradeResult calculateFinalGrade(StudentRecord student, int academicYear, long batchId) {
+        GradeCalculationEvent event = new GradeCalculationEvent();
+        event.begin();
+        GradeResult result = null;
+        try {
+            result = metrics.isEnabled()
+                ? calculateMeasured(student, academicYear)
+                : calculateUnmeasured(student, academicYear);
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(student != null ? student.getCode() : null,
+                    student != null ? student.getEvaluationCount() : 0, academicYear, batchId,
+                    result != null
+                        ? GradeCalculationEvent.outcomeOf(result.isPenalizedByAttendance(), result.getExtraPointsApplied())
+                        : GradeCalculationEvent.OUTCOME_ERROR,
+                    result != null ? result.getFinalGrade() : Double.NaN);
+                event.commit();
+            }
+        }
+    }
 
-        if (!meetsAttendance) {
-            return buildResultForNoAttendance(student, weightedAverage, attendanceDetail, academicYear);
+    private GradeResult calculateUnmeasured(StudentRecord student, int academicYear) {
+        if (student == null || !student.isSealed()) {
+            validateStudent(student);
+            validateTotalWeight(student.getTotalWeight());
         }
+        return buildResult(student, student.getWeightedGradeSum(), academicYear);
+    }
 
-        double gradeWithExtra = applyExtraPoints(weightedAverage, academicYear);
-        double extraPointsApplied = gradeWithExtra - weightedAverage;
-        String extraPointsDetail = getExtraPointsDetail(academicYear);
+    /**
+     * Mismo cálculo que {@link #calculateFinalGrade(StudentRecord, int)}, midiendo cada etapa.
+     */
+    private GradeResult calculateMeasured(StudentRecord student, int academicYear) {
+        long start = System.nanoTime();
+        try {
+            if (student == null || !student.isSealed()) {
+                validateStudent(student);
+                validateTotalWeight(student.getTotalWeight());
+            }
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        long validated = System.nanoTime();
+        validationLatency.record(validated - start);
 
+        double weightedAverage = student.getWeightedGradeSum();
+        long averaged = System.nanoTime();
+        averagingLatency.record(averaged - validated);
+
+        GradeContext context = new GradeContext(student, academicYear, weightedAverage);
+        long stageStart = averaged;
+        for (int i = 0; i < stageLatencies.length && !context.isStopped(); i++) {
+            pipeline.applyStage(i, context);
+            long stageEnd = System.nanoTime();
+            stageLatencies[i].record(stageEnd - stageStart);
+            stageStart = stageEnd;
+        }
+
+        GradeResult result = toResult(student, weightedAverage, context);
+        long end = System.nanoTime();
+        resultBuildLatency.record(end - stageStart);
+        totalLatency.record(end - start);
+        metrics.recordGraded(result.isPenalizedByAttendance(), result.getExtraPointsApplied() > 0);
+        return result;
+    }
+
+    /**
+     * Construye el resultado a partir de un promedio ponderado ya calculado y validado.
+     */
+    GradeResult buildResult(StudentRecord student, double weightedAverage, int academicYear) {
+        return toResult(student, weightedAverage, applyPolicies(student, weightedAverage, academicYear));
+    }
+
+    private GradeResult toResult(StudentRecord student, double weightedAverage, GradeContext context) {
         return new GradeResult.Builder()
             .studentCode(student.getCode())
             .evaluations(student.getEvaluations())
             .weightedAverage(weightedAverage)
-            .meetsAttendance(true)
-            .penalizedByAttendance(false)
-            .attendanceDetail(attendanceDetail)
-            .extraPointsApplied(extraPointsApplied)
-            .extraPointsDetail(extraPointsDetail)
-            .finalGrade(gradeWithExtra)
+            .meetsAttendance(context.isMeetsAttendance())
+            .penalizedByAttendance(context.isPenalizedByAttendance())
+            .attendanceDetail(context.getAttendanceDetail())
+            .extraPointsApplied(context.getExtraPointsApplied())
+            .extraPointsDetail(context.getExtraPointsDetail())
+            .adjustmentDetail(context.getAdjustmentDetail())
+            .finalGrade(context.getGrade())
             .build();
     }
 
@@ -92,62 +230,118 @@ public class GradeCalculator {
      * @param student el estudiante con sus evaluaciones
      * @return GradeResult con la nota final y detalles
      */
-    public GradeResult calculateFinalGrade(Student student) {
+    public GradeResult calculateFinalGrade(StudentRecord student) {
         return calculateFinalGrade(student, 0);
     }
 
-    private void validateStudent(Student student) {
-        if (student == null) {
-            throw new GradeCalculationException("El estudiante no puede ser nulo");
+    /**
+     * Calcula la nota final de toda una cohorte en paralelo usando el pool común de fork-join.
+     * Cada estudiante se procesa de forma aislada: si su cálculo falla, el error queda
+     * registrado en su GradeOutcome y el resto del lote continúa.
+     *
+     * @param students los estudiantes de la cohorte
+     * @param academicYear el año académico para aplicar política de puntos extra
+     * @return lista inmutable de resultados en el mismo orden que la entrada
+     * @throws GradeCalculationException si la colección es nula
+     */
+    public List<GradeOutcome> calculateAll(Collection<Student> students, int academicYear) {
+        return calculateAll(students, academicYear, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calcula la nota final de toda una cohorte en paralelo usando el pool indicado.
+     *
+     * @param students los estudiantes de la cohorte
+     * @param academicYear el año académico para aplicar política de puntos extra
+     * @param pool pool de fork-join donde se ejecuta el cálculo
+     * @return lista inmutable de resultados en el mismo orden que la entrada
+     * @throws GradeCalculationException si la colección o el pool son nulos
+     */
+    public List<GradeOutcome> calculateAll(Collection<Student> students, int academicYear, ForkJoinPool pool) {
+        if (students == null) {
+            throw new GradeCalculationException("La colección de estudiantes no puede ser nula");
         }
-        if (student.getEvaluations().isEmpty()) {
-            throw new GradeCalculationException("El estudiante debe tener al menos una evaluación");
+        if (pool == null) {
+            throw new GradeCalculationException("El pool de ejecución no puede ser nulo");
+        }
+        GradingBatchEvent event = new GradingBatchEvent();
+        event.begin();
+        long batchId = GradingBatchEvent.nextBatchId();
+        Student[] roster = students.toArray(new Student[0]);
+        GradeOutcome[] outcomes = new GradeOutcome[roster.length];
+        if (roster.length > 0) {
+            pool.invoke(new CohortGradingTask(this, roster, outcomes, academicYear, batchId, 0, roster.length));
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            long failures = 0;
+            for (GradeOutcome outcome : outcomes) {
+                if (!outcome.isSuccess()) {
+                    failures++;
+                }
+            }
+            event.set(batchId, GradingBatchEvent.KIND_COHORT, roster.length, failures);
+            event.commit();
         }
+        return Collections.unmodifiableList(Arrays.asList(outcomes));
     }
 
-    private void validateWeights(List<Evaluation> evaluations) {
-        double totalWeight = evaluations.stream()
-            .mapToDouble(Evaluation::getWeight)
-            .sum();
-        
-        if (Math.abs(totalWeight - EXPECTED_TOTAL_WEIGHT) > WEIGHT_TOLERANCE) {
-            throw new GradeCalculationException(
-                String.format("La suma de pesos debe ser 1.0 (100%%). Suma actual: %.2f", totalWeight));
-        }
+    public GradeMetrics getMetrics() {
+        return metrics;
     }
 
-    private double calculateWeightedAverage(List<Evaluation> evaluations) {
-        return evaluations.stream()
-            .mapToDouble(Evaluation::getWeightedGrade)
-            .sum();
+    /**
+     * Configuración de políticas con igualdad por valor: dos calculadoras con políticas
+     * equivalentes producen los mismos resultados.
+     */
+    PolicyPipeline policyConfiguration() {
+        return pipeline;
     }
 
-    private double applyExtraPoints(double grade, int academicYear) {
-        if (extraPointsPolicy == null) {
-            return grade;
+    /**
+     * Huella de la configuración de políticas. Las políticas del proyecto tienen hash por
+     * valor y estable entre ejecuciones, de modo que sirve para comprobar que un cálculo
+     * guardado se retoma con la misma configuración.
+     *
+     * @return hash de la configuración de políticas
+     */
+    public int policyConfigurationHash() {
+        return pipeline.hashCode();
+    }
+
+    GradeOutcome calculateOutcome(int index, Student student, int academicYear, long batchId) {
+        try {
+            return GradeOutcome.success(index, calculateFinalGrade(student, academicYear, batchId));
+        } catch (RuntimeException e) {
+            return GradeOutcome.failure(index, student != null ? student.getCode() : null, e);
         }
-        return extraPointsPolicy.applyExtraPoints(grade, academicYear);
     }
 
-    private String getExtraPointsDetail(int academicYear) {
-        if (extraPointsPolicy == null) {
-            return "No configurada política de puntos extra";
+    void validateStudent(StudentRecord student) {
+        if (student == null) {
+            throw new GradeCalculationException("El estudiante no puede ser nulo");
+        }
+        if (student.getEvaluationCount() == 0) {
+            throw new GradeCalculationException("El estudiante debe tener al menos una evaluación");
         }
-        return extraPointsPolicy.getPolicyDescription(academicYear);
     }
 
-    private GradeResult buildResultForNoAttendance(Student student, double weightedAverage, 
-                                                    String attendanceDetail, int academicYear) {
-        return new GradeResult.Builder()
-            .studentCode(student.getCode())
-            .evaluations(student.getEvaluations())
-            .weightedAverage(weightedAverage)
-            .meetsAttendance(false)
-            .penalizedByAttendance(true)
-            .attendanceDetail(attendanceDetail)
-            .extraPointsApplied(0)
-            .extraPointsDetail("No aplica (penalizado por asistencia)")
-            .finalGrade(0.0)
-            .build();
+    void validateTotalWeight(double totalWeight) {
+        if (!StudentRecord.isValidTotalWeight(totalWeight)) {
+            throw new GradeCalculationException(StudentRecord.describeInvalidTotalWeight(totalWeight));
+        }
+    }
+
+    /**
+     * Resuelve la nota final a partir del promedio ponderado sin construir el resultado.
+     */
+    double resolveFinalGrade(StudentRecord student, double weightedAverage, int academicYear) {
+        return applyPolicies(student, weightedAverage, academicYear).getGrade();
+    }
+
+    private GradeContext applyPolicies(StudentRecord student, double weightedAverage, int academicYear) {
+        GradeContext context = new GradeContext(student, academicYear, weightedAverage);
+        pipeline.apply(context);
+        return context;
     }
 }
@@ -0,0 +1,72 @@
+package edu.utec.cs3081.calculator;
+
+/**
+ * Resultado individual de un cálculo masivo de notas.
+ * Contiene el GradeResult del estudiante o el error que impidió calcularlo,
+ * de modo que un estudiante con datos inválidos no detiene el lote completo.
+ */
+public final class GradeOutcome {
+
+    private final int index;
+    private final String studentCode;
+    private final GradeResult result;
+    private final RuntimeException error;
+
+    private GradeOutcome(int index, String studentCode, GradeResult result, RuntimeException error) {
+        this.index = index;
+        this.studentCode = studentCode;
+        this.result = result;
+        this.error = error;
+    }
+
+    /**
+     * Crea un resultado exitoso.
+     *
+     * @param index posición del estudiante en la entrada
+     * @param result resultado del cálculo
+     * @return resultado exitoso
+     */
+    public static GradeOutcome success(int index, GradeResult result) {
+        return new GradeOutcome(index, result.getStudentCode(), result, null);
+    }
+
+    /**
+     * Crea un resultado fallido.
+     *
+     * @param index posición del estudiante en la entrada
+     * @param studentCode código del estudiante (puede ser null si el estudiante era nulo)
+     * @param error error producido durante el cálculo
+     * @return resultado fallido
+     */
+    public static GradeOutcome failure(int index, String studentCode, RuntimeException error) {
+        return new GradeOutcome(index, studentCode, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getStudentCode() {
+        return studentCode;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public GradeResult getResult() {
+        return result;
+    }
+
+    public RuntimeException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        if (isSuccess()) {
+            return String.format("GradeOutcome[#%d, %s]", index, result);
+        }
+        return String.format("GradeOutcome[#%d, student=%s, error=%s]", index, studentCode, error.getMessage());
+    }
+}
@@ -1,7 +1,10 @@
 package edu.utec.cs3081.calculator;
 
 import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.util.FixedDecimalFormat;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -9,6 +12,10 @@ import java.util.List;
  * Cumple con RF05: mostrar detalle del cálculo.
  */
 public class GradeResult {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final int REPORT_BASE_CAPACITY = 512;
+    private static final int REPORT_LINE_CAPACITY = 48;
     
     private final String studentCode;
     private final double weightedAverage;
@@ -19,6 +26,7 @@ public class GradeResult {
     private final List<Evaluation> evaluations;
     private final String attendanceDetail;
     private final String extraPointsDetail;
+    private final String adjustmentDetail;
 
     private GradeResult(Builder builder) {
         this.studentCode = builder.studentCode;
@@ -30,6 +38,7 @@ public class GradeResult {
         this.evaluations = builder.evaluations;
         this.attendanceDetail = builder.attendanceDetail;
         this.extraPointsDetail = builder.extraPointsDetail;
+        this.adjustmentDetail = builder.adjustmentDetail;
     }
 
     public String getStudentCode() {
@@ -68,37 +77,92 @@ public class GradeResult {
         return extraPointsDetail;
     }
 
+    /**
+     * Ajustes de las políticas del curso sobre la nota (topes, mínimos exigidos).
+     *
+     * @return el detalle, o null si la nota no fue ajustada
+     */
+    public String getAdjustmentDetail() {
+        return adjustmentDetail;
+    }
+
     /**
      * Genera el reporte detallado del cálculo.
      * 
      * @return String con el detalle completo del cálculo
      */
     public String getDetailedReport() {
-        StringBuilder report = new StringBuilder();
-        report.append("═══════════════════════════════════════════\n");
-        report.append("       DETALLE DE CÁLCULO DE NOTA FINAL    \n");
-        report.append("═══════════════════════════════════════════\n");
-        report.append(String.format("Estudiante: %s%n", studentCode));
-        report.append("───────────────────────────────────────────\n");
-        
-        report.append("EVALUACIONES:\n");
-        for (Evaluation eval : evaluations) {
-            report.append(String.format("  • %s: %.2f × %.0f%% = %.2f%n", 
-                eval.getName(), eval.getGrade(), eval.getWeight() * 100, eval.getWeightedGrade()));
+        StringBuilder report = new StringBuilder(REPORT_BASE_CAPACITY + REPORT_LINE_CAPACITY * evaluations.size());
+        try {
+            writeDetailedReport(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        
-        report.append("───────────────────────────────────────────\n");
-        report.append(String.format("Promedio ponderado: %.2f%n", weightedAverage));
-        report.append(String.format("Asistencia: %s%n", attendanceDetail));
-        report.append(String.format("Puntos extra: %s%n", extraPointsDetail));
-        
-        report.append("═══════════════════════════════════════════\n");
-        report.append(String.format("NOTA FINAL: %.2f%n", finalGrade));
-        report.append("═══════════════════════════════════════════\n");
-        
         return report.toString();
     }
 
+    /**
+     * Escribe el reporte detallado directamente en el destino, sin construir el texto
+     * completo en memoria. El contenido es idéntico al de {@link #getDetailedReport()}.
+     *
+     * @param out destino del reporte (Writer, PrintStream, StringBuilder, CharBuffer...)
+     * @throws IOException si falla la escritura
+     */
+    public void writeDetailedReport(Appendable out) throws IOException {
+        char separator = FixedDecimalFormat.defaultDecimalSeparator();
+        out.append("═══════════════════════════════════════════\n");
+        out.append("       DETALLE DE CÁLCULO DE NOTA FINAL    \n");
+        out.append("═══════════════════════════════════════════\n");
+        out.append("Estudiante: ").append(studentCode).append(LINE_SEPARATOR);
+        out.append("───────────────────────────────────────────\n");
+
+        out.append("EVALUACIONES:\n");
+        for (Evaluation eval : evaluations) {
+            out.append("  • ").append(eval.getName()).append(": ");
+            FixedDecimalFormat.append(out, eval.getGrade(), 2, separator);
+            out.append(" × ");
+            FixedDecimalFormat.append(out, eval.getWeight() * 100, 0, separator);
+            out.append("% = ");
+            FixedDecimalFormat.append(out, eval.getWeightedGrade(), 2, separator);
+            out.append(LINE_SEPARATOR);
+        }
+
+        out.append("───────────────────────────────────────────\n");
+        out.append("Promedio ponderado: ");
+        FixedDecimalFormat.append(out, weightedAverage, 2, separator);
+        out.append(LINE_SEPARATOR);
+        out.append("Asistencia: ").append(attendanceDetail).append(LINE_SEPARATOR);
+        out.append("Puntos extra: ").append(extraPointsDetail).append(LINE_SEPARATOR);
+        if (adjustmentDetail != null) {
+            out.append("Ajustes: ").append(adjustmentDetail).append(LINE_SEPARATOR);
+        }
+
+        out.append("═══════════════════════════════════════════\n");
+        out.append("NOTA FINAL: ");
+        FixedDecimalFormat.append(out, finalGrade, 2, separator);
+        out.append(LINE_SEPARATOR);
+        out.append("═══════════════════════════════════════════\n");
+    }
+
+    /**
+     * Copia del resultado con la lista de evaluaciones congelada, para poder conservarlo
+     * aunque el estudiante original siga cambiando.
+     */
+    GradeResult snapshot() {
+        return new Builder()
+            .studentCode(studentCode)
+            .evaluations(List.copyOf(evaluations))
+            .weightedAverage(weightedAverage)
+            .meetsAttendance(meetsAttendance)
+            .penalizedByAttendance(penalizedByAttendance)
+            .attendanceDetail(attendanceDetail)
+            .extraPointsApplied(extraPointsApplied)
+            .extraPointsDetail(extraPointsDetail)
+            .adjustmentDetail(adjustmentDetail)
+            .finalGrade(finalGrade)
+            .build();
+    }
+
     @Override
     public String toString() {
         return String.format("GradeResult[student=%s, final=%.2f]", studentCode, finalGrade);
@@ -117,6 +181,7 @@ public class GradeResult {
         private List<Evaluation> evaluations;
         private String attendanceDetail;
         private String extraPointsDetail;
+        private String adjustmentDetail;
 
         public Builder studentCode(String studentCode) {
             this.studentCode = studentCode;
@@ -163,6 +228,11 @@ public class GradeResult {
             return this;
         }
 
+        public Builder adjustmentDetail(String adjustmentDetail) {
+            this.adjustmentDetail = adjustmentDetail;
+            return this;
+        }
+
         public GradeResult build() {
             return new GradeResult(this);
         }
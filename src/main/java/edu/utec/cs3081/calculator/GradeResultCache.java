@@ -0,0 +1,182 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.PolicyPipeline;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché acotada de resultados de
+ * {@link GradeCalculator#calculateFinalGrade(edu.utec.cs3081.model.StudentRecord, int)}.
+ * La clave es el contenido del cálculo: código, evaluaciones (nombre, nota y peso),
+ * asistencia, año académico y configuración de políticas de la calculadora. Un estudiante
+ * sin cambios se sirve sin recalcular ni crear un nuevo GradeResult.
+ *
+ * <p>Se desaloja la entrada usada menos recientemente (LRU) al superar la capacidad.
+ * Es segura para uso concurrente; el cálculo de un fallo se hace fuera del bloqueo.</p>
+ */
+public class GradeResultCache {
+
+    private final int maxEntries;
+    private final Map<ResultKey, GradeResult> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor con la capacidad máxima.
+     *
+     * @param maxEntries número máximo de resultados almacenados
+     */
+    public GradeResultCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new GradeCalculationException("La capacidad de la caché debe ser mayor a cero");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ResultKey, GradeResult> eldest) {
+                if (size() > GradeResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Obtiene el resultado desde la caché o lo calcula y almacena.
+     *
+     * @param calculator calculadora con las políticas a aplicar
+     * @param student el estudiante con sus evaluaciones
+     * @param academicYear el año académico para aplicar política de puntos extra
+     * @return GradeResult con la nota final y detalles del cálculo
+     * @throws GradeCalculationException si hay error en el cálculo (los errores no se almacenan)
+     */
+    public GradeResult getOrCalculate(GradeCalculator calculator, Student student, int academicYear) {
+        if (calculator == null) {
+            throw new GradeCalculationException("La calculadora no puede ser nula");
+        }
+        if (student == null) {
+            throw new GradeCalculationException("El estudiante no puede ser nulo");
+        }
+        ResultKey key = new ResultKey(calculator, student, academicYear);
+        GradeResult cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        GradeResult result = calculator.calculateFinalGrade(student, academicYear).snapshot();
+        synchronized (entries) {
+            GradeResult existing = entries.putIfAbsent(key, result);
+            return existing != null ? existing : result;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Elimina todas las entradas; los contadores se conservan.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Huella del contenido de un cálculo. Guarda las evaluaciones (inmutables) del momento
+     * de la consulta, de modo que cambios posteriores del estudiante producen otra clave.
+     */
+    private static final class ResultKey {
+        private final PolicyPipeline policyConfiguration;
+        private final String code;
+        private final boolean attendance;
+        private final int academicYear;
+        private final Evaluation[] evaluations;
+        private final int hash;
+
+        ResultKey(GradeCalculator calculator, Student student, int academicYear) {
+            this.policyConfiguration = calculator.policyConfiguration();
+            this.code = student.getCode();
+            this.attendance = student.hasReachedMinimumClasses();
+            this.academicYear = academicYear;
+            this.evaluations = student.getEvaluations().toArray(new Evaluation[0]);
+            this.hash = computeHash(calculator.policyConfigurationHash());
+        }
+
+        private int computeHash(int policyHash) {
+            int result = policyHash;
+            result = 31 * result + code.hashCode();
+            result = 31 * result + Boolean.hashCode(attendance);
+            result = 31 * result + academicYear;
+            for (Evaluation evaluation : evaluations) {
+                result = 31 * result + evaluation.getName().hashCode();
+                result = 31 * result + Double.hashCode(evaluation.getGrade());
+                result = 31 * result + Double.hashCode(evaluation.getWeight());
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResultKey)) {
+                return false;
+            }
+            ResultKey other = (ResultKey) o;
+            if (hash != other.hash || attendance != other.attendance || academicYear != other.academicYear
+                    || evaluations.length != other.evaluations.length || !code.equals(other.code)
+                    || (policyConfiguration != other.policyConfiguration
+                        && !policyConfiguration.equals(other.policyConfiguration))) {
+                return false;
+            }
+            for (int i = 0; i < evaluations.length; i++) {
+                Evaluation a = evaluations[i];
+                Evaluation b = other.evaluations[i];
+                if (Double.compare(a.getGrade(), b.getGrade()) != 0
+                        || Double.compare(a.getWeight(), b.getWeight()) != 0
+                        || !a.getName().equals(b.getName())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.model.StudentRecord;
+
+/**
+ * Nota de un estudiante que se mantiene actualizada a medida que cambian sus evaluaciones.
+ * Se apoya en los totales acumulados de {@link Student}, por lo que agregar, reemplazar o
+ * eliminar una evaluación actualiza la nota final sin recalcular todo el GradeResult.
+ * El GradeResult completo (con validación de pesos y textos de detalle) se construye solo
+ * cuando se solicita y se reutiliza hasta el siguiente cambio.
+ *
+ * <p>Trabaja sobre una copia privada del estudiante recibido: las evaluaciones solo se
+ * modifican mediante {@link #addEvaluation}, {@link #replaceEvaluation} y
+ * {@link #removeEvaluation}, de modo que la nota guardada nunca queda desactualizada.</p>
+ */
+public class IncrementalGrade {
+
+    private final GradeCalculator calculator;
+    private final Student student;
+    private final int academicYear;
+    private double finalGrade;
+    private GradeResult result;
+
+    /**
+     * Constructor que enlaza un estudiante con la calculadora y el año académico.
+     *
+     * @param calculator calculadora con las políticas a aplicar
+     * @param student el estudiante inicial; se copia, y los cambios posteriores al original
+     *                no afectan a esta nota
+     * @param academicYear el año académico para aplicar política de puntos extra
+     */
+    public IncrementalGrade(GradeCalculator calculator, StudentRecord student, int academicYear) {
+        if (calculator == null) {
+            throw new GradeCalculationException("La calculadora no puede ser nula");
+        }
+        if (student == null) {
+            throw new GradeCalculationException("El estudiante no puede ser nulo");
+        }
+        this.calculator = calculator;
+        this.student = new Student(student.getCode(), student.hasReachedMinimumClasses());
+        this.student.addEvaluations(student.getEvaluations());
+        this.academicYear = academicYear;
+        refresh();
+    }
+
+    /**
+     * Agrega una evaluación y actualiza la nota.
+     *
+     * @param evaluation la evaluación a agregar
+     * @return la nota final actualizada
+     */
+    public double addEvaluation(Evaluation evaluation) {
+        student.addEvaluation(evaluation);
+        return refresh();
+    }
+
+    /**
+     * Reemplaza una evaluación (por ejemplo, una corrección de nota) y actualiza la nota.
+     *
+     * @param index posición de la evaluación
+     * @param evaluation la evaluación corregida
+     * @return la nota final actualizada
+     */
+    public double replaceEvaluation(int index, Evaluation evaluation) {
+        student.replaceEvaluation(index, evaluation);
+        return refresh();
+    }
+
+    /**
+     * Elimina una evaluación y actualiza la nota.
+     *
+     * @param index posición de la evaluación
+     * @return la nota final actualizada
+     */
+    public double removeEvaluation(int index) {
+        student.removeEvaluation(index);
+        return refresh();
+    }
+
+    private double refresh() {
+        result = null;
+        finalGrade = calculator.resolveFinalGrade(student, student.getWeightedGradeSum(), academicYear);
+        return finalGrade;
+    }
+
+    /**
+     * Estudiante con las evaluaciones actuales, solo para lectura; para modificarlo se usan
+     * los métodos de esta clase.
+     *
+     * @return vista de lectura del estudiante
+     */
+    public StudentRecord getStudent() {
+        return student;
+    }
+
+    public int getAcademicYear() {
+        return academicYear;
+    }
+
+    public double getWeightedAverage() {
+        return student.getWeightedGradeSum();
+    }
+
+    /**
+     * Nota final con las evaluaciones actuales. Mientras los pesos no sumen 1.0 es una
+     * nota provisional; ver {@link #hasValidWeights()}.
+     *
+     * @return nota final
+     */
+    public double getFinalGrade() {
+        return finalGrade;
+    }
+
+    /**
+     * Indica si las evaluaciones actuales forman un cálculo válido (pesos que suman 1.0).
+     *
+     * @return true si la nota es definitiva
+     */
+    public boolean hasValidWeights() {
+        return student.getEvaluationCount() > 0
+            && StudentRecord.isValidTotalWeight(student.getTotalWeight());
+    }
+
+    /**
+     * Construye (o reutiliza) el GradeResult completo con las evaluaciones actuales.
+     *
+     * @return resultado del cálculo
+     * @throws GradeCalculationException si las evaluaciones no forman un cálculo válido
+     */
+    public GradeResult toResult() {
+        if (result == null) {
+            calculator.validateStudent(student);
+            calculator.validateTotalWeight(student.getTotalWeight());
+            result = calculator.buildResult(student, student.getWeightedGradeSum(), academicYear);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,251 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Cohorte almacenada fuera del heap, en registros de tamaño fijo dentro de
+ * {@link ByteBuffer} directos. Un estudiante no ocupa objetos en el heap (ni Student, ni
+ * listas, ni Evaluation, ni String), por lo que cohortes de millones de estudiantes no
+ * agrandan el heap ni las pausas del recolector.
+ *
+ * <p>Cada registro guarda, en el orden de bytes nativo: asistencia (1 byte), número de
+ * evaluaciones (1), largo del código (1), código en UTF-8 ({@value #CODE_WIDTH} bytes),
+ * relleno hasta el byte 40, suma de pesos (8), suma ponderada (8), y las notas y pesos de
+ * cada posición de evaluación (8 cada uno). Las sumas se acumulan al agregar, en el mismo
+ * orden que {@link Student}, así que calcular un registro solo lee tres campos.</p>
+ *
+ * <p>Los registros se reparten en segmentos de igual tamaño: crecer agrega un segmento sin
+ * copiar los anteriores y ningún buffer se acerca al límite de 2 GB. La memoria se libera
+ * cuando la cohorte deja de ser alcanzable. Admite lectores concurrentes una vez cargada,
+ * pero no escrituras concurrentes.</p>
+ */
+public class OffHeapCohort {
+
+    public static final int CODE_WIDTH = 32;
+
+    private static final int ATTENDANCE_OFFSET = 0;
+    private static final int COUNT_OFFSET = 1;
+    private static final int CODE_LENGTH_OFFSET = 2;
+    private static final int CODE_OFFSET = 3;
+    private static final int TOTAL_WEIGHT_OFFSET = 40;
+    private static final int WEIGHTED_SUM_OFFSET = 48;
+    private static final int GRADES_OFFSET = 56;
+    private static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 14;
+
+    private final int slots;
+    private final int weightsOffset;
+    private final int recordSize;
+    private final int segmentShift;
+    private final int segmentMask;
+    private ByteBuffer[] segments = new ByteBuffer[0];
+    private int size;
+
+    /**
+     * Constructor con segmentos de 16384 registros.
+     */
+    public OffHeapCohort() {
+        this(DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    /**
+     * Constructor con el tamaño de segmento, que se redondea a la siguiente potencia de dos.
+     *
+     * @param recordsPerSegment registros por segmento
+     */
+    public OffHeapCohort(int recordsPerSegment) {
+        this.slots = Student.getMaxEvaluations();
+        this.weightsOffset = GRADES_OFFSET + slots * Double.BYTES;
+        this.recordSize = weightsOffset + slots * Double.BYTES;
+        int perSegment = Math.min(Integer.highestOneBit(Integer.MAX_VALUE / recordSize),
+            Math.max(1, recordsPerSegment));
+        this.segmentShift = Integer.SIZE - Integer.numberOfLeadingZeros(perSegment - 1);
+        this.segmentMask = (1 << segmentShift) - 1;
+    }
+
+    /**
+     * Agrega un estudiante copiando sus evaluaciones a un registro.
+     *
+     * @param student el estudiante
+     * @return posición asignada al estudiante
+     */
+    public int add(Student student) {
+        if (student == null) {
+            throw new InvalidStudentDataException("El estudiante no puede ser nulo");
+        }
+        byte[] code = encodeCode(student.getCode());
+        int row = nextRow();
+        ByteBuffer segment = segment(row);
+        int base = offset(row);
+        int slot = 0;
+        for (Evaluation evaluation : student.getEvaluations()) {
+            segment.putDouble(base + GRADES_OFFSET + slot * Double.BYTES, evaluation.getGrade());
+            segment.putDouble(base + weightsOffset + slot * Double.BYTES, evaluation.getWeight());
+            slot++;
+        }
+        writeHeader(segment, base, code, student.hasReachedMinimumClasses(), slot,
+            student.getTotalWeight(), student.getWeightedGradeSum());
+        return row;
+    }
+
+    /**
+     * Agrega un estudiante a partir de arreglos primitivos, validando los mismos rangos
+     * que {@link Evaluation}.
+     *
+     * @param code código del estudiante
+     * @param hasReachedMinimumClasses si cumple asistencia mínima
+     * @param studentGrades notas de las evaluaciones
+     * @param studentWeights pesos de las evaluaciones
+     * @param count número de evaluaciones a tomar de los arreglos
+     * @return posición asignada al estudiante
+     */
+    public int add(String code, boolean hasReachedMinimumClasses,
+                   double[] studentGrades, double[] studentWeights, int count) {
+        if (count < 0 || count > slots) {
+            throw new InvalidStudentDataException(
+                String.format("No se pueden agregar más de %d evaluaciones", slots));
+        }
+        for (int i = 0; i < count; i++) {
+            ColumnarCohort.validateEvaluation(studentGrades[i], studentWeights[i]);
+        }
+        byte[] encoded = encodeCode(code);
+        int row = nextRow();
+        ByteBuffer segment = segment(row);
+        int base = offset(row);
+        double totalWeight = 0.0;
+        double weightedGradeSum = 0.0;
+        for (int i = 0; i < count; i++) {
+            segment.putDouble(base + GRADES_OFFSET + i * Double.BYTES, studentGrades[i]);
+            segment.putDouble(base + weightsOffset + i * Double.BYTES, studentWeights[i]);
+            totalWeight += studentWeights[i];
+            weightedGradeSum += studentGrades[i] * studentWeights[i];
+        }
+        writeHeader(segment, base, encoded, hasReachedMinimumClasses, count, totalWeight, weightedGradeSum);
+        return row;
+    }
+
+    private static byte[] encodeCode(String code) {
+        if (code == null || code.isBlank()) {
+            throw new InvalidStudentDataException("El código del estudiante no puede ser nulo o vacío");
+        }
+        byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > CODE_WIDTH) {
+            throw new InvalidStudentDataException(String.format(
+                "El código '%s' excede los %d bytes del almacenamiento fuera del heap", code, CODE_WIDTH));
+        }
+        return bytes;
+    }
+
+    private void writeHeader(ByteBuffer segment, int base, byte[] code, boolean hasReachedMinimumClasses,
+                             int count, double totalWeight, double weightedGradeSum) {
+        segment.put(base + ATTENDANCE_OFFSET, (byte) (hasReachedMinimumClasses ? 1 : 0));
+        segment.put(base + COUNT_OFFSET, (byte) count);
+        segment.put(base + CODE_LENGTH_OFFSET, (byte) code.length);
+        segment.put(base + CODE_OFFSET, code);
+        segment.putDouble(base + TOTAL_WEIGHT_OFFSET, totalWeight);
+        segment.putDouble(base + WEIGHTED_SUM_OFFSET, weightedGradeSum);
+    }
+
+    private int nextRow() {
+        if (size == Integer.MAX_VALUE) {
+            throw new InvalidStudentDataException("La cohorte fuera del heap está llena");
+        }
+        int segmentIndex = size >>> segmentShift;
+        if (segmentIndex == segments.length) {
+            segments = Arrays.copyOf(segments, segmentIndex + 1);
+            segments[segmentIndex] = ByteBuffer.allocateDirect((segmentMask + 1) * recordSize)
+                .order(ByteOrder.nativeOrder());
+        }
+        return size++;
+    }
+
+    private ByteBuffer segment(int row) {
+        return segments[row >>> segmentShift];
+    }
+
+    private int offset(int row) {
+        return (row & segmentMask) * recordSize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    /**
+     * Bytes reservados fuera del heap, incluida la parte libre del último segmento.
+     *
+     * @return bytes reservados
+     */
+    public long getAllocatedBytes() {
+        return (long) segments.length * (segmentMask + 1) * recordSize;
+    }
+
+    /**
+     * Decodifica el código del estudiante; es la única lectura que crea un objeto.
+     *
+     * @param row posición del estudiante
+     * @return el código
+     */
+    public String getCode(int row) {
+        Objects.checkIndex(row, size);
+        ByteBuffer segment = segment(row);
+        int base = offset(row);
+        byte[] bytes = new byte[segment.get(base + CODE_LENGTH_OFFSET)];
+        segment.get(base + CODE_OFFSET, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public boolean hasReachedMinimumClasses(int row) {
+        Objects.checkIndex(row, size);
+        return segment(row).get(offset(row) + ATTENDANCE_OFFSET) != 0;
+    }
+
+    public int getEvaluationCount(int row) {
+        Objects.checkIndex(row, size);
+        return segment(row).get(offset(row) + COUNT_OFFSET);
+    }
+
+    public double getTotalWeight(int row) {
+        Objects.checkIndex(row, size);
+        return segment(row).getDouble(offset(row) + TOTAL_WEIGHT_OFFSET);
+    }
+
+    public double getWeightedGradeSum(int row) {
+        Objects.checkIndex(row, size);
+        return segment(row).getDouble(offset(row) + WEIGHTED_SUM_OFFSET);
+    }
+
+    public double getGrade(int row, int slot) {
+        Objects.checkIndex(row, size);
+        Objects.checkIndex(slot, slots);
+        return segment(row).getDouble(offset(row) + GRADES_OFFSET + slot * Double.BYTES);
+    }
+
+    public double getWeight(int row, int slot) {
+        Objects.checkIndex(row, size);
+        Objects.checkIndex(slot, slots);
+        return segment(row).getDouble(offset(row) + weightsOffset + slot * Double.BYTES);
+    }
+
+    /**
+     * Vista de solo lectura posicionada en un estudiante. La vista es reutilizable: con
+     * {@link OffHeapStudentView#moveTo(int)} recorre la cohorte sin crear un objeto por fila.
+     *
+     * @param row posición del estudiante
+     * @return la vista
+     */
+    public OffHeapStudentView view(int row) {
+        return new OffHeapStudentView(this).moveTo(row);
+    }
+}
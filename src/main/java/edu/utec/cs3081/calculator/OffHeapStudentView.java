@@ -0,0 +1,96 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.StudentRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Vista de un registro de {@link OffHeapCohort} con el lado de lectura de un estudiante,
+ * para el código que necesita un {@link StudentRecord}, como {@link GradeCalculator} o las
+ * políticas. Es un flyweight: una sola vista se mueve de fila en fila y cada lectura va
+ * directo al registro, sin copiarlo.
+ *
+ * <p>Como el registro no guarda nombres de evaluación, {@link #getEvaluations()} las nombra
+ * E1, E2, ... según su posición; es la única lectura que crea objetos Evaluation. La vista
+ * no está sellada: la calculadora valida los pesos con las sumas del registro.</p>
+ */
+public final class OffHeapStudentView implements StudentRecord {
+
+    private static final String EVALUATION_NAME_PREFIX = "E";
+
+    private final OffHeapCohort cohort;
+    private int row;
+
+    OffHeapStudentView(OffHeapCohort cohort) {
+        this.cohort = cohort;
+    }
+
+    /**
+     * Posiciona la vista en otro estudiante.
+     *
+     * @param row posición del estudiante
+     * @return esta vista
+     * @throws IndexOutOfBoundsException si la posición no existe en la cohorte
+     */
+    public OffHeapStudentView moveTo(int row) {
+        if (row < 0 || row >= cohort.size()) {
+            throw new IndexOutOfBoundsException("No existe el estudiante en la posición " + row);
+        }
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    @Override
+    public String getCode() {
+        return cohort.getCode(row);
+    }
+
+    @Override
+    public boolean hasReachedMinimumClasses() {
+        return cohort.hasReachedMinimumClasses(row);
+    }
+
+    @Override
+    public int getEvaluationCount() {
+        return cohort.getEvaluationCount(row);
+    }
+
+    @Override
+    public List<Evaluation> getEvaluations() {
+        int count = cohort.getEvaluationCount(row);
+        List<Evaluation> evaluations = new ArrayList<>(count);
+        for (int slot = 0; slot < count; slot++) {
+            evaluations.add(new Evaluation(EVALUATION_NAME_PREFIX + (slot + 1),
+                cohort.getGrade(row, slot), cohort.getWeight(row, slot)));
+        }
+        return Collections.unmodifiableList(evaluations);
+    }
+
+    @Override
+    public double getTotalWeight() {
+        return cohort.getTotalWeight(row);
+    }
+
+    @Override
+    public double getWeightedGradeSum() {
+        return cohort.getWeightedGradeSum(row);
+    }
+
+    @Override
+    public boolean isSealed() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Estudiante[código=%s, evaluaciones=%d, asistencia=%s]",
+            getCode(), getEvaluationCount(), hasReachedMinimumClasses() ? "Sí" : "No");
+    }
+}
@@ -0,0 +1,85 @@
+package edu.utec.cs3081.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Java Flight Recorder para el cálculo de la nota de un estudiante.
+ * Deshabilitado por defecto: se activa en la configuración de la grabación, por ejemplo
+ * {@code -XX:StartFlightRecording:settings=profile,+edu.utec.cs3081.GradeCalculation#enabled=true}
+ * o con {@code Recording.enable(GradeCalculationEvent.class)}.
+ */
+@Name("edu.utec.cs3081.GradeCalculation")
+@Label("Cálculo de Nota")
+@Description("Cálculo de la nota final de un estudiante")
+@Category({"UTEC", "Notas"})
+@Enabled(false)
+@StackTrace(false)
+public class GradeCalculationEvent extends Event {
+
+    /** Identificador de lote de un cálculo individual, fuera de cualquier lote. */
+    public static final long NO_BATCH = 0;
+
+    public static final String OUTCOME_GRADED = "CALCULADO";
+    public static final String OUTCOME_PENALIZED = "PENALIZADO";
+    public static final String OUTCOME_EXTRA_POINTS = "PUNTOS_EXTRA";
+    public static final String OUTCOME_ERROR = "ERROR";
+
+    @Label("Código de Estudiante")
+    String studentCode;
+
+    @Label("Cantidad de Evaluaciones")
+    int evaluationCount;
+
+    @Label("Año Académico")
+    int academicYear;
+
+    @Label("Resultado")
+    String outcome;
+
+    @Label("Nota Final")
+    double finalGrade;
+
+    @Label("Lote")
+    @Description("Identificador del lote, o 0 para cálculos individuales")
+    long batchId;
+
+    /**
+     * Completa los campos a partir del cálculo. Solo debe llamarse si
+     * {@link #shouldCommit()} es true, para no pagar el costo cuando no se graba.
+     *
+     * @param code código del estudiante, o null
+     * @param evaluations cantidad de evaluaciones
+     * @param year año académico
+     * @param batch identificador del lote
+     * @param result resultado del cálculo ({@code OUTCOME_*})
+     * @param grade nota final, o NaN si el cálculo falló
+     */
+    public void set(String code, int evaluations, int year, long batch, String result, double grade) {
+        this.studentCode = code;
+        this.evaluationCount = evaluations;
+        this.academicYear = year;
+        this.batchId = batch;
+        this.outcome = result;
+        this.finalGrade = grade;
+    }
+
+    /**
+     * Resultado a registrar para un cálculo exitoso.
+     *
+     * @param penalizedByAttendance si fue penalizado por asistencia
+     * @param extraPointsApplied puntos extra sumados
+     * @return uno de {@code OUTCOME_GRADED}, {@code OUTCOME_PENALIZED} u {@code OUTCOME_EXTRA_POINTS}
+     */
+    public static String outcomeOf(boolean penalizedByAttendance, double extraPointsApplied) {
+        if (penalizedByAttendance) {
+            return OUTCOME_PENALIZED;
+        }
+        return extraPointsApplied > 0 ? OUTCOME_EXTRA_POINTS : OUTCOME_GRADED;
+    }
+}
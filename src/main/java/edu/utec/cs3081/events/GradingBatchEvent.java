@@ -0,0 +1,69 @@
+package edu.utec.cs3081.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evento de Java Flight Recorder para un cálculo masivo (cohorte o archivo por lotes).
+ * Su identificador de lote coincide con el de los {@link GradeCalculationEvent} de sus
+ * estudiantes, de modo que un lote lento puede correlacionarse con GC y asignaciones.
+ * Deshabilitado por defecto.
+ */
+@Name("edu.utec.cs3081.GradingBatch")
+@Label("Lote de Cálculo de Notas")
+@Description("Cálculo masivo de notas de una cohorte o archivo")
+@Category({"UTEC", "Notas"})
+@Enabled(false)
+@StackTrace(false)
+public class GradingBatchEvent extends Event {
+
+    public static final String KIND_COHORT = "COHORTE";
+    public static final String KIND_CSV = "CSV";
+    public static final String KIND_ASYNC = "ASINCRONO";
+    public static final String KIND_STREAM = "FLUJO";
+
+    private static final AtomicLong NEXT_BATCH_ID = new AtomicLong(1);
+
+    @Label("Lote")
+    long batchId;
+
+    @Label("Tipo")
+    String kind;
+
+    @Label("Estudiantes")
+    long students;
+
+    @Label("Errores")
+    long failures;
+
+    /**
+     * Nuevo identificador de lote, único dentro del proceso.
+     *
+     * @return identificador mayor a cero
+     */
+    public static long nextBatchId() {
+        return NEXT_BATCH_ID.getAndIncrement();
+    }
+
+    /**
+     * Completa los campos del lote.
+     *
+     * @param batch identificador del lote
+     * @param batchKind tipo de lote
+     * @param studentCount estudiantes procesados
+     * @param failureCount estudiantes con error
+     */
+    public void set(long batch, String batchKind, long studentCount, long failureCount) {
+        this.batchId = batch;
+        this.kind = batchKind;
+        this.students = studentCount;
+        this.failures = failureCount;
+    }
+}
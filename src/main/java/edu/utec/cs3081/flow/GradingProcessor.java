@@ -0,0 +1,192 @@
+package edu.utec.cs3081.flow;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.events.GradingBatchEvent;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Student;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Etapa de cálculo de un flujo reactivo: recibe estudiantes y publica un
+ * {@link GradeOutcome} por cada uno, calculando hasta {@code parallelism} a la vez.
+ *
+ * <p>La contrapresión es de extremo a extremo: al upstream solo se le pide un estudiante
+ * nuevo cuando termina uno en curso, y la publicación hacia los suscriptores usa un buffer
+ * acotado ({@link SubmissionPublisher#submit}) que bloquea mientras el consumidor más lento
+ * no tenga espacio. Así, como máximo hay {@code parallelism} estudiantes en cálculo más
+ * {@code bufferCapacity} resultados pendientes por suscriptor.</p>
+ *
+ * <p>Con paralelismo mayor a uno los resultados pueden llegar fuera de orden; el índice de
+ * cada {@link GradeOutcome} es su posición en el flujo de entrada. Los suscriptores deben
+ * suscribirse antes de conectar el procesador al upstream. Los cálculos y las entregas usan
+ * ejecutores distintos, para que un cálculo bloqueado esperando espacio no impida entregar.</p>
+ */
+public class GradingProcessor extends SubmissionPublisher<GradeOutcome>
+        implements Flow.Processor<Student, GradeOutcome> {
+
+    private final GradeCalculator calculator;
+    private final int academicYear;
+    private final Executor gradingExecutor;
+    private final int parallelism;
+    private final long batchId = GradingBatchEvent.nextBatchId();
+    private final GradingBatchEvent event = new GradingBatchEvent();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder graded = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private Flow.Subscription upstream;
+    private int received;
+    private volatile boolean upstreamDone;
+
+    /**
+     * Constructor que entrega los resultados en el pool común con el buffer por defecto.
+     *
+     * @param calculator calculadora a utilizar
+     * @param academicYear año académico para aplicar política de puntos extra
+     * @param gradingExecutor ejecutor de los cálculos
+     * @param parallelism cálculos simultáneos como máximo
+     */
+    public GradingProcessor(GradeCalculator calculator, int academicYear, Executor gradingExecutor, int parallelism) {
+        this(calculator, academicYear, gradingExecutor, parallelism, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Constructor completo.
+     *
+     * @param calculator calculadora a utilizar
+     * @param academicYear año académico para aplicar política de puntos extra
+     * @param gradingExecutor ejecutor de los cálculos
+     * @param parallelism cálculos simultáneos como máximo
+     * @param deliveryExecutor ejecutor de las entregas a los suscriptores
+     * @param bufferCapacity resultados pendientes como máximo por suscriptor
+     * @throws GradeCalculationException si algún argumento es nulo o no positivo
+     */
+    public GradingProcessor(GradeCalculator calculator, int academicYear, Executor gradingExecutor, int parallelism,
+                            Executor deliveryExecutor, int bufferCapacity) {
+        super(requireExecutor(deliveryExecutor), requirePositive(bufferCapacity, "La capacidad del buffer"));
+        if (calculator == null) {
+            throw new GradeCalculationException("La calculadora no puede ser nula");
+        }
+        this.calculator = calculator;
+        this.academicYear = academicYear;
+        this.gradingExecutor = requireExecutor(gradingExecutor);
+        this.parallelism = requirePositive(parallelism, "El paralelismo");
+        event.begin();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+        }
+        requestUpstream(parallelism);
+    }
+
+    @Override
+    public void onNext(Student student) {
+        int index = received++;
+        inFlight.incrementAndGet();
+        try {
+            gradingExecutor.execute(() -> grade(index, student));
+        } catch (RejectedExecutionException e) {
+            cancelUpstream();
+            closeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        upstreamDone = true;
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        if (inFlight.get() == 0) {
+            finish();
+        }
+    }
+
+    /**
+     * Identificador de lote de los eventos JFR de este flujo.
+     *
+     * @return identificador del lote
+     */
+    public long getBatchId() {
+        return batchId;
+    }
+
+    private void grade(int index, Student student) {
+        GradeOutcome outcome;
+        try {
+            outcome = GradeOutcome.success(index, calculator.calculateFinalGrade(student, academicYear, batchId));
+            graded.increment();
+        } catch (RuntimeException e) {
+            outcome = GradeOutcome.failure(index, student != null ? student.getCode() : null, e);
+            failures.increment();
+        }
+        if (!isClosed()) {
+            try {
+                submit(outcome);
+            } catch (IllegalStateException e) {
+                // Cerrado mientras se esperaba espacio: el resultado se descarta
+            }
+        }
+        if (inFlight.decrementAndGet() == 0 && upstreamDone) {
+            finish();
+        } else if (!isClosed()) {
+            requestUpstream(1);
+        }
+    }
+
+    private synchronized void requestUpstream(long n) {
+        upstream.request(n);
+    }
+
+    private synchronized void cancelUpstream() {
+        if (upstream != null) {
+            upstream.cancel();
+        }
+    }
+
+    private void finish() {
+        synchronized (event) {
+            if (isClosed()) {
+                return;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                long failed = failures.sum();
+                event.set(batchId, GradingBatchEvent.KIND_STREAM, graded.sum() + failed, failed);
+                event.commit();
+            }
+            close();
+        }
+    }
+
+    private static Executor requireExecutor(Executor executor) {
+        if (executor == null) {
+            throw new GradeCalculationException("El ejecutor no puede ser nulo");
+        }
+        return executor;
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new GradeCalculationException(name + " debe ser mayor a cero");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,133 @@
+package edu.utec.cs3081.flow;
+
+import edu.utec.cs3081.batch.BatchSummary;
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.io.CsvResultWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Suscriptor final que escribe cada {@link GradeOutcome} como una fila del CSV de resultados.
+ * Pide resultados en tandas de {@code batchSize}, de modo que nunca tiene más de una tanda
+ * pendiente: si la escritura es lenta, la demanda se detiene y la contrapresión llega hasta
+ * el lector del roster.
+ */
+public class ResultWriterSubscriber implements Flow.Subscriber<GradeOutcome> {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final CsvResultWriter writer;
+    private final int batchSize;
+    private final CompletableFuture<BatchSummary> completion = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+    private int remainingInBatch;
+    private long graded;
+    private long failed;
+    private long start;
+
+    /**
+     * Constructor con la tanda por defecto.
+     *
+     * @param writer escritor de resultados
+     */
+    public ResultWriterSubscriber(CsvResultWriter writer) {
+        this(writer, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor con tamaño de tanda.
+     *
+     * @param writer escritor de resultados
+     * @param batchSize resultados pedidos en cada solicitud de demanda
+     */
+    public ResultWriterSubscriber(CsvResultWriter writer, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de tanda debe ser mayor a cero");
+        }
+        this.writer = Objects.requireNonNull(writer, "El escritor no puede ser nulo");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Futuro que se completa con el resumen cuando el flujo termina y el escritor fue vaciado.
+     *
+     * @return resumen de la escritura
+     */
+    public CompletableFuture<BatchSummary> getCompletion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        start = System.nanoTime();
+        try {
+            writer.writeHeader();
+        } catch (IOException e) {
+            subscription.cancel();
+            completion.completeExceptionally(e);
+            return;
+        }
+        requestBatch();
+    }
+
+    @Override
+    public void onNext(GradeOutcome outcome) {
+        if (completion.isDone()) {
+            return;
+        }
+        try {
+            if (outcome.isSuccess()) {
+                writer.writeResult(outcome.getResult());
+                graded++;
+            } else {
+                writer.writeError(outcome.getStudentCode(), outcome.getError().getMessage());
+                failed++;
+            }
+        } catch (IOException e) {
+            subscription.cancel();
+            completion.completeExceptionally(e);
+            return;
+        }
+        if (--remainingInBatch == 0) {
+            requestBatch();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        flushQuietly();
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            completion.completeExceptionally(e);
+            return;
+        }
+        completion.complete(new BatchSummary(graded + failed, graded, failed, System.nanoTime() - start));
+    }
+
+    private void requestBatch() {
+        remainingInBatch = batchSize;
+        subscription.request(batchSize);
+    }
+
+    private void flushQuietly() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            // Se informa el error original del flujo
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package edu.utec.cs3081.flow;
+
+import edu.utec.cs3081.io.CsvRosterReader;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.validation.ValidationErrors;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publicador de los estudiantes de un roster CSV, con un único suscriptor.
+ * Solo lee del {@link CsvRosterReader} lo que el suscriptor pidió, así que un lector rápido
+ * nunca se adelanta a un consumidor lento: la memoria usada no depende del tamaño del roster.
+ *
+ * <p>Las filas inválidas se omiten y se cuentan ({@link #getInvalidRows()}); para obtener
+ * una fila de error por cada una se usa {@link edu.utec.cs3081.batch.CsvBatchGrader}.
+ * Al terminar o cancelar, el lector se cierra.</p>
+ */
+public class RosterPublisher implements Flow.Publisher<Student> {
+
+    private final CsvRosterReader reader;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicLong invalidRows = new AtomicLong();
+
+    /**
+     * Constructor con el lector y el ejecutor donde se hacen las lecturas.
+     *
+     * @param reader lector del roster
+     * @param executor ejecutor de las lecturas y entregas
+     */
+    public RosterPublisher(CsvRosterReader reader, Executor executor) {
+        this.reader = Objects.requireNonNull(reader, "El lector no puede ser nulo");
+        this.executor = Objects.requireNonNull(executor, "El ejecutor no puede ser nulo");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Student> subscriber) {
+        Objects.requireNonNull(subscriber, "El suscriptor no puede ser nulo");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException("El publicador de roster admite un solo suscriptor"));
+            return;
+        }
+        subscriber.onSubscribe(new RosterSubscription(subscriber));
+    }
+
+    /**
+     * Filas inválidas omitidas hasta el momento.
+     *
+     * @return cantidad de filas inválidas
+     */
+    public long getInvalidRows() {
+        return invalidRows.get();
+    }
+
+    private final class RosterSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Student> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private final ValidationErrors errors = new ValidationErrors();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean done;
+
+        RosterSubscription(Flow.Subscriber<? super Student> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("La demanda debe ser mayor a cero: " + n);
+                scheduleDrain();
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    finish(e);
+                }
+            }
+        }
+
+        /**
+         * Entrega hasta agotar la demanda. Solo un hilo ejecuta este ciclo a la vez, de modo
+         * que el lector y las señales al suscriptor quedan serializados.
+         */
+        private void drain() {
+            int missed = 1;
+            do {
+                if (invalidRequest != null) {
+                    finish(invalidRequest);
+                }
+                while (!done && !cancelled && demand.get() > 0) {
+                    Student student;
+                    try {
+                        student = reader.readStudent(errors);
+                    } catch (IOException e) {
+                        finish(e);
+                        break;
+                    }
+                    countInvalidRows();
+                    if (student == null) {
+                        finish(null);
+                        break;
+                    }
+                    demand.decrementAndGet();
+                    subscriber.onNext(student);
+                }
+                if (cancelled && !done) {
+                    done = true;
+                    closeReader();
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void countInvalidRows() {
+            if (errors.isEmpty()) {
+                return;
+            }
+            long rows = 1;
+            for (int i = 1; i < errors.size(); i++) {
+                if (errors.getLine(i) != errors.getLine(i - 1)) {
+                    rows++;
+                }
+            }
+            invalidRows.addAndGet(rows);
+            errors.clear();
+        }
+
+        private void finish(Throwable error) {
+            if (done) {
+                return;
+            }
+            done = true;
+            closeReader();
+            if (error == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(error);
+            }
+        }
+
+        private void closeReader() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // El roster ya fue leído o abandonado; no hay a quién informar
+            }
+        }
+    }
+
+    private static final class RejectedSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constantes y utilidades comunes de los formatos binarios de roster y resultados.
+ *
+ * <p>Todos los archivos empiezan con una cabecera de 32 bytes en little-endian:
+ * magic (4), versión (2), tipo (1), reservado (1), tamaño de registro (4),
+ * ancho del código (4), número de registros (8) y 8 bytes reservados.
+ * Después vienen los registros de tamaño fijo, lo que permite acceder al registro i
+ * directamente en {@code HEADER_SIZE + i * recordSize} sin leer los anteriores.</p>
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x52475455;
+    static final short VERSION = 1;
+    static final byte KIND_ROSTER = 1;
+    static final byte KIND_RESULTS = 2;
+    static final byte KIND_RESULT_LOG = 3;
+    static final byte KIND_RESULT_INDEX = 4;
+    static final int HEADER_SIZE = 32;
+    static final int CODE_WIDTH = 32;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int CODE_WIDTH_OFFSET = 12;
+    private static final int COUNT_OFFSET = 16;
+    static final int RESERVED_OFFSET = 24;
+
+    private BinaryFormat() {
+    }
+
+    static ByteBuffer header(byte kind, int recordSize, long recordCount) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.put(kind);
+        header.put((byte) 0);
+        header.putInt(recordSize);
+        header.putInt(CODE_WIDTH);
+        header.putLong(recordCount);
+        header.putLong(0L);
+        header.flip();
+        return header;
+    }
+
+    /**
+     * Valida la cabecera y devuelve el número de registros declarado.
+     */
+    static long readHeader(ByteBuffer header, byte expectedKind, int expectedRecordSize) throws IOException {
+        header.order(BYTE_ORDER);
+        if (header.limit() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException("El archivo no tiene el formato binario de notas");
+        }
+        short version = header.getShort(4);
+        if (version != VERSION) {
+            throw new IOException(String.format("Versión de formato no soportada: %d", version));
+        }
+        if (header.get(6) != expectedKind) {
+            throw new IOException("El tipo de archivo binario no corresponde al esperado");
+        }
+        if (header.getInt(RECORD_SIZE_OFFSET) != expectedRecordSize
+                || header.getInt(CODE_WIDTH_OFFSET) != CODE_WIDTH) {
+            throw new IOException("El tamaño de registro del archivo no corresponde a la versión");
+        }
+        return header.getLong(COUNT_OFFSET);
+    }
+
+    static void putCode(ByteBuffer buffer, int offset, String code) {
+        byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > CODE_WIDTH) {
+            throw new InvalidStudentDataException(String.format(
+                "El código '%s' excede los %d bytes del formato binario", code, CODE_WIDTH));
+        }
+        buffer.put(offset, (byte) bytes.length);
+        buffer.put(offset + 1, bytes);
+        for (int i = bytes.length; i < CODE_WIDTH; i++) {
+            buffer.put(offset + 1 + i, (byte) 0);
+        }
+    }
+
+    static String getCode(ByteBuffer buffer, int offset) {
+        int length = buffer.get(offset) & 0xFF;
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
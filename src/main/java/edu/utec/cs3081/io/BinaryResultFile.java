@@ -0,0 +1,61 @@
+package edu.utec.cs3081.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Lector del formato binario de resultados escrito por {@link BinaryResultWriter}.
+ * El archivo se mapea en memoria y cada campo se lee bajo demanda desde su posición.
+ */
+public class BinaryResultFile {
+
+    private final MappedRecords records;
+
+    private BinaryResultFile(MappedRecords records) {
+        this.records = records;
+    }
+
+    /**
+     * Abre y mapea un archivo de resultados binario.
+     *
+     * @param path ruta del archivo
+     * @return los resultados mapeados
+     * @throws IOException si el archivo no existe o no tiene el formato esperado
+     */
+    public static BinaryResultFile open(Path path) throws IOException {
+        return new BinaryResultFile(
+            MappedRecords.open(path, BinaryFormat.KIND_RESULTS, BinaryResultWriter.RECORD_SIZE));
+    }
+
+    public long size() {
+        return records.size();
+    }
+
+    public String getCode(long index) {
+        return BinaryFormat.getCode(records.region(index), records.offset(index) + BinaryResultWriter.CODE_OFFSET);
+    }
+
+    public byte getStatus(long index) {
+        return records.region(index).get(records.offset(index) + BinaryResultWriter.STATUS_OFFSET);
+    }
+
+    public boolean isPenalizedByAttendance(long index) {
+        return getStatus(index) == BinaryResultWriter.STATUS_PENALIZED;
+    }
+
+    public boolean isError(long index) {
+        return getStatus(index) == BinaryResultWriter.STATUS_ERROR;
+    }
+
+    public double getWeightedAverage(long index) {
+        return records.region(index).getDouble(records.offset(index) + BinaryResultWriter.WEIGHTED_AVERAGE_OFFSET);
+    }
+
+    public double getExtraPointsApplied(long index) {
+        return records.region(index).getDouble(records.offset(index) + BinaryResultWriter.EXTRA_POINTS_OFFSET);
+    }
+
+    public double getFinalGrade(long index) {
+        return records.region(index).getDouble(records.offset(index) + BinaryResultWriter.FINAL_GRADE_OFFSET);
+    }
+}
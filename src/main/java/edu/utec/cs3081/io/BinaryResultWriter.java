@@ -0,0 +1,141 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.calculator.ColumnarResults;
+import edu.utec.cs3081.calculator.GradeResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+
+/**
+ * Escritor del formato binario de resultados.
+ *
+ * <p>Cada registro ocupa {@link #RECORD_SIZE} bytes: longitud y bytes UTF-8 del código
+ * (33), estado (1), relleno (6) y tres double: promedio ponderado, puntos extra
+ * aplicados y nota final.</p>
+ */
+public class BinaryResultWriter implements Closeable {
+
+    public static final byte STATUS_GRADED = 0;
+    public static final byte STATUS_PENALIZED = 1;
+    public static final byte STATUS_ERROR = 2;
+
+    static final int CODE_OFFSET = 0;
+    static final int STATUS_OFFSET = 1 + BinaryFormat.CODE_WIDTH;
+    static final int WEIGHTED_AVERAGE_OFFSET = 40;
+    static final int EXTRA_POINTS_OFFSET = WEIGHTED_AVERAGE_OFFSET + Double.BYTES;
+    static final int FINAL_GRADE_OFFSET = EXTRA_POINTS_OFFSET + Double.BYTES;
+    public static final int RECORD_SIZE = FINAL_GRADE_OFFSET + Double.BYTES;
+
+    private static final int RECORDS_PER_FLUSH = 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long recordCount;
+
+    /**
+     * Crea (o reemplaza) el archivo de resultados indicado.
+     *
+     * @param path ruta del archivo binario
+     * @throws IOException si no se puede crear el archivo
+     */
+    public BinaryResultWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(RECORD_SIZE * RECORDS_PER_FLUSH).order(BinaryFormat.BYTE_ORDER);
+        channel.write(BinaryFormat.header(BinaryFormat.KIND_RESULTS, RECORD_SIZE, 0L));
+    }
+
+    /**
+     * Escribe el resumen de un GradeResult.
+     *
+     * @param result el resultado del cálculo
+     * @throws IOException si falla la escritura
+     */
+    public void write(GradeResult result) throws IOException {
+        write(result.getStudentCode(),
+            result.isPenalizedByAttendance() ? STATUS_PENALIZED : STATUS_GRADED,
+            result.getWeightedAverage(), result.getExtraPointsApplied(), result.getFinalGrade());
+    }
+
+    /**
+     * Escribe todos los resultados de un cálculo columnar.
+     *
+     * @param codes función que entrega el código de cada posición
+     * @param results resultados del motor columnar
+     * @throws IOException si falla la escritura
+     */
+    public void write(IntFunction<String> codes, ColumnarResults results) throws IOException {
+        for (int row = 0; row < results.size(); row++) {
+            byte status;
+            if (!results.isValid(row)) {
+                status = STATUS_ERROR;
+            } else if (results.isPenalizedByAttendance(row)) {
+                status = STATUS_PENALIZED;
+            } else {
+                status = STATUS_GRADED;
+            }
+            write(codes.apply(row), status, results.getWeightedAverage(row),
+                results.getExtraPointsApplied(row), results.getFinalGrade(row));
+        }
+    }
+
+    /**
+     * Escribe un registro de error para un estudiante que no pudo calcularse.
+     *
+     * @param studentCode código del estudiante
+     * @throws IOException si falla la escritura
+     */
+    public void writeError(String studentCode) throws IOException {
+        write(studentCode, STATUS_ERROR, Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    private void write(String code, byte status, double weightedAverage,
+                       double extraPoints, double finalGrade) throws IOException {
+        if (buffer.remaining() < RECORD_SIZE) {
+            flushBuffer();
+        }
+        int record = buffer.position();
+        BinaryFormat.putCode(buffer, record + CODE_OFFSET, code);
+        buffer.put(record + STATUS_OFFSET, status);
+        for (int i = record + STATUS_OFFSET + 1; i < record + WEIGHTED_AVERAGE_OFFSET; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.putDouble(record + WEIGHTED_AVERAGE_OFFSET, weightedAverage);
+        buffer.putDouble(record + EXTRA_POINTS_OFFSET, extraPoints);
+        buffer.putDouble(record + FINAL_GRADE_OFFSET, finalGrade);
+        buffer.position(record + RECORD_SIZE);
+        recordCount++;
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Vacía los registros pendientes y escribe el número final de registros en la cabecera.
+     *
+     * @throws IOException si falla la escritura
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+            channel.write(BinaryFormat.header(BinaryFormat.KIND_RESULTS, RECORD_SIZE, recordCount), 0L);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.calculator.ColumnarCohort;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Lector del formato binario de roster escrito por {@link BinaryRosterWriter}.
+ * El archivo se mapea en memoria y cada campo se lee bajo demanda desde su posición,
+ * sin deserializar los demás registros.
+ */
+public class BinaryRosterFile {
+
+    private static final String EVALUATION_NAME_PREFIX = "E";
+
+    private final MappedRecords records;
+
+    private BinaryRosterFile(MappedRecords records) {
+        this.records = records;
+    }
+
+    /**
+     * Abre y mapea un archivo de roster binario.
+     *
+     * @param path ruta del archivo
+     * @return el roster mapeado
+     * @throws IOException si el archivo no existe o no tiene el formato esperado
+     */
+    public static BinaryRosterFile open(Path path) throws IOException {
+        return new BinaryRosterFile(
+            MappedRecords.open(path, BinaryFormat.KIND_ROSTER, BinaryRosterWriter.RECORD_SIZE));
+    }
+
+    public long size() {
+        return records.size();
+    }
+
+    public String getCode(long index) {
+        return BinaryFormat.getCode(records.region(index), records.offset(index) + BinaryRosterWriter.CODE_OFFSET);
+    }
+
+    public boolean hasReachedMinimumClasses(long index) {
+        return records.region(index).get(records.offset(index) + BinaryRosterWriter.ATTENDANCE_OFFSET) != 0;
+    }
+
+    public int getEvaluationCount(long index) {
+        return records.region(index).get(records.offset(index) + BinaryRosterWriter.COUNT_OFFSET);
+    }
+
+    public double getGrade(long index, int slot) {
+        return records.region(index).getDouble(evaluationOffset(index, slot));
+    }
+
+    public double getWeight(long index, int slot) {
+        return records.region(index).getDouble(evaluationOffset(index, slot) + Double.BYTES);
+    }
+
+    private int evaluationOffset(long index, int slot) {
+        return records.offset(index) + BinaryRosterWriter.EVALUATIONS_OFFSET
+            + slot * BinaryRosterWriter.EVALUATION_SIZE;
+    }
+
+    /**
+     * Materializa un registro como Student. Como el formato no guarda nombres de
+     * evaluación, se nombran E1, E2, ... según su posición.
+     *
+     * @param index posición del registro
+     * @return el estudiante con sus evaluaciones
+     */
+    public Student toStudent(long index) {
+        Student student = new Student(getCode(index), hasReachedMinimumClasses(index));
+        int count = getEvaluationCount(index);
+        for (int slot = 0; slot < count; slot++) {
+            student.addEvaluation(new Evaluation(EVALUATION_NAME_PREFIX + (slot + 1),
+                getGrade(index, slot), getWeight(index, slot)));
+        }
+        return student;
+    }
+
+    /**
+     * Carga todos los registros en una cohorte columnar sin crear objetos Evaluation.
+     *
+     * @return la cohorte columnar
+     */
+    public ColumnarCohort toColumnarCohort() {
+        int size = Math.toIntExact(size());
+        ColumnarCohort cohort = new ColumnarCohort(size);
+        double[] grades = new double[Student.getMaxEvaluations()];
+        double[] weights = new double[Student.getMaxEvaluations()];
+        for (int index = 0; index < size; index++) {
+            ByteBuffer region = records.region(index);
+            int count = getEvaluationCount(index);
+            for (int slot = 0; slot < count; slot++) {
+                int offset = evaluationOffset(index, slot);
+                grades[slot] = region.getDouble(offset);
+                weights[slot] = region.getDouble(offset + Double.BYTES);
+            }
+            cohort.add(getCode(index), hasReachedMinimumClasses(index), grades, weights, count);
+        }
+        return cohort;
+    }
+}
@@ -0,0 +1,150 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escritor del formato binario de roster.
+ *
+ * <p>Cada registro ocupa {@link #RECORD_SIZE} bytes: longitud y bytes UTF-8 del código
+ * (33), asistencia (1), número de evaluaciones (1), relleno (5) y los pares
+ * nota/peso como double de cada posición de evaluación. Los nombres de las evaluaciones
+ * no forman parte del formato.</p>
+ */
+public class BinaryRosterWriter implements Closeable {
+
+    static final int CODE_OFFSET = 0;
+    static final int ATTENDANCE_OFFSET = 1 + BinaryFormat.CODE_WIDTH;
+    static final int COUNT_OFFSET = ATTENDANCE_OFFSET + 1;
+    static final int EVALUATIONS_OFFSET = 40;
+    static final int EVALUATION_SIZE = 2 * Double.BYTES;
+    public static final int RECORD_SIZE = EVALUATIONS_OFFSET + EVALUATION_SIZE * Student.getMaxEvaluations();
+
+    private static final int RECORDS_PER_FLUSH = 512;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long recordCount;
+
+    /**
+     * Crea (o reemplaza) el archivo de roster indicado.
+     *
+     * @param path ruta del archivo binario
+     * @throws IOException si no se puede crear el archivo
+     */
+    public BinaryRosterWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(RECORD_SIZE * RECORDS_PER_FLUSH).order(BinaryFormat.BYTE_ORDER);
+        channel.write(BinaryFormat.header(BinaryFormat.KIND_ROSTER, RECORD_SIZE, 0L));
+    }
+
+    /**
+     * Escribe un estudiante con sus evaluaciones.
+     *
+     * @param student el estudiante
+     * @throws IOException si falla la escritura
+     */
+    public void write(Student student) throws IOException {
+        if (student == null) {
+            throw new InvalidStudentDataException("El estudiante no puede ser nulo");
+        }
+        int record = reserve();
+        BinaryFormat.putCode(buffer, record + CODE_OFFSET, student.getCode());
+        buffer.put(record + ATTENDANCE_OFFSET, (byte) (student.hasReachedMinimumClasses() ? 1 : 0));
+        buffer.put(record + COUNT_OFFSET, (byte) student.getEvaluationCount());
+        int slot = 0;
+        for (Evaluation evaluation : student.getEvaluations()) {
+            putEvaluation(record, slot++, evaluation.getGrade(), evaluation.getWeight());
+        }
+        finish(record, slot);
+    }
+
+    /**
+     * Escribe un estudiante a partir de arreglos primitivos.
+     *
+     * @param code código del estudiante
+     * @param hasReachedMinimumClasses si cumple asistencia mínima
+     * @param grades notas de las evaluaciones
+     * @param weights pesos de las evaluaciones
+     * @param count número de evaluaciones
+     * @throws IOException si falla la escritura
+     */
+    public void write(String code, boolean hasReachedMinimumClasses,
+                      double[] grades, double[] weights, int count) throws IOException {
+        if (code == null || code.isBlank()) {
+            throw new InvalidStudentDataException("El código del estudiante no puede ser nulo o vacío");
+        }
+        if (count < 0 || count > Student.getMaxEvaluations()) {
+            throw new InvalidStudentDataException(
+                String.format("No se pueden agregar más de %d evaluaciones", Student.getMaxEvaluations()));
+        }
+        int record = reserve();
+        BinaryFormat.putCode(buffer, record + CODE_OFFSET, code);
+        buffer.put(record + ATTENDANCE_OFFSET, (byte) (hasReachedMinimumClasses ? 1 : 0));
+        buffer.put(record + COUNT_OFFSET, (byte) count);
+        for (int slot = 0; slot < count; slot++) {
+            putEvaluation(record, slot, grades[slot], weights[slot]);
+        }
+        finish(record, count);
+    }
+
+    private int reserve() throws IOException {
+        if (buffer.remaining() < RECORD_SIZE) {
+            flushBuffer();
+        }
+        return buffer.position();
+    }
+
+    private void putEvaluation(int record, int slot, double grade, double weight) {
+        int offset = record + EVALUATIONS_OFFSET + slot * EVALUATION_SIZE;
+        buffer.putDouble(offset, grade);
+        buffer.putDouble(offset + Double.BYTES, weight);
+    }
+
+    private void finish(int record, int usedSlots) {
+        for (int i = record + COUNT_OFFSET + 1; i < record + EVALUATIONS_OFFSET; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        for (int slot = usedSlots; slot < Student.getMaxEvaluations(); slot++) {
+            putEvaluation(record, slot, 0.0, 0.0);
+        }
+        buffer.position(record + RECORD_SIZE);
+        recordCount++;
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Vacía los registros pendientes y escribe el número final de registros en la cabecera.
+     *
+     * @throws IOException si falla la escritura
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+            channel.write(BinaryFormat.header(BinaryFormat.KIND_ROSTER, RECORD_SIZE, recordCount), 0L);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.util.FixedDecimalFormat;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escritor secuencial de resultados de notas en formato CSV.
+ * Cada fila tiene la forma {@code codigo,promedio,puntos_extra,nota_final,estado,detalle}.
+ * Los números se escriben siempre con punto decimal y dos decimales.
+ */
+public class CsvResultWriter implements Closeable, Flushable {
+
+    public static final String HEADER = "codigo,promedio,puntos_extra,nota_final,estado,detalle";
+    public static final String STATUS_GRADED = "CALCULADO";
+    public static final String STATUS_PENALIZED = "PENALIZADO";
+    public static final String STATUS_ERROR = "ERROR";
+
+    private final Writer output;
+
+    /**
+     * Constructor sobre un escritor de salida.
+     *
+     * @param output destino de las filas; se recomienda un BufferedWriter
+     */
+    public CsvResultWriter(Writer output) {
+        this.output = output;
+    }
+
+    /**
+     * Escribe la fila de encabezado.
+     *
+     * @throws IOException si falla la escritura
+     */
+    public void writeHeader() throws IOException {
+        output.write(HEADER);
+        output.write('\n');
+    }
+
+    /**
+     * Escribe el resultado de un estudiante calculado.
+     *
+     * @param result el resultado del cálculo
+     * @throws IOException si falla la escritura
+     */
+    public void writeResult(GradeResult result) throws IOException {
+        output.write(quote(result.getStudentCode()));
+        output.write(',');
+        writeDecimal(result.getWeightedAverage());
+        output.write(',');
+        writeDecimal(result.getExtraPointsApplied());
+        output.write(',');
+        writeDecimal(result.getFinalGrade());
+        output.write(',');
+        output.write(result.isPenalizedByAttendance() ? STATUS_PENALIZED : STATUS_GRADED);
+        output.write(",\n");
+    }
+
+    /**
+     * Escribe una fila de error para un estudiante que no pudo calcularse.
+     *
+     * @param studentCode código del estudiante, o null si no se pudo leer
+     * @param message descripción del error
+     * @throws IOException si falla la escritura
+     */
+    public void writeError(String studentCode, String message) throws IOException {
+        output.write(studentCode != null ? quote(studentCode) : "");
+        output.write(",,,,");
+        output.write(STATUS_ERROR);
+        output.write(',');
+        output.write(quote(message != null ? message : ""));
+        output.write('\n');
+    }
+
+    private void writeDecimal(double value) throws IOException {
+        FixedDecimalFormat.append(output, value, 2, '.');
+    }
+
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
@@ -0,0 +1,199 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.validation.RosterValidator;
+import edu.utec.cs3081.validation.ValidationErrors;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lector secuencial de rosters en formato CSV.
+ * Cada fila tiene la forma {@code codigo,asistencia,nombre,nota,peso[,nombre,nota,peso...]}.
+ * Las líneas vacías y las que empiezan con {@code #} se ignoran.
+ * El lector mantiene buffers reutilizables, por lo que la memoria usada es
+ * constante sin importar el tamaño del archivo, y lleva la cuenta del desplazamiento
+ * en bytes de la última fila leída.
+ */
+public class CsvRosterReader implements Closeable {
+
+    private static final int INITIAL_LINE_CAPACITY = 256;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private byte[] lineBuffer = new byte[INITIAL_LINE_CAPACITY];
+    private int position;
+    private int limit;
+    private long offset;
+    private long lineNumber;
+
+    /**
+     * Constructor sobre un flujo de entrada.
+     *
+     * @param input flujo con el contenido del roster
+     */
+    public CsvRosterReader(InputStream input) {
+        this(input, 0L, 0L);
+    }
+
+    /**
+     * Constructor sobre un flujo ya posicionado en medio del roster.
+     *
+     * @param input flujo posicionado al inicio de una fila
+     * @param offset desplazamiento en bytes de esa posición dentro del archivo
+     * @param lineNumber número de líneas ya consumidas antes de esa posición
+     */
+    public CsvRosterReader(InputStream input, long offset, long lineNumber) {
+        this.input = input;
+        this.offset = offset;
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Lee el siguiente estudiante del roster.
+     * Si la fila es inválida se lanza la excepción correspondiente, pero el lector
+     * queda posicionado en la fila siguiente y puede seguir usándose.
+     *
+     * @return el siguiente estudiante, o null al llegar al final del archivo
+     * @throws IOException si falla la lectura
+     * @throws InvalidStudentDataException con el primer error de la fila, si es inválida
+     */
+    public Student readStudent() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (RosterValidator.isIgnoredLine(line::charAt, 0, line.length()));
+        return parseStudent(line, lineNumber);
+    }
+
+    /**
+     * Lee el siguiente estudiante válido sin lanzar excepciones por datos inválidos.
+     * Las filas con errores se omiten y sus problemas quedan registrados en {@code errors}
+     * con línea, campo y código; los mensajes se construyen solo si se solicitan.
+     *
+     * @param errors registro de errores de validación
+     * @return el siguiente estudiante válido, o null al llegar al final del archivo
+     * @throws IOException si falla la lectura
+     */
+    public Student readStudent(ValidationErrors errors) throws IOException {
+        while (true) {
+            String line = readLine();
+            if (line == null) {
+                return null;
+            }
+            if (RosterValidator.isIgnoredLine(line::charAt, 0, line.length())) {
+                continue;
+            }
+            Student student = RosterValidator.parseStudent(line, lineNumber, errors);
+            if (student != null) {
+                return student;
+            }
+        }
+    }
+
+    /**
+     * Desplazamiento en bytes inmediatamente después de la última línea leída.
+     *
+     * @return desplazamiento en bytes
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Número de la última línea leída (empezando en 1).
+     *
+     * @return número de línea
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Convierte una fila CSV en un estudiante con las reglas de
+     * {@link RosterValidator#parseStudent(String, long, ValidationErrors)}.
+     *
+     * @param line la fila sin salto de línea
+     * @param lineNumber número de línea, usado en los mensajes de error
+     * @return el estudiante con sus evaluaciones
+     * @throws InvalidStudentDataException con el primer error de la fila, si es inválida
+     */
+    public static Student parseStudent(String line, long lineNumber) {
+        ValidationErrors errors = new ValidationErrors();
+        Student student = RosterValidator.parseStudent(line, lineNumber, errors);
+        if (student == null) {
+            throw new InvalidStudentDataException(errors.getMessage(0));
+        }
+        return student;
+    }
+
+    /**
+     * Interpreta el indicador de asistencia mínima.
+     *
+     * @param value texto del campo (s/n, si/no, true/false, 1/0)
+     * @param lineNumber número de línea, usado en los mensajes de error
+     * @return true si el estudiante cumple asistencia mínima
+     */
+    public static boolean parseAttendance(String value, long lineNumber) {
+        int attendance = RosterValidator.parseAttendance(value, 0, value.length());
+        if (attendance < 0) {
+            throw new InvalidStudentDataException(String.format(
+                "Línea %d: indicador de asistencia inválido '%s'", lineNumber, value.trim()));
+        }
+        return attendance == 1;
+    }
+
+    private String readLine() throws IOException {
+        if (position == limit && !fill()) {
+            return null;
+        }
+        int length = 0;
+        boolean newline = false;
+        while (!newline && (position < limit || fill())) {
+            int start = position;
+            while (position < limit && readBuffer[position] != '\n') {
+                position++;
+            }
+            int chunk = position - start;
+            if (length + chunk > lineBuffer.length) {
+                lineBuffer = Arrays.copyOf(lineBuffer, Math.max(lineBuffer.length * 2, length + chunk));
+            }
+            System.arraycopy(readBuffer, start, lineBuffer, length, chunk);
+            length += chunk;
+            offset += chunk;
+            if (position < limit) {
+                position++;
+                offset++;
+                newline = true;
+            }
+        }
+        if (length > 0 && lineBuffer[length - 1] == '\r') {
+            length--;
+        }
+        lineNumber++;
+        return new String(lineBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private boolean fill() throws IOException {
+        int read = input.read(readBuffer, 0, readBuffer.length);
+        while (read == 0) {
+            read = input.read(readBuffer, 0, readBuffer.length);
+        }
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,688 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Evaluation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Registro persistente de solo anexado de {@link GradeResult}, con un índice por código de
+ * estudiante mapeado en memoria.
+ *
+ * <p>El directorio del registro tiene dos archivos con la cabecera de {@link BinaryFormat}.
+ * {@value #LOG_FILE} guarda los resultados uno tras otro; cada registro lleva su largo y un
+ * CRC32C del contenido. {@value #INDEX_FILE} es una tabla hash de direccionamiento abierto
+ * con el hash de 64 bits del código y la posición del último registro de ese código, más la
+ * longitud del log que el índice ya cubre.</p>
+ *
+ * <p>Los registros se escriben al final del log al anexarlos, y sus entradas de índice quedan
+ * pendientes en memoria. {@link #flush()} fuerza el log a disco y recién después vuelca las
+ * entradas pendientes al índice, de modo que el índice nunca apunta a datos que no llegaron
+ * a disco. Se hace un flush automático cada cierta cantidad de anexos.</p>
+ *
+ * <p>Al abrir, solo se revisa la cola del log posterior a la longitud cubierta por el índice:
+ * cada registro se valida con su CRC y se indexa, y el primer registro incompleto o corrupto
+ * marca una cola rota tras una caída, que se trunca. Reabrir cuesta lo que el índice más
+ * esa cola, no lo que el log completo. Si el índice falta o no es válido, se reconstruye
+ * leyendo todo el log.</p>
+ *
+ * <p>Los métodos están sincronizados; un directorio debe tener un solo proceso escritor.</p>
+ */
+public class GradeResultLog implements Closeable {
+
+    public static final String LOG_FILE = "resultados.log";
+    public static final String INDEX_FILE = "resultados.idx";
+    public static final int DEFAULT_FLUSH_INTERVAL = 4096;
+
+    private static final String INDEX_TEMP_FILE = INDEX_FILE + ".tmp";
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final int SLOT_SIZE = 2 * Long.BYTES;
+    private static final int MIN_INDEX_CAPACITY = 1024;
+    private static final int MAX_INDEX_CAPACITY = 1 << 26;
+    private static final int MAX_LOAD_PERCENT = 60;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final int MEETS_ATTENDANCE = 1;
+    private static final int PENALIZED = 2;
+    private static final int ADJUSTED = 4;
+
+    private final Path directory;
+    private final FileChannel log;
+    private final int flushInterval;
+    private final CRC32C checksum = new CRC32C();
+    private final Map<String, Long> pending = new HashMap<>();
+    private ByteBuffer recordBuffer = ByteBuffer.allocate(512).order(BinaryFormat.BYTE_ORDER);
+    private MappedByteBuffer index;
+    private int capacity;
+    private int entries;
+    private int pendingNew;
+    private long indexedLength;
+    private long logEnd;
+    private long truncatedBytes;
+    private boolean closed;
+
+    private GradeResultLog(Path directory, FileChannel log, int flushInterval) {
+        this.directory = directory;
+        this.log = log;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Abre o crea el registro en un directorio, con flush automático cada
+     * {@value #DEFAULT_FLUSH_INTERVAL} anexos.
+     *
+     * @param directory directorio del registro
+     * @return el registro abierto y recuperado
+     * @throws IOException si no se puede abrir o el log no tiene el formato esperado
+     */
+    public static GradeResultLog open(Path directory) throws IOException {
+        return open(directory, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Abre o crea el registro en un directorio.
+     *
+     * @param directory directorio del registro
+     * @param flushInterval anexos entre flush automáticos
+     * @return el registro abierto y recuperado
+     * @throws IOException si no se puede abrir o el log no tiene el formato esperado
+     */
+    public static GradeResultLog open(Path directory, int flushInterval) throws IOException {
+        if (flushInterval <= 0) {
+            throw new IllegalArgumentException("El intervalo de flush debe ser mayor a cero");
+        }
+        Files.createDirectories(directory);
+        FileChannel log = FileChannel.open(directory.resolve(LOG_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            GradeResultLog resultLog = new GradeResultLog(directory, log, flushInterval);
+            resultLog.recover();
+            return resultLog;
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    private void recover() throws IOException {
+        long size = log.size();
+        if (size < BinaryFormat.HEADER_SIZE) {
+            Files.deleteIfExists(directory.resolve(INDEX_FILE));
+            log.truncate(0);
+            ByteBuffer header = BinaryFormat.header(BinaryFormat.KIND_RESULT_LOG, 0, 0L);
+            while (header.hasRemaining()) {
+                log.write(header, header.position());
+            }
+            log.force(true);
+            size = BinaryFormat.HEADER_SIZE;
+        } else {
+            BinaryFormat.readHeader(read(0, BinaryFormat.HEADER_SIZE), BinaryFormat.KIND_RESULT_LOG, 0);
+        }
+        logEnd = size;
+        if (!loadIndex()) {
+            indexedLength = BinaryFormat.HEADER_SIZE;
+            entries = 0;
+            rebuildIndex(MIN_INDEX_CAPACITY);
+        }
+
+        Cursor cursor = new Cursor(indexedLength, logEnd);
+        ByteBuffer payload;
+        while ((payload = cursor.next()) != null) {
+            track(readString(payload), cursor.recordStart);
+        }
+        if (cursor.position < logEnd) {
+            truncatedBytes = logEnd - cursor.position;
+            log.truncate(cursor.position);
+            logEnd = cursor.position;
+        }
+        flush();
+    }
+
+    /**
+     * Carga el índice existente si es coherente con el log; si no, hay que reconstruirlo.
+     */
+    private boolean loadIndex() throws IOException {
+        Path path = directory.resolve(INDEX_FILE);
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(BinaryFormat.HEADER_SIZE);
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = channel.read(header, header.position());
+            }
+            header.flip();
+            long slots;
+            try {
+                slots = BinaryFormat.readHeader(header, BinaryFormat.KIND_RESULT_INDEX, SLOT_SIZE);
+            } catch (IOException e) {
+                return false;
+            }
+            long covered = header.getLong(BinaryFormat.RESERVED_OFFSET);
+            if (slots < MIN_INDEX_CAPACITY || slots > MAX_INDEX_CAPACITY || Long.bitCount(slots) != 1
+                    || channel.size() != BinaryFormat.HEADER_SIZE + slots * SLOT_SIZE
+                    || covered < BinaryFormat.HEADER_SIZE || covered > logEnd) {
+                return false;
+            }
+            index = map(channel, (int) slots);
+            capacity = (int) slots;
+            indexedLength = covered;
+            entries = 0;
+            for (int slot = 0; slot < capacity; slot++) {
+                if (index.getLong(slotPosition(slot)) != 0) {
+                    entries++;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Escribe un índice nuevo con las entradas del actual en un archivo temporal y lo
+     * reemplaza de forma atómica: tras una caída queda el índice anterior o el nuevo, entero.
+     */
+    private void rebuildIndex(int newCapacity) throws IOException {
+        Path temp = directory.resolve(INDEX_TEMP_FILE);
+        MappedByteBuffer rebuilt;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            rebuilt = map(channel, newCapacity);
+            rebuilt.put(BinaryFormat.header(BinaryFormat.KIND_RESULT_INDEX, SLOT_SIZE, newCapacity));
+            rebuilt.putLong(BinaryFormat.RESERVED_OFFSET, indexedLength);
+            int mask = newCapacity - 1;
+            for (int slot = 0; slot < capacity; slot++) {
+                long hash = index.getLong(slotPosition(slot));
+                if (hash != 0) {
+                    int target = (int) hash & mask;
+                    while (rebuilt.getLong(slotPosition(target)) != 0) {
+                        target = (target + 1) & mask;
+                    }
+                    rebuilt.putLong(slotPosition(target) + Long.BYTES, index.getLong(slotPosition(slot) + Long.BYTES));
+                    rebuilt.putLong(slotPosition(target), hash);
+                }
+            }
+            rebuilt.force();
+        }
+        Files.move(temp, directory.resolve(INDEX_FILE),
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        index = rebuilt;
+        capacity = newCapacity;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, int slots) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+            BinaryFormat.HEADER_SIZE + (long) slots * SLOT_SIZE);
+        buffer.order(BinaryFormat.BYTE_ORDER);
+        return buffer;
+    }
+
+    private static int slotPosition(int slot) {
+        return BinaryFormat.HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * Anexa un resultado al final del log.
+     *
+     * @param result el resultado
+     * @return posición del registro en el log
+     * @throws IOException si falla la escritura; el log queda como antes del anexo
+     * @throws InvalidStudentDataException si el resultado es nulo
+     */
+    public synchronized long append(GradeResult result) throws IOException {
+        ensureOpen();
+        if (result == null) {
+            throw new InvalidStudentDataException("El resultado no puede ser nulo");
+        }
+        ByteBuffer record = encode(result);
+        long offset = logEnd;
+        try {
+            long position = offset;
+            while (record.hasRemaining()) {
+                position += log.write(record, position);
+            }
+        } catch (IOException e) {
+            try {
+                log.truncate(offset);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        logEnd = offset + record.limit();
+        track(result.getStudentCode(), offset);
+        if (pending.size() >= flushInterval) {
+            flush();
+        }
+        return offset;
+    }
+
+    private void track(String code, long offset) throws IOException {
+        if (!pending.containsKey(code) && findIndexed(code) < 0) {
+            pendingNew++;
+        }
+        pending.put(code, offset);
+    }
+
+    /**
+     * Fuerza el log a disco y luego vuelca al índice las entradas pendientes.
+     *
+     * @throws IOException si falla la escritura
+     */
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        log.force(false);
+        if (pending.isEmpty() && indexedLength == logEnd) {
+            return;
+        }
+        ensureIndexCapacity(entries + pendingNew);
+        for (Map.Entry<String, Long> entry : pending.entrySet()) {
+            putIndexed(entry.getKey(), entry.getValue());
+        }
+        pending.clear();
+        pendingNew = 0;
+        index.force();
+        indexedLength = logEnd;
+        index.putLong(BinaryFormat.RESERVED_OFFSET, indexedLength);
+        index.force();
+    }
+
+    private void ensureIndexCapacity(int needed) throws IOException {
+        if ((long) needed * 100 <= (long) capacity * MAX_LOAD_PERCENT) {
+            return;
+        }
+        long slots = Math.max(MIN_INDEX_CAPACITY, (long) needed * 100 / MAX_LOAD_PERCENT + 1);
+        if (slots > MAX_INDEX_CAPACITY) {
+            throw new IOException("Demasiados códigos para el índice del registro: " + needed);
+        }
+        rebuildIndex(Integer.highestOneBit((int) slots - 1) << 1);
+    }
+
+    private void putIndexed(String code, long offset) throws IOException {
+        long hash = hash(code);
+        int mask = capacity - 1;
+        int slot = (int) hash & mask;
+        while (true) {
+            int position = slotPosition(slot);
+            long stored = index.getLong(position);
+            if (stored == 0) {
+                index.putLong(position + Long.BYTES, offset);
+                index.putLong(position, hash);
+                entries++;
+                return;
+            }
+            if (stored == hash && code.equals(codeAt(index.getLong(position + Long.BYTES)))) {
+                index.putLong(position + Long.BYTES, offset);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Posición del último registro indexado del código, o -1; ignora los pendientes.
+     */
+    private long findIndexed(String code) throws IOException {
+        long hash = hash(code);
+        int mask = capacity - 1;
+        int slot = (int) hash & mask;
+        for (int probes = 0; probes < capacity; probes++) {
+            int position = slotPosition(slot);
+            long stored = index.getLong(position);
+            if (stored == 0) {
+                return -1;
+            }
+            if (stored == hash) {
+                long offset = index.getLong(position + Long.BYTES);
+                if (code.equals(codeAt(offset))) {
+                    return offset;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Último resultado anexado para un código.
+     *
+     * @param code código del estudiante
+     * @return el resultado, o null si el código no tiene resultados
+     * @throws IOException si falla la lectura
+     */
+    public synchronized GradeResult get(String code) throws IOException {
+        ensureOpen();
+        if (code == null) {
+            return null;
+        }
+        Long offset = pending.get(code);
+        long position = offset != null ? offset : findIndexed(code);
+        if (position < 0) {
+            return null;
+        }
+        ByteBuffer payload = recordAt(position);
+        if (payload == null) {
+            throw new IOException("Registro corrupto en la posición " + position);
+        }
+        return decode(payload);
+    }
+
+    public synchronized boolean contains(String code) throws IOException {
+        ensureOpen();
+        return code != null && (pending.containsKey(code) || findIndexed(code) >= 0);
+    }
+
+    /**
+     * Recorre todos los registros en el orden en que se anexaron, incluidos los que fueron
+     * reemplazados por un resultado posterior del mismo código.
+     *
+     * @param action acción para cada resultado
+     * @throws IOException si falla la lectura o hay un registro corrupto
+     */
+    public synchronized void scan(Consumer<? super GradeResult> action) throws IOException {
+        ensureOpen();
+        Cursor cursor = new Cursor(BinaryFormat.HEADER_SIZE, logEnd);
+        ByteBuffer payload;
+        while ((payload = cursor.next()) != null) {
+            action.accept(decode(payload));
+        }
+        if (cursor.position < logEnd) {
+            throw new IOException("Registro corrupto en la posición " + cursor.position);
+        }
+    }
+
+    /**
+     * Códigos distintos con al menos un resultado.
+     *
+     * @return cantidad de códigos
+     */
+    public synchronized int size() {
+        return entries + pendingNew;
+    }
+
+    /**
+     * Tamaño del log en bytes, con la cabecera.
+     *
+     * @return bytes del log
+     */
+    public synchronized long getLogSize() {
+        return logEnd;
+    }
+
+    /**
+     * Bytes de cola rota que se truncaron al abrir el registro.
+     *
+     * @return bytes descartados en la recuperación
+     */
+    public long getTruncatedBytes() {
+        return truncatedBytes;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            log.close();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("El registro de resultados está cerrado");
+        }
+    }
+
+    private String codeAt(long offset) throws IOException {
+        ByteBuffer payload = recordAt(offset);
+        return payload != null ? readString(payload) : null;
+    }
+
+    /**
+     * Contenido del registro en una posición, o null si no hay un registro válido ahí.
+     */
+    private ByteBuffer recordAt(long offset) throws IOException {
+        if (offset < BinaryFormat.HEADER_SIZE || offset + RECORD_HEADER_SIZE > logEnd) {
+            return null;
+        }
+        ByteBuffer header = read(offset, RECORD_HEADER_SIZE);
+        int length = header.getInt(0);
+        if (length <= 0 || length > MAX_RECORD_SIZE || offset + RECORD_HEADER_SIZE + length > logEnd) {
+            return null;
+        }
+        ByteBuffer payload = read(offset + RECORD_HEADER_SIZE, length);
+        return checksum(payload) == header.getInt(Integer.BYTES) ? payload : null;
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(BinaryFormat.BYTE_ORDER);
+        while (buffer.hasRemaining()) {
+            if (log.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("El log terminó antes de lo esperado en la posición " + position);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private int checksum(ByteBuffer payload) {
+        checksum.reset();
+        checksum.update(payload.duplicate());
+        return (int) checksum.getValue();
+    }
+
+    private ByteBuffer encode(GradeResult result) {
+        byte[] code = bytesOf(result.getStudentCode());
+        if (code == null || code.length == 0) {
+            throw new InvalidStudentDataException("El código del estudiante no puede ser nulo o vacío");
+        }
+        byte[] attendanceDetail = bytesOf(result.getAttendanceDetail());
+        byte[] extraPointsDetail = bytesOf(result.getExtraPointsDetail());
+        byte[] adjustmentDetail = bytesOf(result.getAdjustmentDetail());
+        List<Evaluation> evaluations = result.getEvaluations() != null ? result.getEvaluations() : List.of();
+        byte[][] names = new byte[evaluations.size()][];
+        int length = stringSize(code) + 1 + 3 * Double.BYTES + stringSize(attendanceDetail)
+            + stringSize(extraPointsDetail) + 1 + (adjustmentDetail != null ? stringSize(adjustmentDetail) : 0);
+        for (int i = 0; i < names.length; i++) {
+            names[i] = bytesOf(evaluations.get(i).getName());
+            length += stringSize(names[i]) + 2 * Double.BYTES;
+        }
+        if (length > MAX_RECORD_SIZE || names.length > 0xFF) {
+            throw new InvalidStudentDataException("El resultado excede el tamaño máximo de registro");
+        }
+        if (recordBuffer.capacity() < RECORD_HEADER_SIZE + length) {
+            recordBuffer = ByteBuffer.allocate(Integer.highestOneBit(RECORD_HEADER_SIZE + length) << 1)
+                .order(BinaryFormat.BYTE_ORDER);
+        }
+        ByteBuffer buffer = recordBuffer.clear();
+        buffer.position(RECORD_HEADER_SIZE);
+        putString(buffer, code);
+        buffer.put((byte) ((result.isMeetsAttendance() ? MEETS_ATTENDANCE : 0)
+            | (result.isPenalizedByAttendance() ? PENALIZED : 0)
+            | (adjustmentDetail != null ? ADJUSTED : 0)));
+        buffer.putDouble(result.getWeightedAverage());
+        buffer.putDouble(result.getExtraPointsApplied());
+        buffer.putDouble(result.getFinalGrade());
+        putString(buffer, attendanceDetail);
+        putString(buffer, extraPointsDetail);
+        buffer.put((byte) names.length);
+        for (int i = 0; i < names.length; i++) {
+            putString(buffer, names[i]);
+            buffer.putDouble(evaluations.get(i).getGrade());
+            buffer.putDouble(evaluations.get(i).getWeight());
+        }
+        if (adjustmentDetail != null) {
+            putString(buffer, adjustmentDetail);
+        }
+        buffer.flip();
+        buffer.putInt(0, length);
+        buffer.putInt(Integer.BYTES, checksum(buffer.slice(RECORD_HEADER_SIZE, length)));
+        return buffer;
+    }
+
+    private static GradeResult decode(ByteBuffer payload) {
+        String code = readString(payload);
+        int flags = payload.get();
+        double weightedAverage = payload.getDouble();
+        double extraPointsApplied = payload.getDouble();
+        double finalGrade = payload.getDouble();
+        String attendanceDetail = readString(payload);
+        String extraPointsDetail = readString(payload);
+        int count = payload.get() & 0xFF;
+        List<Evaluation> evaluations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(payload);
+            evaluations.add(new Evaluation(name, payload.getDouble(), payload.getDouble()));
+        }
+        String adjustmentDetail = (flags & ADJUSTED) != 0 ? readString(payload) : null;
+        return new GradeResult.Builder()
+            .studentCode(code)
+            .evaluations(Collections.unmodifiableList(evaluations))
+            .weightedAverage(weightedAverage)
+            .meetsAttendance((flags & MEETS_ATTENDANCE) != 0)
+            .penalizedByAttendance((flags & PENALIZED) != 0)
+            .attendanceDetail(attendanceDetail)
+            .extraPointsApplied(extraPointsApplied)
+            .extraPointsDetail(extraPointsDetail)
+            .adjustmentDetail(adjustmentDetail)
+            .finalGrade(finalGrade)
+            .build();
+    }
+
+    private static byte[] bytesOf(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_LENGTH) {
+            throw new InvalidStudentDataException("El texto excede el tamaño máximo del registro de resultados");
+        }
+        return bytes;
+    }
+
+    private static int stringSize(byte[] bytes) {
+        return Short.BYTES + (bytes != null ? bytes.length : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort((short) NULL_LENGTH);
+            return;
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Hash de 64 bits del código (FNV-1a sobre sus caracteres). Se guarda en el índice, así
+     * que debe ser estable entre ejecuciones; las colisiones son improbables y, de todos
+     * modos, se resuelven comparando el código del registro. Nunca es 0, que marca una
+     * casilla vacía.
+     */
+    private static long hash(String code) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < code.length(); i++) {
+            h ^= code.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 32;
+        return h != 0 ? h : 1;
+    }
+
+    /**
+     * Lectura secuencial de registros con un buffer grande; se detiene en el final o en el
+     * primer registro incompleto o con CRC inválido.
+     */
+    private final class Cursor {
+        private final long end;
+        private ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE).order(BinaryFormat.BYTE_ORDER).limit(0);
+        /** Posición en el log del siguiente byte sin consumir del buffer. */
+        private long position;
+        private long recordStart;
+
+        Cursor(long start, long end) {
+            this.position = start;
+            this.end = end;
+        }
+
+        ByteBuffer next() throws IOException {
+            if (!fill(RECORD_HEADER_SIZE)) {
+                return null;
+            }
+            int length = buffer.getInt(buffer.position());
+            if (length <= 0 || length > MAX_RECORD_SIZE || !fill(RECORD_HEADER_SIZE + length)) {
+                return null;
+            }
+            ByteBuffer payload = buffer.slice(buffer.position() + RECORD_HEADER_SIZE, length)
+                .order(BinaryFormat.BYTE_ORDER);
+            if (checksum(payload) != buffer.getInt(buffer.position() + Integer.BYTES)) {
+                return null;
+            }
+            recordStart = position;
+            buffer.position(buffer.position() + RECORD_HEADER_SIZE + length);
+            position += RECORD_HEADER_SIZE + length;
+            return payload;
+        }
+
+        /** Deja al menos {@code bytes} sin consumir en el buffer, si el log los tiene. */
+        private boolean fill(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return true;
+            }
+            if (position + bytes > end) {
+                return false;
+            }
+            if (bytes > buffer.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(Integer.highestOneBit(bytes) << 1).order(BinaryFormat.BYTE_ORDER);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            long readFrom = position + buffer.position();
+            while (buffer.position() < bytes) {
+                int limit = (int) Math.min(buffer.capacity(), end - position);
+                buffer.limit(limit);
+                int read = log.read(buffer, readFrom);
+                if (read < 0) {
+                    break;
+                }
+                readFrom += read;
+            }
+            buffer.flip();
+            return buffer.remaining() >= bytes;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package edu.utec.cs3081.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Registros de tamaño fijo de un archivo binario mapeado en memoria.
+ * Como un MappedByteBuffer admite como máximo 2 GB, el archivo se mapea en regiones
+ * que contienen un número entero de registros.
+ */
+final class MappedRecords {
+
+    private final int recordSize;
+    private final long recordCount;
+    private final int recordsPerRegion;
+    private final MappedByteBuffer[] regions;
+
+    private MappedRecords(int recordSize, long recordCount, int recordsPerRegion, MappedByteBuffer[] regions) {
+        this.recordSize = recordSize;
+        this.recordCount = recordCount;
+        this.recordsPerRegion = recordsPerRegion;
+        this.regions = regions;
+    }
+
+    static MappedRecords open(Path path, byte kind, int recordSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(BinaryFormat.HEADER_SIZE);
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = channel.read(header, header.position());
+            }
+            header.flip();
+            long recordCount = BinaryFormat.readHeader(header, kind, recordSize);
+            long dataSize = channel.size() - BinaryFormat.HEADER_SIZE;
+            if (recordCount < 0 || recordCount * recordSize > dataSize) {
+                throw new IOException("El archivo binario está truncado");
+            }
+            int recordsPerRegion = Integer.MAX_VALUE / recordSize;
+            int regionCount = (int) ((recordCount + recordsPerRegion - 1) / recordsPerRegion);
+            MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+            for (int r = 0; r < regionCount; r++) {
+                long first = (long) r * recordsPerRegion;
+                long records = Math.min(recordsPerRegion, recordCount - first);
+                regions[r] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    BinaryFormat.HEADER_SIZE + first * recordSize, records * recordSize);
+                regions[r].order(BinaryFormat.BYTE_ORDER);
+            }
+            return new MappedRecords(recordSize, recordCount, recordsPerRegion, regions);
+        }
+    }
+
+    long size() {
+        return recordCount;
+    }
+
+    ByteBuffer region(long record) {
+        checkIndex(record);
+        return regions[(int) (record / recordsPerRegion)];
+    }
+
+    int offset(long record) {
+        return (int) (record % recordsPerRegion) * recordSize;
+    }
+
+    private void checkIndex(long record) {
+        if (record < 0 || record >= recordCount) {
+            throw new IndexOutOfBoundsException(
+                String.format("Registro %d fuera de rango (total: %d)", record, recordCount));
+        }
+    }
+}
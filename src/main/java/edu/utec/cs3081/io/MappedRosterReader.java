@@ -0,0 +1,181 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.util.DecimalParser;
+import edu.utec.cs3081.validation.RosterValidator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lector de rosters CSV mediante archivos mapeados en memoria ({@link FileChannel#map}).
+ * Usa el mismo formato que {@link CsvRosterReader}, pero interpreta códigos, notas y pesos
+ * directamente desde los bytes mapeados: no crea Strings intermedios ni usa
+ * {@link Double#parseDouble} para los valores decimales habituales. Los espacios, la asistencia
+ * y los números se interpretan con las mismas reglas que {@link RosterValidator} y
+ * {@link DecimalParser}.
+ * Los archivos mayores a una ventana se recorren en ventanas sucesivas alineadas a
+ * inicio de línea, por lo que se admiten archivos de varios gigabytes.
+ */
+public class MappedRosterReader implements Closeable {
+
+    /**
+     * Recibe cada fila leída; la fila es un flyweight reutilizado entre llamadas.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        void onRow(RosterRow row);
+    }
+
+    static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private static final int FIELDS_PER_EVALUATION = 3;
+
+    private final FileChannel channel;
+    private final int windowSize;
+    private final RosterRow row = new RosterRow();
+    private final int[] fieldStarts = new int[2 + FIELDS_PER_EVALUATION * Student.getMaxEvaluations()];
+    private final int[] fieldEnds = new int[fieldStarts.length];
+
+    /**
+     * Abre el archivo indicado para lectura.
+     *
+     * @param path ruta del roster CSV
+     * @throws IOException si no se puede abrir el archivo
+     */
+    public MappedRosterReader(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedRosterReader(Path path, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Recorre todas las filas del archivo.
+     * Las líneas vacías y las que empiezan con {@code #} se ignoran; las filas con
+     * formato inválido se entregan con {@link RosterRow#isValid()} en false.
+     *
+     * @param handler receptor de cada fila
+     * @return número de filas entregadas
+     * @throws IOException si falla la lectura o una línea no cabe en una ventana
+     */
+    public long read(RowHandler handler) throws IOException {
+        long size = channel.size();
+        long windowStart = 0;
+        long lineNumber = 0;
+        long rows = 0;
+        while (windowStart < size) {
+            int length = (int) Math.min(windowSize, size - windowStart);
+            boolean lastWindow = windowStart + length == size;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+            int position = 0;
+            while (position < length) {
+                int end = indexOfNewline(window, position, length);
+                if (end < 0) {
+                    if (!lastWindow) {
+                        break;
+                    }
+                    end = length;
+                }
+                lineNumber++;
+                if (parseLine(window, position, trimCarriageReturn(window, position, end), lineNumber)) {
+                    handler.onRow(row);
+                    rows++;
+                }
+                position = end + 1;
+            }
+            if (position == 0 && !lastWindow) {
+                throw new IOException(String.format(
+                    "La línea %d excede el tamaño máximo de ventana (%d bytes)", lineNumber + 1, windowSize));
+            }
+            windowStart += Math.min(position, length);
+        }
+        return rows;
+    }
+
+    private static int indexOfNewline(MappedByteBuffer window, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int trimCarriageReturn(MappedByteBuffer window, int start, int end) {
+        return end > start && window.get(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    private boolean parseLine(MappedByteBuffer window, int start, int end, long lineNumber) {
+        if (RosterValidator.isIgnoredLine(window::get, start, end)) {
+            return false;
+        }
+        row.reset(window, lineNumber);
+        int fields = splitFields(window, start, end);
+        int evaluationFields = fields - 2;
+        if (fields < 0 || evaluationFields <= 0 || evaluationFields % FIELDS_PER_EVALUATION != 0) {
+            row.fail("se esperaba codigo,asistencia y hasta "
+                + Student.getMaxEvaluations() + " ternas nombre,nota,peso");
+            return true;
+        }
+        if (fieldStarts[0] == fieldEnds[0]) {
+            row.fail("el código del estudiante no puede ser vacío");
+            return true;
+        }
+        row.setCode(fieldStarts[0], fieldEnds[0]);
+        int attendance = RosterValidator.parseAttendance(window, fieldStarts[1], fieldEnds[1]);
+        if (attendance < 0) {
+            row.fail("indicador de asistencia inválido");
+            return true;
+        }
+        row.setAttendance(attendance == 1);
+        for (int field = 2; field < fields; field += FIELDS_PER_EVALUATION) {
+            double grade = parseDecimal(window, fieldStarts[field + 1], fieldEnds[field + 1]);
+            double weight = parseDecimal(window, fieldStarts[field + 2], fieldEnds[field + 2]);
+            if (Double.isNaN(grade) || Double.isNaN(weight)) {
+                row.fail("valor numérico inválido");
+                return true;
+            }
+            row.addEvaluation(fieldStarts[field], fieldEnds[field], grade, weight);
+        }
+        return true;
+    }
+
+    private int splitFields(MappedByteBuffer window, int start, int end) {
+        int count = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || window.get(i) == ',') {
+                if (count == fieldStarts.length) {
+                    return -1;
+                }
+                fieldStarts[count] = RosterValidator.trimStart(window::get, fieldStart, i);
+                fieldEnds[count] = RosterValidator.trimEnd(window::get, fieldStarts[count], i);
+                count++;
+                fieldStart = i + 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Interpreta un decimal directamente desde los bytes con el mismo recorrido que
+     * {@link DecimalParser#parse(DecimalParser.CharSource, int, int)}.
+     *
+     * @return el valor, o NaN si el texto no es un número válido
+     */
+    static double parseDecimal(MappedByteBuffer window, int start, int end) {
+        return DecimalParser.parse(window::get, start, end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,167 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.calculator.ColumnarCohort;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Vista reutilizable (flyweight) de una fila de roster leída por {@link MappedRosterReader}.
+ * Las notas y pesos ya vienen convertidos a double; el código y los nombres de las
+ * evaluaciones se mantienen como rangos de bytes y solo se convierten a String cuando
+ * se solicitan. La instancia se reutiliza para la siguiente fila, por lo que no debe
+ * conservarse fuera del callback.
+ */
+public final class RosterRow {
+
+    private final double[] grades = new double[Student.getMaxEvaluations()];
+    private final double[] weights = new double[Student.getMaxEvaluations()];
+    private final int[] nameStarts = new int[Student.getMaxEvaluations()];
+    private final int[] nameEnds = new int[Student.getMaxEvaluations()];
+
+    private ByteBuffer buffer;
+    private long lineNumber;
+    private int codeStart;
+    private int codeEnd;
+    private boolean attendance;
+    private int evaluationCount;
+    private String error;
+
+    RosterRow() {
+    }
+
+    void reset(ByteBuffer source, long line) {
+        this.buffer = source;
+        this.lineNumber = line;
+        this.codeStart = 0;
+        this.codeEnd = 0;
+        this.attendance = false;
+        this.evaluationCount = 0;
+        this.error = null;
+    }
+
+    void setCode(int start, int end) {
+        this.codeStart = start;
+        this.codeEnd = end;
+    }
+
+    void setAttendance(boolean attendance) {
+        this.attendance = attendance;
+    }
+
+    void addEvaluation(int nameStart, int nameEnd, double grade, double weight) {
+        nameStarts[evaluationCount] = nameStart;
+        nameEnds[evaluationCount] = nameEnd;
+        grades[evaluationCount] = grade;
+        weights[evaluationCount] = weight;
+        evaluationCount++;
+    }
+
+    void fail(String message) {
+        this.error = message;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Indica si la fila se pudo interpretar.
+     *
+     * @return true si la fila es válida
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * Descripción del problema de formato de la fila.
+     *
+     * @return mensaje de error, o null si la fila es válida
+     */
+    public String getError() {
+        return error == null ? null : String.format("Línea %d: %s", lineNumber, error);
+    }
+
+    public int getCodeLength() {
+        return codeEnd - codeStart;
+    }
+
+    /**
+     * Copia los bytes UTF-8 del código en el arreglo destino sin crear un String.
+     *
+     * @param destination arreglo destino con al menos {@link #getCodeLength()} posiciones
+     * @return número de bytes copiados
+     */
+    public int copyCode(byte[] destination) {
+        int length = getCodeLength();
+        buffer.get(codeStart, destination, 0, length);
+        return length;
+    }
+
+    /**
+     * Crea el String del código del estudiante.
+     *
+     * @return código del estudiante
+     */
+    public String getCode() {
+        return decode(codeStart, codeEnd);
+    }
+
+    public boolean hasReachedMinimumClasses() {
+        return attendance;
+    }
+
+    public int getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public double getGrade(int index) {
+        return grades[index];
+    }
+
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * Crea el String del nombre de una evaluación.
+     *
+     * @param index posición de la evaluación en la fila
+     * @return nombre de la evaluación
+     */
+    public String getEvaluationName(int index) {
+        return decode(nameStarts[index], nameEnds[index]);
+    }
+
+    /**
+     * Materializa la fila como un Student con sus evaluaciones.
+     *
+     * @return el estudiante
+     */
+    public Student toStudent() {
+        Student student = new Student(getCode(), attendance);
+        for (int i = 0; i < evaluationCount; i++) {
+            student.addEvaluation(new Evaluation(getEvaluationName(i), grades[i], weights[i]));
+        }
+        return student;
+    }
+
+    /**
+     * Agrega la fila a una cohorte columnar sin crear objetos Evaluation.
+     *
+     * @param cohort la cohorte destino
+     * @return posición asignada en la cohorte
+     */
+    public int addTo(ColumnarCohort cohort) {
+        return cohort.add(getCode(), attendance, grades, weights, evaluationCount);
+    }
+
+    private String decode(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+package edu.utec.cs3081.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro de métricas del cálculo de notas: histogramas de latencia por etapa y
+ * contadores de estudiantes calculados, penalizados por asistencia, con puntos extra y
+ * con error. Se comparte entre hilos y se consulta con {@link #snapshot()}.
+ *
+ * <p>El registro deshabilitado ({@link #disabled()}) no mide nada: quien lo usa revisa
+ * {@link #isEnabled()} una vez por cálculo y evita incluso las llamadas a
+ * {@link System#nanoTime()}.</p>
+ */
+public class GradeMetrics {
+
+    public static final String VALIDATION = "validation";
+    public static final String AVERAGING = "averaging";
+    public static final String RESULT_BUILD = "result_build";
+    public static final String TOTAL = "total";
+
+    private static final GradeMetrics DISABLED = new GradeMetrics(false);
+
+    private final boolean enabled;
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+    private final LongAdder graded = new LongAdder();
+    private final LongAdder penalizedByAttendance = new LongAdder();
+    private final LongAdder extraPointsApplied = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Constructor de un registro habilitado.
+     */
+    public GradeMetrics() {
+        this(true);
+    }
+
+    private GradeMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Registro compartido que no mide nada.
+     *
+     * @return registro deshabilitado
+     */
+    public static GradeMetrics disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Obtiene (o crea) el histograma de una etapa. Conviene resolverlo una vez y guardar
+     * la referencia.
+     *
+     * @param stage nombre de la etapa
+     * @return histograma de la etapa
+     */
+    public synchronized LatencyHistogram histogram(String stage) {
+        return histograms.computeIfAbsent(stage, LatencyHistogram::new);
+    }
+
+    /**
+     * Registra el desenlace de un cálculo exitoso.
+     *
+     * @param penalized si el estudiante fue penalizado por asistencia
+     * @param receivedExtraPoints si se sumaron puntos extra
+     */
+    public void recordGraded(boolean penalized, boolean receivedExtraPoints) {
+        if (!enabled) {
+            return;
+        }
+        graded.increment();
+        if (penalized) {
+            penalizedByAttendance.increment();
+        }
+        if (receivedExtraPoints) {
+            extraPointsApplied.increment();
+        }
+    }
+
+    /**
+     * Registra un cálculo que terminó con error.
+     */
+    public void recordFailure() {
+        if (enabled) {
+            failed.increment();
+        }
+    }
+
+    /**
+     * Copia del estado actual de contadores e histogramas, en orden de registro.
+     *
+     * @return instantánea de las métricas
+     */
+    public MetricsSnapshot snapshot() {
+        List<LatencyHistogram> registered;
+        synchronized (this) {
+            registered = new ArrayList<>(histograms.values());
+        }
+        Map<String, HistogramSnapshot> stages = new LinkedHashMap<>();
+        for (LatencyHistogram histogram : registered) {
+            stages.put(histogram.getName(), histogram.snapshot());
+        }
+        return new MetricsSnapshot(graded.sum(), penalizedByAttendance.sum(), extraPointsApplied.sum(),
+            failed.sum(), stages);
+    }
+}
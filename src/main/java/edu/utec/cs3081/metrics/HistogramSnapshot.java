@@ -0,0 +1,82 @@
+package edu.utec.cs3081.metrics;
+
+/**
+ * Instantánea inmutable de un {@link LatencyHistogram}.
+ */
+public final class HistogramSnapshot {
+
+    private final String name;
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+    private final long[] counts;
+
+    HistogramSnapshot(String name, long count, long sum, long min, long max, long[] counts) {
+        this.name = name;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.counts = counts;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Valor bajo el cual cae la fracción indicada de las mediciones (límite superior de
+     * su cubeta, acotado por el máximo observado).
+     *
+     * @param quantile fracción entre 0 y 1
+     * @return latencia en nanosegundos, o 0 si no hay mediciones
+     */
+    public long getValueAtQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1 || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException("El cuantil debe estar entre 0 y 1");
+        }
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[count=%d, mean=%.1fns, p50=%dns, p99=%dns, max=%dns]",
+            name, count, getMean(), getValueAtQuantile(0.5), getValueAtQuantile(0.99), max);
+    }
+}
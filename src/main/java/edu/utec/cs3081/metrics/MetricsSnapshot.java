@@ -0,0 +1,89 @@
+package edu.utec.cs3081.metrics;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Instantánea inmutable de {@link GradeMetrics}, exportable en formato de texto de
+ * Prometheus con {@link #writeTo(Appendable)}.
+ */
+public final class MetricsSnapshot {
+
+    private static final double[] EXPORTED_QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final long graded;
+    private final long penalizedByAttendance;
+    private final long extraPointsApplied;
+    private final long failed;
+    private final Map<String, HistogramSnapshot> stages;
+
+    MetricsSnapshot(long graded, long penalizedByAttendance, long extraPointsApplied, long failed,
+                    Map<String, HistogramSnapshot> stages) {
+        this.graded = graded;
+        this.penalizedByAttendance = penalizedByAttendance;
+        this.extraPointsApplied = extraPointsApplied;
+        this.failed = failed;
+        this.stages = Collections.unmodifiableMap(stages);
+    }
+
+    public long getGraded() {
+        return graded;
+    }
+
+    public long getPenalizedByAttendance() {
+        return penalizedByAttendance;
+    }
+
+    public long getExtraPointsApplied() {
+        return extraPointsApplied;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public Map<String, HistogramSnapshot> getStages() {
+        return stages;
+    }
+
+    /**
+     * Histograma de una etapa.
+     *
+     * @param stage nombre de la etapa
+     * @return instantánea del histograma, o null si la etapa no se midió
+     */
+    public HistogramSnapshot getStage(String stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * Escribe las métricas en formato de texto de Prometheus.
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeTo(Appendable out) throws IOException {
+        writeCounter(out, "grading_students_graded_total", graded);
+        writeCounter(out, "grading_students_penalized_by_attendance_total", penalizedByAttendance);
+        writeCounter(out, "grading_students_extra_points_total", extraPointsApplied);
+        writeCounter(out, "grading_students_failed_total", failed);
+        out.append("# TYPE grading_stage_latency_nanoseconds summary\n");
+        for (HistogramSnapshot stage : stages.values()) {
+            for (double quantile : EXPORTED_QUANTILES) {
+                out.append("grading_stage_latency_nanoseconds{stage=\"").append(stage.getName())
+                    .append("\",quantile=\"").append(Double.toString(quantile)).append("\"} ")
+                    .append(Long.toString(stage.getValueAtQuantile(quantile))).append('\n');
+            }
+            out.append("grading_stage_latency_nanoseconds_sum{stage=\"").append(stage.getName()).append("\"} ")
+                .append(Long.toString(stage.getSum())).append('\n');
+            out.append("grading_stage_latency_nanoseconds_count{stage=\"").append(stage.getName()).append("\"} ")
+                .append(Long.toString(stage.getCount())).append('\n');
+        }
+    }
+
+    private static void writeCounter(Appendable out, String name, long value) throws IOException {
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append(name).append(' ').append(Long.toString(value)).append('\n');
+    }
+}
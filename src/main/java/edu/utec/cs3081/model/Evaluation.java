@@ -7,10 +7,10 @@ import edu.utec.cs3081.exception.InvalidEvaluationException;
  */
 public class Evaluation {
     
-    private static final double MIN_GRADE = 0.0;
-    private static final double MAX_GRADE = 20.0;
-    private static final double MIN_WEIGHT = 0.0;
-    private static final double MAX_WEIGHT = 1.0;
+    public static final double MIN_GRADE = 0.0;
+    public static final double MAX_GRADE = 20.0;
+    public static final double MIN_WEIGHT = 0.0;
+    public static final double MAX_WEIGHT = 1.0;
     
     private final String name;
     private final double grade;
@@ -8,20 +8,30 @@ import java.util.List;
 
 /**
  * Representa un estudiante con sus evaluaciones y estado de asistencia.
+ * Mantiene sumas acumuladas de pesos y notas ponderadas. Una vez sellado, con sus
+ * evaluaciones ya validadas, no admite más cambios y la calculadora no vuelve a validarlo.
  */
-public class Student {
+public class Student implements StudentRecord {
     
+    public static final double EXPECTED_TOTAL_WEIGHT = 1.0;
+    public static final double WEIGHT_TOLERANCE = 0.001;
+
     private static final int MAX_EVALUATIONS = 10;
     
     private final String code;
     private final List<Evaluation> evaluations;
+    private final List<Evaluation> evaluationsView;
     private final boolean hasReachedMinimumClasses;
+    private double totalWeight;
+    private double weightedGradeSum;
+    private boolean sealed;
 
     public Student(String code, boolean hasReachedMinimumClasses) {
         validateCode(code);
         this.code = code;
         this.hasReachedMinimumClasses = hasReachedMinimumClasses;
         this.evaluations = new ArrayList<>();
+        this.evaluationsView = Collections.unmodifiableList(evaluations);
     }
 
     private void validateCode(String code) {
@@ -31,6 +41,7 @@ public class Student {
     }
 
     public void addEvaluation(Evaluation evaluation) {
+        ensureNotSealed();
         if (evaluation == null) {
             throw new InvalidStudentDataException("La evaluación no puede ser nula");
         }
@@ -39,6 +50,8 @@ public class Student {
                 String.format("No se pueden agregar más de %d evaluaciones", MAX_EVALUATIONS));
         }
         evaluations.add(evaluation);
+        totalWeight += evaluation.getWeight();
+        weightedGradeSum += evaluation.getWeightedGrade();
     }
 
     public void addEvaluations(List<Evaluation> newEvaluations) {
@@ -50,18 +63,126 @@ public class Student {
         }
     }
 
+    /**
+     * Reemplaza la evaluación en la posición indicada y actualiza los totales acumulados.
+     *
+     * @param index posición de la evaluación a reemplazar
+     * @param evaluation la nueva evaluación
+     * @return la evaluación reemplazada
+     */
+    public Evaluation replaceEvaluation(int index, Evaluation evaluation) {
+        ensureNotSealed();
+        if (evaluation == null) {
+            throw new InvalidStudentDataException("La evaluación no puede ser nula");
+        }
+        validateIndex(index);
+        Evaluation previous = evaluations.set(index, evaluation);
+        recomputeTotals();
+        return previous;
+    }
+
+    /**
+     * Elimina la evaluación en la posición indicada y actualiza los totales acumulados.
+     *
+     * @param index posición de la evaluación a eliminar
+     * @return la evaluación eliminada
+     */
+    public Evaluation removeEvaluation(int index) {
+        ensureNotSealed();
+        validateIndex(index);
+        Evaluation removed = evaluations.remove(index);
+        recomputeTotals();
+        return removed;
+    }
+
+    /**
+     * Valida las evaluaciones (al menos una y pesos que suman 1.0) y congela al estudiante.
+     * Sellar un estudiante ya sellado no tiene efecto.
+     *
+     * @throws InvalidStudentDataException si las evaluaciones no forman un cálculo válido
+     */
+    public void seal() {
+        if (sealed) {
+            return;
+        }
+        if (evaluations.isEmpty()) {
+            throw new InvalidStudentDataException("El estudiante debe tener al menos una evaluación");
+        }
+        if (!hasValidTotalWeight()) {
+            throw new InvalidStudentDataException(StudentRecord.describeInvalidTotalWeight(totalWeight));
+        }
+        sealed = true;
+    }
+
+    /**
+     * Indica si el estudiante fue sellado con evaluaciones válidas.
+     *
+     * @return true si está sellado
+     */
+    public boolean isSealed() {
+        return sealed;
+    }
+
+    private void ensureNotSealed() {
+        if (sealed) {
+            throw new InvalidStudentDataException(
+                String.format("El estudiante %s está sellado; no se pueden modificar sus evaluaciones", code));
+        }
+    }
+
+    private void validateIndex(int index) {
+        if (index < 0 || index >= evaluations.size()) {
+            throw new InvalidStudentDataException(
+                String.format("No existe la evaluación en la posición %d", index));
+        }
+    }
+
+    /**
+     * Vuelve a sumar en orden las evaluaciones (como máximo MAX_EVALUATIONS), de modo que
+     * los totales coincidan exactamente con un cálculo completo, sin importar el historial
+     * de cambios (RNF03).
+     */
+    private void recomputeTotals() {
+        double weights = 0.0;
+        double weightedGrades = 0.0;
+        for (Evaluation evaluation : evaluations) {
+            weights += evaluation.getWeight();
+            weightedGrades += evaluation.getWeightedGrade();
+        }
+        totalWeight = weights;
+        weightedGradeSum = weightedGrades;
+    }
+
     public String getCode() {
         return code;
     }
 
     public List<Evaluation> getEvaluations() {
-        return Collections.unmodifiableList(evaluations);
+        return evaluationsView;
     }
 
     public boolean hasReachedMinimumClasses() {
         return hasReachedMinimumClasses;
     }
 
+    /**
+     * Suma acumulada de los pesos de las evaluaciones.
+     *
+     * @return suma de pesos
+     */
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Suma acumulada de nota × peso de las evaluaciones, en el orden en que fueron agregadas.
+     *
+     * @return suma ponderada de notas
+     */
+    public double getWeightedGradeSum() {
+        return weightedGradeSum;
+    }
+
     public int getEvaluationCount() {
         return evaluations.size();
     }
@@ -0,0 +1,75 @@
+package edu.utec.cs3081.model;
+
+import java.util.List;
+
+/**
+ * Lado de lectura de un estudiante: lo que necesitan la calculadora y las políticas.
+ * Lo implementa {@link Student} y también las vistas sobre almacenamientos que no guardan
+ * un objeto por estudiante, como las cohortes fuera del heap.
+ */
+public interface StudentRecord {
+
+    String getCode();
+
+    boolean hasReachedMinimumClasses();
+
+    int getEvaluationCount();
+
+    /**
+     * Evaluaciones del estudiante, en el orden en que fueron agregadas.
+     *
+     * @return lista inmutable de evaluaciones
+     */
+    List<Evaluation> getEvaluations();
+
+    /**
+     * Suma de los pesos de las evaluaciones.
+     *
+     * @return suma de pesos
+     */
+    double getTotalWeight();
+
+    /**
+     * Suma de nota × peso de las evaluaciones, en el orden en que fueron agregadas.
+     *
+     * @return suma ponderada de notas
+     */
+    double getWeightedGradeSum();
+
+    /**
+     * Indica si las evaluaciones ya fueron validadas; la calculadora no vuelve a validarlas.
+     *
+     * @return true si está sellado
+     */
+    boolean isSealed();
+
+    /**
+     * Indica si la suma de pesos es 1.0 dentro de la tolerancia.
+     *
+     * @return true si los pesos están completos
+     */
+    default boolean hasValidTotalWeight() {
+        return isValidTotalWeight(getTotalWeight());
+    }
+
+    /**
+     * Regla única de suma de pesos: 1.0 con tolerancia {@link Student#WEIGHT_TOLERANCE}.
+     * La usan el estudiante, la calculadora, los motores por columnas y la validación masiva.
+     *
+     * @param totalWeight suma de pesos
+     * @return true si la suma es válida
+     */
+    static boolean isValidTotalWeight(double totalWeight) {
+        return Math.abs(totalWeight - Student.EXPECTED_TOTAL_WEIGHT) <= Student.WEIGHT_TOLERANCE;
+    }
+
+    /**
+     * Mensaje de error para una suma de pesos inválida.
+     *
+     * @param totalWeight suma de pesos recibida
+     * @return el mensaje
+     */
+    static String describeInvalidTotalWeight(double totalWeight) {
+        return String.format("La suma de pesos debe ser 1.0 (100%%). Suma actual: %.2f", totalWeight);
+    }
+}
@@ -1,12 +1,12 @@
 package edu.utec.cs3081.policy;
 
-import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.model.StudentRecord;
 
 /**
  * Política de asistencia mínima según el reglamento de UTEC.
  * Determina si un estudiante cumple con la asistencia requerida.
  */
-public class AttendancePolicy {
+public class AttendancePolicy implements GradePolicy {
     
     private static final double PENALTY_FOR_NO_ATTENDANCE = 0.0;
     
@@ -16,7 +16,7 @@ public class AttendancePolicy {
      * @param student el estudiante a verificar
      * @return true si cumple con la asistencia mínima
      */
-    public boolean meetsMinimumAttendance(Student student) {
+    public boolean meetsMinimumAttendance(StudentRecord student) {
         if (student == null) {
             return false;
         }
@@ -31,7 +31,7 @@ public class AttendancePolicy {
      * @param calculatedGrade la nota calculada antes de aplicar la política
      * @return la nota después de aplicar la política de asistencia
      */
-    public double applyPolicy(Student student, double calculatedGrade) {
+    public double applyPolicy(StudentRecord student, double calculatedGrade) {
         if (!meetsMinimumAttendance(student)) {
             return PENALTY_FOR_NO_ATTENDANCE;
         }
@@ -44,10 +44,41 @@ public class AttendancePolicy {
      * @param student el estudiante
      * @return descripción de la política aplicada
      */
-    public String getPolicyDescription(Student student) {
+    public String getPolicyDescription(StudentRecord student) {
         if (!meetsMinimumAttendance(student)) {
             return "No cumple asistencia mínima - Nota final: 0.00";
         }
         return "Cumple con asistencia mínima";
     }
+
+    /**
+     * Etapa del pipeline: si no cumple la asistencia, la nota final es 0 y no se aplican
+     * las políticas siguientes.
+     *
+     * @param context estado del cálculo
+     */
+    @Override
+    public void apply(GradeContext context) {
+        StudentRecord student = context.getStudent();
+        if (meetsMinimumAttendance(student)) {
+            context.recordAttendance(getPolicyDescription(student));
+        } else {
+            context.penalizeForAttendance(PENALTY_FOR_NO_ATTENDANCE, getPolicyDescription(student));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "attendance";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().getName().hashCode();
+    }
 }
@@ -1,20 +1,25 @@
 package edu.utec.cs3081.policy;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Política de puntos extra aplicada según el año académico.
- * Los docentes definen colectivamente en qué años se otorgan puntos extra.
+ * Los docentes definen colectivamente en qué años se otorgan puntos extra y, si se desea,
+ * un monto distinto para cada año. La consulta por año usa una tabla primitiva, sin
+ * conversión a Integer en cada cálculo.
  */
-public class ExtraPointsPolicy {
+public class ExtraPointsPolicy implements GradePolicy {
     
     private static final double DEFAULT_EXTRA_POINTS = 2.0;
     private static final double MAX_GRADE = 20.0;
     
-    private final Set<Integer> yearsWithExtraPoints;
+    private final Map<Integer, Double> extraPointsByYear;
+    private final YearBonusTable bonusTable;
     private final double extraPoints;
 
     /**
@@ -33,10 +38,47 @@ public class ExtraPointsPolicy {
      * @param extraPoints cantidad de puntos extra a otorgar
      */
     public ExtraPointsPolicy(List<Integer> allYearsTeachers, double extraPoints) {
-        this.yearsWithExtraPoints = allYearsTeachers != null 
-            ? new HashSet<>(allYearsTeachers) 
-            : new HashSet<>();
-        this.extraPoints = Math.max(0, extraPoints);
+        this(allYearsTeachers, extraPoints, null);
+    }
+
+    /**
+     * Constructor con años que reciben el monto general y años con monto propio.
+     * Si un año aparece en ambos, prevalece su monto propio.
+     *
+     * @param allYearsTeachers lista de años donde se otorga el monto general
+     * @param extraPoints monto general de puntos extra
+     * @param extraPointsByYear puntos extra específicos por año
+     */
+    public ExtraPointsPolicy(List<Integer> allYearsTeachers, double extraPoints,
+                             Map<Integer, Double> extraPointsByYear) {
+        this.extraPoints = normalize(extraPoints);
+        Map<Integer, Double> bonuses = new TreeMap<>();
+        if (allYearsTeachers != null) {
+            for (Integer year : allYearsTeachers) {
+                bonuses.put(year, this.extraPoints);
+            }
+        }
+        if (extraPointsByYear != null) {
+            for (Map.Entry<Integer, Double> entry : extraPointsByYear.entrySet()) {
+                bonuses.put(entry.getKey(), normalize(entry.getValue()));
+            }
+        }
+        this.extraPointsByYear = Collections.unmodifiableMap(bonuses);
+        this.bonusTable = new YearBonusTable(bonuses);
+    }
+
+    /**
+     * Crea una política con montos de puntos extra específicos por año.
+     *
+     * @param extraPointsByYear puntos extra a otorgar en cada año
+     * @return la política configurada
+     */
+    public static ExtraPointsPolicy perYear(Map<Integer, Double> extraPointsByYear) {
+        return new ExtraPointsPolicy(null, DEFAULT_EXTRA_POINTS, extraPointsByYear);
+    }
+
+    private static double normalize(Double extraPoints) {
+        return extraPoints != null && extraPoints > 0 ? extraPoints : 0.0;
     }
 
     /**
@@ -46,7 +88,7 @@ public class ExtraPointsPolicy {
      * @return true si se otorgan puntos extra para ese año
      */
     public boolean hasExtraPoints(int academicYear) {
-        return yearsWithExtraPoints.contains(academicYear);
+        return !Double.isNaN(bonusTable.bonusFor(academicYear));
     }
 
     /**
@@ -58,10 +100,11 @@ public class ExtraPointsPolicy {
      * @return la nota con puntos extra aplicados (máximo 20)
      */
     public double applyExtraPoints(double grade, int academicYear) {
-        if (!hasExtraPoints(academicYear)) {
+        double bonus = bonusTable.bonusFor(academicYear);
+        if (Double.isNaN(bonus)) {
             return grade;
         }
-        return Math.min(grade + extraPoints, MAX_GRADE);
+        return Math.min(grade + bonus, MAX_GRADE);
     }
 
     /**
@@ -71,7 +114,8 @@ public class ExtraPointsPolicy {
      * @return cantidad de puntos extra (0 si no aplica)
      */
     public double getExtraPointsForYear(int academicYear) {
-        return hasExtraPoints(academicYear) ? extraPoints : 0.0;
+        double bonus = bonusTable.bonusFor(academicYear);
+        return Double.isNaN(bonus) ? 0.0 : bonus;
     }
 
     /**
@@ -81,8 +125,9 @@ public class ExtraPointsPolicy {
      * @return descripción de la política
      */
     public String getPolicyDescription(int academicYear) {
-        if (hasExtraPoints(academicYear)) {
-            return String.format("Puntos extra aplicados: +%.2f (año %d)", extraPoints, academicYear);
+        double bonus = bonusTable.bonusFor(academicYear);
+        if (!Double.isNaN(bonus)) {
+            return String.format("Puntos extra aplicados: +%.2f (año %d)", bonus, academicYear);
         }
         return String.format("Sin puntos extra para el año %d", academicYear);
     }
@@ -93,15 +138,60 @@ public class ExtraPointsPolicy {
      * @return conjunto inmutable de años con puntos extra
      */
     public Set<Integer> getYearsWithExtraPoints() {
-        return Collections.unmodifiableSet(yearsWithExtraPoints);
+        return extraPointsByYear.keySet();
+    }
+
+    /**
+     * Obtiene los puntos extra configurados para cada año.
+     *
+     * @return mapa inmutable de año a puntos extra, ordenado por año
+     */
+    public Map<Integer, Double> getExtraPointsByYear() {
+        return extraPointsByYear;
     }
 
     /**
-     * Obtiene la cantidad de puntos extra configurada.
+     * Obtiene la cantidad general de puntos extra configurada. Los años con monto propio
+     * usan {@link #getExtraPointsForYear(int)}.
      * 
      * @return puntos extra
      */
     public double getExtraPoints() {
         return extraPoints;
     }
+
+    /**
+     * Etapa del pipeline: suma los puntos extra del año a la nota en curso.
+     *
+     * @param context estado del cálculo
+     */
+    @Override
+    public void apply(GradeContext context) {
+        int academicYear = context.getAcademicYear();
+        context.applyExtraPoints(applyExtraPoints(context.getGrade(), academicYear),
+            getPolicyDescription(academicYear));
+    }
+
+    @Override
+    public String getName() {
+        return "extra_points";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ExtraPointsPolicy other = (ExtraPointsPolicy) o;
+        return Double.compare(extraPoints, other.extraPoints) == 0
+            && extraPointsByYear.equals(other.extraPointsByYear);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(extraPointsByYear, extraPoints);
+    }
 }
@@ -0,0 +1,59 @@
+package edu.utec.cs3081.policy;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+
+/**
+ * Política que limita la nota final a un máximo definido por el curso
+ * (por ejemplo, cursos de recuperación con nota máxima 14).
+ */
+public class GradeCapPolicy implements GradePolicy {
+
+    private final double maxGrade;
+
+    /**
+     * Constructor con la nota máxima permitida.
+     *
+     * @param maxGrade nota máxima (entre 0 y 20)
+     */
+    public GradeCapPolicy(double maxGrade) {
+        if (!(maxGrade >= Evaluation.MIN_GRADE && maxGrade <= Evaluation.MAX_GRADE)) {
+            throw new GradeCalculationException(
+                String.format("La nota máxima debe estar entre %.0f y %.0f", Evaluation.MIN_GRADE, Evaluation.MAX_GRADE));
+        }
+        this.maxGrade = maxGrade;
+    }
+
+    @Override
+    public void apply(GradeContext context) {
+        if (context.getGrade() > maxGrade) {
+            context.applyAdjustment(maxGrade,
+                String.format("Nota limitada a %.2f (nota máxima del curso)", maxGrade));
+        }
+    }
+
+    public double getMaxGrade() {
+        return maxGrade;
+    }
+
+    @Override
+    public String getName() {
+        return "grade_cap";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Double.compare(maxGrade, ((GradeCapPolicy) o).maxGrade) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(maxGrade);
+    }
+}
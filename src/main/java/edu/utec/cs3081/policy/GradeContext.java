@@ -0,0 +1,161 @@
+package edu.utec.cs3081.policy;
+
+import edu.utec.cs3081.model.StudentRecord;
+
+/**
+ * Estado de la nota de un estudiante mientras recorre el pipeline de políticas.
+ * Parte del promedio ponderado y acumula los ajustes y textos de detalle de cada etapa.
+ */
+public class GradeContext {
+
+    static final String NO_ATTENDANCE_POLICY_DETAIL = "No configurada política de asistencia";
+    static final String NO_EXTRA_POINTS_POLICY_DETAIL = "No configurada política de puntos extra";
+    static final String EXTRA_POINTS_SKIPPED_DETAIL = "No aplica (penalizado por asistencia)";
+    private static final String ADJUSTMENT_SEPARATOR = "; ";
+
+    private final StudentRecord student;
+    private final int academicYear;
+    private final double weightedAverage;
+    private double grade;
+    private double extraPointsApplied;
+    private boolean meetsAttendance = true;
+    private boolean penalizedByAttendance;
+    private String attendanceDetail = NO_ATTENDANCE_POLICY_DETAIL;
+    private String extraPointsDetail = NO_EXTRA_POINTS_POLICY_DETAIL;
+    private String adjustmentDetail;
+    private boolean stopped;
+
+    /**
+     * Constructor con los datos de entrada del cálculo.
+     *
+     * @param student el estudiante
+     * @param academicYear el año académico
+     * @param weightedAverage promedio ponderado ya validado
+     */
+    public GradeContext(StudentRecord student, int academicYear, double weightedAverage) {
+        this.student = student;
+        this.academicYear = academicYear;
+        this.weightedAverage = weightedAverage;
+        this.grade = weightedAverage;
+    }
+
+    public StudentRecord getStudent() {
+        return student;
+    }
+
+    public int getAcademicYear() {
+        return academicYear;
+    }
+
+    public double getWeightedAverage() {
+        return weightedAverage;
+    }
+
+    public double getGrade() {
+        return grade;
+    }
+
+    /**
+     * Reemplaza la nota en curso sin dejar rastro en el detalle. Las políticas que ajustan
+     * la nota deben usar {@link #applyAdjustment} para que el resultado se pueda conciliar.
+     *
+     * @param grade la nueva nota
+     */
+    public void setGrade(double grade) {
+        this.grade = grade;
+    }
+
+    public double getExtraPointsApplied() {
+        return extraPointsApplied;
+    }
+
+    public boolean isMeetsAttendance() {
+        return meetsAttendance;
+    }
+
+    public boolean isPenalizedByAttendance() {
+        return penalizedByAttendance;
+    }
+
+    public String getAttendanceDetail() {
+        return attendanceDetail;
+    }
+
+    public String getExtraPointsDetail() {
+        return extraPointsDetail;
+    }
+
+    /**
+     * Ajustes aplicados por las políticas del curso, separados por "; ".
+     *
+     * @return el detalle, o null si ninguna política ajustó la nota
+     */
+    public String getAdjustmentDetail() {
+        return adjustmentDetail;
+    }
+
+    /**
+     * Registra que el estudiante cumple con la asistencia.
+     *
+     * @param detail descripción de la política aplicada
+     */
+    public void recordAttendance(String detail) {
+        this.meetsAttendance = true;
+        this.attendanceDetail = detail;
+    }
+
+    /**
+     * Penaliza por asistencia: fija la nota y detiene las etapas siguientes.
+     *
+     * @param penaltyGrade nota final del estudiante penalizado
+     * @param detail descripción de la política aplicada
+     */
+    public void penalizeForAttendance(double penaltyGrade, String detail) {
+        this.grade = penaltyGrade;
+        this.meetsAttendance = false;
+        this.penalizedByAttendance = true;
+        this.attendanceDetail = detail;
+        this.extraPointsApplied = 0;
+        this.extraPointsDetail = EXTRA_POINTS_SKIPPED_DETAIL;
+        this.stopped = true;
+    }
+
+    /**
+     * Registra la nota con puntos extra; la diferencia con la nota previa se acumula como
+     * puntos extra aplicados.
+     *
+     * @param gradeWithExtra nota después de aplicar los puntos extra
+     * @param detail descripción de la política aplicada
+     */
+    public void applyExtraPoints(double gradeWithExtra, String detail) {
+        this.extraPointsApplied += gradeWithExtra - grade;
+        this.grade = gradeWithExtra;
+        this.extraPointsDetail = detail;
+    }
+
+    /**
+     * Ajusta la nota por una política del curso (por ejemplo, un tope) y registra el motivo.
+     * Si el ajuste baja la nota, los puntos extra aplicados se reducen a lo que efectivamente
+     * queda sobre el promedio ponderado, para que promedio, puntos extra, ajuste y nota final
+     * sigan cuadrando.
+     *
+     * @param adjustedGrade la nueva nota
+     * @param detail descripción del ajuste
+     */
+    public void applyAdjustment(double adjustedGrade, String detail) {
+        this.grade = adjustedGrade;
+        this.extraPointsApplied = Math.max(0, Math.min(extraPointsApplied, adjustedGrade - weightedAverage));
+        this.adjustmentDetail = adjustmentDetail == null ? detail : adjustmentDetail + ADJUSTMENT_SEPARATOR + detail;
+    }
+
+    /**
+     * Detiene el pipeline: las políticas siguientes no se aplican.
+     */
+    public void stop() {
+        this.stopped = true;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+}
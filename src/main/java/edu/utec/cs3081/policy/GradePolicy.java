@@ -0,0 +1,25 @@
+package edu.utec.cs3081.policy;
+
+/**
+ * Etapa del cálculo de nota final que se aplica después del promedio ponderado.
+ * Las políticas se encadenan en un {@link PolicyPipeline}; cada una lee y ajusta el
+ * {@link GradeContext} y puede detener las etapas siguientes.
+ */
+public interface GradePolicy {
+
+    /**
+     * Aplica la política sobre el cálculo en curso.
+     *
+     * @param context estado del cálculo del estudiante
+     */
+    void apply(GradeContext context);
+
+    /**
+     * Nombre corto de la política, usado para identificar su etapa en las métricas.
+     *
+     * @return nombre de la política
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
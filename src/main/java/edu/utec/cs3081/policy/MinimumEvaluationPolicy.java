@@ -0,0 +1,92 @@
+package edu.utec.cs3081.policy;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Política de nota mínima en una evaluación específica (por ejemplo, el examen final).
+ * Si el estudiante no alcanza la nota mínima en esa evaluación, su nota final no puede
+ * superar la nota tope indicada. Si el estudiante no tiene la evaluación, no se aplica.
+ */
+public class MinimumEvaluationPolicy implements GradePolicy {
+
+    private final String evaluationName;
+    private final double minimumGrade;
+    private final double maxGradeIfNotMet;
+
+    /**
+     * Constructor con la evaluación y los umbrales.
+     *
+     * @param evaluationName nombre de la evaluación exigida
+     * @param minimumGrade nota mínima requerida en esa evaluación
+     * @param maxGradeIfNotMet nota final máxima si no se alcanza el mínimo
+     */
+    public MinimumEvaluationPolicy(String evaluationName, double minimumGrade, double maxGradeIfNotMet) {
+        if (evaluationName == null || evaluationName.trim().isEmpty()) {
+            throw new GradeCalculationException("El nombre de la evaluación no puede estar vacío");
+        }
+        if (!(minimumGrade >= Evaluation.MIN_GRADE && minimumGrade <= Evaluation.MAX_GRADE)
+                || !(maxGradeIfNotMet >= Evaluation.MIN_GRADE && maxGradeIfNotMet <= Evaluation.MAX_GRADE)) {
+            throw new GradeCalculationException(
+                String.format("Las notas de la política deben estar entre %.0f y %.0f",
+                    Evaluation.MIN_GRADE, Evaluation.MAX_GRADE));
+        }
+        this.evaluationName = evaluationName;
+        this.minimumGrade = minimumGrade;
+        this.maxGradeIfNotMet = maxGradeIfNotMet;
+    }
+
+    @Override
+    public void apply(GradeContext context) {
+        List<Evaluation> evaluations = context.getStudent().getEvaluations();
+        for (int i = 0; i < evaluations.size(); i++) {
+            Evaluation evaluation = evaluations.get(i);
+            if (evaluation.getName().equals(evaluationName)) {
+                if (evaluation.getGrade() < minimumGrade && context.getGrade() > maxGradeIfNotMet) {
+                    context.applyAdjustment(maxGradeIfNotMet, String.format(
+                        "Nota limitada a %.2f (%s menor a %.2f)", maxGradeIfNotMet, evaluationName, minimumGrade));
+                }
+                return;
+            }
+        }
+    }
+
+    public String getEvaluationName() {
+        return evaluationName;
+    }
+
+    public double getMinimumGrade() {
+        return minimumGrade;
+    }
+
+    public double getMaxGradeIfNotMet() {
+        return maxGradeIfNotMet;
+    }
+
+    @Override
+    public String getName() {
+        return "minimum_evaluation";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MinimumEvaluationPolicy other = (MinimumEvaluationPolicy) o;
+        return Double.compare(minimumGrade, other.minimumGrade) == 0
+            && Double.compare(maxGradeIfNotMet, other.maxGradeIfNotMet) == 0
+            && evaluationName.equals(other.evaluationName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(evaluationName, minimumGrade, maxGradeIfNotMet);
+    }
+}
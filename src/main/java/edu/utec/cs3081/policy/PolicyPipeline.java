@@ -0,0 +1,108 @@
+package edu.utec.cs3081.policy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Secuencia inmutable de políticas que se aplica a cada nota, en el orden en que se
+ * agregaron. Se arma una vez por curso y se comparte entre todos los cálculos: las
+ * etapas quedan en un arreglo plano, sin nulos ni configuración que revisar en cada
+ * estudiante. Una etapa que detiene el contexto (por ejemplo, la penalización por
+ * asistencia) evita las siguientes.
+ */
+public final class PolicyPipeline {
+
+    private final GradePolicy[] stages;
+    private final int hash;
+
+    private PolicyPipeline(GradePolicy[] stages) {
+        this.stages = stages;
+        this.hash = Arrays.hashCode(stages);
+    }
+
+    /**
+     * Pipeline estándar: asistencia mínima y, si se configuró, puntos extra.
+     *
+     * @param attendancePolicy política de asistencia
+     * @param extraPointsPolicy política de puntos extra, o null
+     * @return el pipeline compilado
+     */
+    public static PolicyPipeline standard(AttendancePolicy attendancePolicy, ExtraPointsPolicy extraPointsPolicy) {
+        return new Builder().add(attendancePolicy).add(extraPointsPolicy).build();
+    }
+
+    /**
+     * Aplica las etapas en orden hasta terminar o hasta que una detenga el contexto.
+     *
+     * @param context estado del cálculo
+     */
+    public void apply(GradeContext context) {
+        for (GradePolicy stage : stages) {
+            stage.apply(context);
+            if (context.isStopped()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Aplica una sola etapa; permite a quien recorre el pipeline medir cada etapa.
+     *
+     * @param index posición de la etapa
+     * @param context estado del cálculo
+     */
+    public void applyStage(int index, GradeContext context) {
+        stages[index].apply(context);
+    }
+
+    public int size() {
+        return stages.length;
+    }
+
+    public List<GradePolicy> getStages() {
+        return Collections.unmodifiableList(Arrays.asList(stages));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PolicyPipeline)) {
+            return false;
+        }
+        PolicyPipeline other = (PolicyPipeline) o;
+        return hash == other.hash && Arrays.equals(stages, other.stages);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Builder para armar el pipeline etapa por etapa.
+     */
+    public static class Builder {
+        private final List<GradePolicy> stages = new ArrayList<>();
+
+        /**
+         * Agrega una etapa al final; las políticas nulas se ignoran.
+         *
+         * @param policy la política a agregar
+         * @return este builder
+         */
+        public Builder add(GradePolicy policy) {
+            if (policy != null) {
+                stages.add(policy);
+            }
+            return this;
+        }
+
+        public PolicyPipeline build() {
+            return new PolicyPipeline(stages.toArray(new GradePolicy[0]));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package edu.utec.cs3081.policy;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Tabla inmutable de puntos extra por año académico, con claves primitivas.
+ * Si los años caben en un rango corto se usa un arreglo indexado por desplazamiento desde
+ * el primer año; si están muy dispersos, una tabla hash de direccionamiento abierto.
+ * En ambos casos la consulta es de tiempo constante y no crea objetos.
+ */
+final class YearBonusTable {
+
+    static final double ABSENT = Double.NaN;
+
+    private static final int MAX_DENSE_SPAN = 1024;
+
+    private final int firstYear;
+    private final double[] dense;
+    private final int[] keys;
+    private final double[] values;
+    private final int mask;
+
+    /**
+     * @param bonusesByYear puntos extra por año; los montos no pueden ser NaN
+     */
+    YearBonusTable(Map<Integer, Double> bonusesByYear) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int year : bonusesByYear.keySet()) {
+            min = Math.min(min, year);
+            max = Math.max(max, year);
+        }
+        long span = bonusesByYear.isEmpty() ? 0 : (long) max - min + 1;
+        if (span <= MAX_DENSE_SPAN) {
+            this.firstYear = min;
+            this.dense = new double[(int) span];
+            Arrays.fill(dense, ABSENT);
+            for (Map.Entry<Integer, Double> entry : bonusesByYear.entrySet()) {
+                dense[entry.getKey() - min] = entry.getValue();
+            }
+            this.keys = null;
+            this.values = null;
+            this.mask = 0;
+        } else {
+            int capacity = Integer.highestOneBit(bonusesByYear.size() * 2 - 1) << 1;
+            this.firstYear = 0;
+            this.dense = null;
+            this.keys = new int[capacity];
+            this.values = new double[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(values, ABSENT);
+            for (Map.Entry<Integer, Double> entry : bonusesByYear.entrySet()) {
+                int slot = slot(entry.getKey());
+                while (!Double.isNaN(values[slot])) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = entry.getKey();
+                values[slot] = entry.getValue();
+            }
+        }
+    }
+
+    /**
+     * Puntos extra del año.
+     *
+     * @param year el año académico
+     * @return monto configurado, o {@link #ABSENT} si el año no otorga puntos extra
+     */
+    double bonusFor(int year) {
+        if (dense != null) {
+            long offset = (long) year - firstYear;
+            return offset >= 0 && offset < dense.length ? dense[(int) offset] : ABSENT;
+        }
+        int slot = slot(year);
+        double value;
+        while (!Double.isNaN(value = values[slot])) {
+            if (keys[slot] == year) {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private int slot(int year) {
+        int hash = year * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,226 @@
+package edu.utec.cs3081.ranking;
+
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Ranking completo de una cohorte por nota final, inmutable.
+ *
+ * <p>Aprovecha que las notas están acotadas entre {@link Evaluation#MIN_GRADE} y
+ * {@link Evaluation#MAX_GRADE}: se ordena por conteo sobre claves de punto fijo con dos
+ * decimales (2001 casillas) en O(n), y solo los estudiantes que comparten casilla se
+ * ordenan entre sí por nota exacta y código. No se comparan códigos fuera de una casilla.</p>
+ *
+ * <p>Las posiciones usan ranking de competencia ("1, 2, 2, 4"): estudiantes con la misma
+ * nota exacta comparten posición y se listan por código.</p>
+ */
+public final class GradeRanking {
+
+    public static final double TOP_THIRD = 1.0 / 3.0;
+    public static final double TOP_FIFTH = 1.0 / 5.0;
+
+    private static final double KEY_SCALE = 100.0;
+    private static final int KEY_COUNT = (int) Math.round((Evaluation.MAX_GRADE - Evaluation.MIN_GRADE) * KEY_SCALE) + 1;
+    private static final int INSERTION_SORT_LIMIT = 16;
+
+    private final GradeResult[] ordered;
+    private final int[] ranks;
+
+    private GradeRanking(GradeResult[] ordered, int[] ranks) {
+        this.ordered = ordered;
+        this.ranks = ranks;
+    }
+
+    /**
+     * Ordena los resultados de una cohorte.
+     *
+     * @param results resultados a ordenar
+     * @return el ranking
+     * @throws GradeCalculationException si la colección o algún resultado es nulo
+     */
+    public static GradeRanking of(Collection<GradeResult> results) {
+        if (results == null) {
+            throw new GradeCalculationException("La colección de resultados no puede ser nula");
+        }
+        GradeResult[] input = results.toArray(new GradeResult[0]);
+        int n = input.length;
+        double[] grades = new double[n];
+        String[] codes = new String[n];
+        int[] keys = new int[n];
+        int[] bucketStart = new int[KEY_COUNT + 1];
+        for (int i = 0; i < n; i++) {
+            if (input[i] == null) {
+                throw new GradeCalculationException("El resultado en la posición " + i + " es nulo");
+            }
+            grades[i] = input[i].getFinalGrade();
+            codes[i] = input[i].getStudentCode();
+            keys[i] = descendingKey(grades[i]);
+            bucketStart[keys[i] + 1]++;
+        }
+        for (int key = 0; key < KEY_COUNT; key++) {
+            bucketStart[key + 1] += bucketStart[key];
+        }
+        int[] order = new int[n];
+        int[] next = bucketStart.clone();
+        for (int i = 0; i < n; i++) {
+            order[next[keys[i]]++] = i;
+        }
+        int[] scratch = new int[n];
+        for (int key = 0; key < KEY_COUNT; key++) {
+            if (bucketStart[key + 1] - bucketStart[key] > 1) {
+                sort(order, bucketStart[key], bucketStart[key + 1], scratch, grades, codes);
+            }
+        }
+
+        GradeResult[] ordered = new GradeResult[n];
+        int[] ranks = new int[n];
+        for (int position = 0; position < n; position++) {
+            int index = order[position];
+            ordered[position] = input[index];
+            boolean tied = position > 0 && grades[index] == grades[order[position - 1]];
+            ranks[position] = tied ? ranks[position - 1] : position + 1;
+        }
+        return new GradeRanking(ordered, ranks);
+    }
+
+    /**
+     * Clave de punto fijo invertida, de modo que las notas más altas quedan primero.
+     */
+    private static int descendingKey(double grade) {
+        long key = Math.round((grade - Evaluation.MIN_GRADE) * KEY_SCALE);
+        if (!(key >= 0)) {
+            key = 0;
+        }
+        return KEY_COUNT - 1 - (int) Math.min(KEY_COUNT - 1, key);
+    }
+
+    /**
+     * Ordena por mezcla los índices de una casilla; las casillas pequeñas, por inserción.
+     */
+    private static void sort(int[] order, int from, int to, int[] scratch, double[] grades, String[] codes) {
+        if (to - from <= INSERTION_SORT_LIMIT) {
+            for (int i = from + 1; i < to; i++) {
+                int current = order[i];
+                int j = i - 1;
+                while (j >= from && before(current, order[j], grades, codes)) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = current;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sort(order, from, middle, scratch, grades, codes);
+        sort(order, middle, to, scratch, grades, codes);
+        System.arraycopy(order, from, scratch, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int k = from; k < to; k++) {
+            if (right >= to || (left < middle && !before(scratch[right], scratch[left], grades, codes))) {
+                order[k] = scratch[left++];
+            } else {
+                order[k] = scratch[right++];
+            }
+        }
+    }
+
+    private static boolean before(int first, int second, double[] grades, String[] codes) {
+        return RankingOrder.compare(grades[first], codes[first], grades[second], codes[second]) < 0;
+    }
+
+    public int size() {
+        return ordered.length;
+    }
+
+    /**
+     * Resultado en una posición del ranking.
+     *
+     * @param position posición desde 0
+     * @return el resultado
+     */
+    public GradeResult get(int position) {
+        return ordered[position];
+    }
+
+    /**
+     * Puesto de competencia del resultado en una posición: igual al de la posición anterior
+     * si tienen la misma nota exacta.
+     *
+     * @param position posición desde 0
+     * @return puesto desde 1
+     */
+    public int rankAt(int position) {
+        return ranks[position];
+    }
+
+    /**
+     * Los {@code n} primeros del ranking.
+     *
+     * @param n cantidad de resultados
+     * @return vista inmutable de los primeros resultados
+     */
+    public List<GradeResult> top(int n) {
+        return asList().subList(0, Math.max(0, Math.min(n, ordered.length)));
+    }
+
+    /**
+     * Resultados dentro de la fracción superior de la cohorte, como el tercio o el quinto
+     * superior: todos los que tienen un puesto menor o igual a {@code ⌈fracción · n⌉},
+     * de modo que un empate en el corte incluye a todos los empatados.
+     *
+     * @param fraction fracción entre 0 y 1, por ejemplo {@link #TOP_THIRD}
+     * @return vista inmutable de los resultados dentro del corte
+     * @throws GradeCalculationException si la fracción está fuera de [0, 1]
+     */
+    public List<GradeResult> topFraction(double fraction) {
+        int limit = cutoffRank(fraction);
+        int end = 0;
+        while (end < ordered.length && ranks[end] <= limit) {
+            end++;
+        }
+        return asList().subList(0, end);
+    }
+
+    /**
+     * Nota mínima para estar en la fracción superior.
+     *
+     * @param fraction fracción entre 0 y 1
+     * @return nota de corte, o NaN si el corte no incluye a nadie
+     */
+    public double cutoffGrade(double fraction) {
+        List<GradeResult> top = topFraction(fraction);
+        return top.isEmpty() ? Double.NaN : top.get(top.size() - 1).getFinalGrade();
+    }
+
+    private int cutoffRank(double fraction) {
+        if (!(fraction >= 0.0 && fraction <= 1.0)) {
+            throw new GradeCalculationException("La fracción debe estar entre 0 y 1: " + fraction);
+        }
+        return (int) Math.ceil(fraction * ordered.length - 1e-9);
+    }
+
+    /**
+     * Ranking completo, del primero al último.
+     *
+     * @return vista inmutable
+     */
+    public List<GradeResult> asList() {
+        return new AbstractList<>() {
+            @Override
+            public GradeResult get(int index) {
+                return ordered[index];
+            }
+
+            @Override
+            public int size() {
+                return ordered.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package edu.utec.cs3081.ranking;
+
+/**
+ * Orden de un ranking: nota final exacta de mayor a menor y, a igual nota, código del
+ * estudiante en orden ascendente. Así dos ejecuciones sobre la misma cohorte producen el
+ * mismo ranking sin importar el orden de llegada de los resultados.
+ */
+final class RankingOrder {
+
+    private RankingOrder() {
+    }
+
+    /**
+     * @return negativo si el primero va antes en el ranking, positivo si va después
+     */
+    static int compare(double firstGrade, String firstCode, double secondGrade, String secondCode) {
+        int byGrade = Double.compare(secondGrade, firstGrade);
+        return byGrade != 0 ? byGrade : firstCode.compareTo(secondCode);
+    }
+}
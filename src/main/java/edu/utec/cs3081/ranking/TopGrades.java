@@ -0,0 +1,162 @@
+package edu.utec.cs3081.ranking;
+
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.GradeCalculationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Los {@code k} mejores resultados de un flujo, con memoria proporcional a {@code k}.
+ * Mantiene un montículo binario cuya raíz es el peor de los conservados: cada resultado
+ * nuevo se compara solo con la raíz y, si es mejor, la reemplaza en O(log k). Las notas y
+ * códigos se guardan en arreglos paralelos para comparar sin desempaquetar.
+ *
+ * <p>El desempate es el de {@link GradeRanking}: nota exacta y luego código ascendente.
+ * No es seguro para uso concurrente; cada hilo usa el suyo y se combinan con {@link #combine}.</p>
+ */
+public class TopGrades {
+
+    private final int capacity;
+    private final double[] grades;
+    private final String[] codes;
+    private final GradeResult[] results;
+    private int size;
+
+    /**
+     * @param capacity cantidad de resultados a conservar
+     * @throws GradeCalculationException si la capacidad no es positiva
+     */
+    public TopGrades(int capacity) {
+        if (capacity <= 0) {
+            throw new GradeCalculationException("La cantidad de mejores resultados debe ser mayor a cero");
+        }
+        this.capacity = capacity;
+        this.grades = new double[capacity];
+        this.codes = new String[capacity];
+        this.results = new GradeResult[capacity];
+    }
+
+    /**
+     * Colector de los {@code k} mejores resultados, también para flujos paralelos.
+     *
+     * @param capacity cantidad de resultados a conservar
+     * @return colector que produce la lista del mejor al peor
+     */
+    public static Collector<GradeResult, TopGrades, List<GradeResult>> collector(int capacity) {
+        return Collector.of(() -> new TopGrades(capacity), TopGrades::accept, TopGrades::combine,
+            TopGrades::toList, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Considera un resultado.
+     *
+     * @param result resultado de un estudiante
+     */
+    public void accept(GradeResult result) {
+        double grade = result.getFinalGrade();
+        String code = result.getStudentCode();
+        if (size < capacity) {
+            grades[size] = grade;
+            codes[size] = code;
+            results[size] = result;
+            siftUp(size++);
+        } else if (RankingOrder.compare(grade, code, grades[0], codes[0]) < 0) {
+            grades[0] = grade;
+            codes[0] = code;
+            results[0] = result;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Incorpora los resultados conservados por otro acumulador.
+     *
+     * @param other acumulador a incorporar; no se modifica
+     * @return este acumulador
+     */
+    public TopGrades combine(TopGrades other) {
+        for (int i = 0; i < other.size; i++) {
+            accept(other.results[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Resultados conservados, del mejor al peor.
+     *
+     * @return lista inmutable
+     */
+    public List<GradeResult> toList() {
+        List<GradeResult> ordered = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ordered.add(results[i]);
+        }
+        ordered.sort((first, second) -> RankingOrder.compare(
+            first.getFinalGrade(), first.getStudentCode(), second.getFinalGrade(), second.getStudentCode()));
+        return Collections.unmodifiableList(ordered);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * El peor de los conservados: la nota que hay que superar para entrar.
+     *
+     * @return nota mínima conservada, o NaN si está vacío
+     */
+    public double getThresholdGrade() {
+        return size > 0 ? grades[0] : Double.NaN;
+    }
+
+    /** true si {@code i} va después que {@code j} en el ranking (peor), es decir, más cerca de la raíz. */
+    private boolean worse(int i, int j) {
+        return RankingOrder.compare(grades[i], codes[i], grades[j], codes[j]) > 0;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worse(index, parent)) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = right < size && worse(right, left) ? right : left;
+            if (!worse(worst, index)) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        double grade = grades[i];
+        grades[i] = grades[j];
+        grades[j] = grade;
+        String code = codes[i];
+        codes[i] = codes[j];
+        codes[j] = code;
+        GradeResult result = results[i];
+        results[i] = results[j];
+        results[j] = result;
+    }
+}
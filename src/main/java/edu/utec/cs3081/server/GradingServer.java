@@ -0,0 +1,311 @@
+package edu.utec.cs3081.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import edu.utec.cs3081.batch.CsvBatchGrader;
+import edu.utec.cs3081.calculator.CalculatorRegistry;
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.io.CsvResultWriter;
+import edu.utec.cs3081.io.CsvRosterReader;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.validation.RosterValidator;
+import edu.utec.cs3081.validation.ValidationErrors;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Servicio HTTP embebido de cálculo de notas, basado en {@code com.sun.net.httpserver}.
+ *
+ * <p>Rutas (ambas con {@code POST} y parámetros {@code anio} obligatorio y {@code extra}
+ * opcional con los años con puntos extra separados por coma):</p>
+ * <ul>
+ *   <li>{@value #GRADE_PATH}: el cuerpo es una fila del roster CSV
+ *       ({@code codigo,asistencia,nombre,nota,peso...}); responde el encabezado y la fila
+ *       de resultado en CSV, 400 si la fila es inválida, 413 si el cuerpo supera
+ *       {@value #MAX_ROW_BYTES} bytes o 422 si no se puede calcular.</li>
+ *   <li>{@value #BATCH_PATH}: el cuerpo es un roster CSV completo; la respuesta se escribe
+ *       a medida que se lee, con el mismo formato que el modo por lotes.</li>
+ * </ul>
+ *
+ * <p>Las calculadoras se comparten entre solicitudes mediante un {@link CalculatorRegistry}.
+ * El ejecutor es configurable; por defecto se usan hilos virtuales si el JDK los ofrece.</p>
+ */
+public class GradingServer implements Closeable {
+
+    public static final String GRADE_PATH = "/notas";
+    public static final String BATCH_PATH = "/notas/lote";
+    public static final int DEFAULT_PORT = 8080;
+    public static final int MAX_ROW_BYTES = 8 * 1024;
+
+    private static final String CSV_CONTENT_TYPE = "text/csv; charset=utf-8";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=utf-8";
+    private static final int STREAMED = 0;
+    private static final int NO_BODY = -1;
+
+    private final HttpServer server;
+    private final CalculatorRegistry calculators;
+    private final ExecutorService ownedExecutor;
+
+    private GradingServer(Builder builder) throws IOException {
+        this.calculators = builder.calculators != null ? builder.calculators : new CalculatorRegistry();
+        this.server = HttpServer.create(builder.address, builder.backlog);
+        Executor executor = builder.executor;
+        this.ownedExecutor = executor == null ? ServerExecutors.defaultExecutor() : null;
+        server.setExecutor(executor != null ? executor : ownedExecutor);
+        server.createContext(GRADE_PATH, exchange -> handle(exchange, this::gradeStudent));
+        server.createContext(BATCH_PATH, exchange -> handle(exchange, this::gradeRoster));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Empieza a atender solicitudes.
+     *
+     * @return este servidor
+     */
+    public GradingServer start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * Puerto en el que escucha el servidor; útil al configurar el puerto 0.
+     *
+     * @return puerto local
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Calculadoras compartidas por el servidor.
+     *
+     * @return el registro de calculadoras
+     */
+    public CalculatorRegistry getCalculators() {
+        return calculators;
+    }
+
+    /**
+     * Deja de aceptar conexiones y libera el ejecutor si fue creado por el servidor.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private void gradeStudent(HttpExchange exchange, int academicYear, GradeCalculator calculator)
+            throws IOException {
+        byte[] body = exchange.getRequestBody().readNBytes(MAX_ROW_BYTES + 1);
+        if (body.length > MAX_ROW_BYTES) {
+            sendText(exchange, 413, String.format("El cuerpo excede el máximo de %d bytes por fila", MAX_ROW_BYTES));
+            return;
+        }
+        String line = firstRow(body);
+        if (line == null) {
+            sendText(exchange, 400, "El cuerpo debe contener una fila del roster");
+            return;
+        }
+        ValidationErrors errors = new ValidationErrors();
+        Student student = RosterValidator.parseStudent(line, 1, errors);
+        if (student == null) {
+            StringBuilder message = new StringBuilder();
+            for (int i = 0; i < errors.size(); i++) {
+                message.append(errors.getMessage(i)).append('\n');
+            }
+            sendText(exchange, 400, message.toString());
+            return;
+        }
+        GradeResult result;
+        try {
+            result = calculator.calculateFinalGrade(student, academicYear);
+        } catch (RuntimeException e) {
+            sendText(exchange, 422, e.getMessage());
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", CSV_CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, STREAMED);
+        try (Writer out = responseWriter(exchange)) {
+            CsvResultWriter writer = new CsvResultWriter(out);
+            writer.writeHeader();
+            writer.writeResult(result);
+        }
+    }
+
+    private void gradeRoster(HttpExchange exchange, int academicYear, GradeCalculator calculator)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CSV_CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, STREAMED);
+        try (Writer out = responseWriter(exchange)) {
+            new CsvBatchGrader(calculator).run(
+                new CsvRosterReader(exchange.getRequestBody()), new CsvResultWriter(out), academicYear);
+        }
+    }
+
+    private void handle(HttpExchange exchange, GradingHandler handler) throws IOException {
+        try (exchange) {
+            try {
+                dispatch(exchange, handler);
+            } catch (RuntimeException e) {
+                if (exchange.getResponseCode() == NO_BODY) {
+                    sendText(exchange, 500, "Error interno: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void dispatch(HttpExchange exchange, GradingHandler handler) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+            sendText(exchange, 404, "Ruta no encontrada");
+            return;
+        }
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            sendText(exchange, 405, "Solo se admite POST");
+            return;
+        }
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        String year = queryParameter(rawQuery, "anio");
+        if (year == null) {
+            sendText(exchange, 400, "Falta el parámetro anio");
+            return;
+        }
+        int academicYear;
+        List<Integer> yearsWithExtra;
+        try {
+            academicYear = Integer.parseInt(year.trim());
+            yearsWithExtra = parseYears(queryParameter(rawQuery, "extra"));
+        } catch (NumberFormatException e) {
+            sendText(exchange, 400, "Año inválido: " + e.getMessage());
+            return;
+        }
+        handler.handle(exchange, academicYear, calculators.forYears(yearsWithExtra));
+    }
+
+    private static String firstRow(byte[] body) {
+        String text = new String(body, StandardCharsets.UTF_8);
+        for (String line : text.split("\n")) {
+            String row = line.strip();
+            if (!row.isEmpty() && row.charAt(0) != '#') {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    private static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            if (name.equals(URLDecoder.decode(key, StandardCharsets.UTF_8))) {
+                return separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static List<Integer> parseYears(String value) {
+        List<Integer> years = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return years;
+        }
+        for (String year : value.split(",")) {
+            years.add(Integer.parseInt(year.trim()));
+        }
+        return years;
+    }
+
+    private static Writer responseWriter(HttpExchange exchange) {
+        return new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = (message != null ? message : "").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length == 0 ? NO_BODY : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @FunctionalInterface
+    private interface GradingHandler {
+        void handle(HttpExchange exchange, int academicYear, GradeCalculator calculator) throws IOException;
+    }
+
+    /**
+     * Builder para configurar el servidor.
+     */
+    public static class Builder {
+        private InetSocketAddress address = new InetSocketAddress(DEFAULT_PORT);
+        private int backlog;
+        private Executor executor;
+        private CalculatorRegistry calculators;
+
+        /**
+         * Puerto en todas las interfaces; 0 elige un puerto libre.
+         */
+        public Builder port(int port) {
+            this.address = new InetSocketAddress(port);
+            return this;
+        }
+
+        public Builder address(InetSocketAddress address) {
+            this.address = address;
+            return this;
+        }
+
+        /**
+         * Conexiones pendientes admitidas por el socket; 0 usa el valor del sistema.
+         */
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * Ejecutor de las solicitudes; no se cierra junto con el servidor.
+         * Si no se indica, se usa {@link ServerExecutors#defaultExecutor()}.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder calculators(CalculatorRegistry calculators) {
+            this.calculators = calculators;
+            return this;
+        }
+
+        /**
+         * Crea el servidor y abre el socket, sin empezar a atender.
+         *
+         * @return el servidor
+         * @throws IOException si no se puede abrir el socket
+         */
+        public GradingServer build() throws IOException {
+            return new GradingServer(this);
+        }
+    }
+}
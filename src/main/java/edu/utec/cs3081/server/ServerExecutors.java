@@ -0,0 +1,89 @@
+package edu.utec.cs3081.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecutores para atender solicitudes del {@link GradingServer}.
+ * El proyecto compila para Java 17; los hilos virtuales se obtienen por reflexión y solo
+ * están disponibles cuando el servidor corre sobre un JDK que los incluye (21 o superior).
+ */
+public final class ServerExecutors {
+
+    private static final Method VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+
+    private ServerExecutors() {
+    }
+
+    /**
+     * Pool fijo de hilos de plataforma.
+     *
+     * @param threads cantidad de hilos
+     * @return ejecutor con hilos daemon llamados {@code notas-http-N}
+     * @throws IllegalArgumentException si la cantidad no es positiva
+     */
+    public static ExecutorService platform(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("La cantidad de hilos debe ser mayor a cero");
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(task, "notas-http-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, factory);
+    }
+
+    /**
+     * Indica si el JDK en ejecución ofrece hilos virtuales.
+     *
+     * @return true si {@link #virtual()} puede usarse
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Ejecutor con un hilo virtual por solicitud.
+     *
+     * @return el ejecutor
+     * @throws UnsupportedOperationException si el JDK no ofrece hilos virtuales
+     */
+    public static ExecutorService virtual() {
+        if (VIRTUAL_EXECUTOR_FACTORY == null) {
+            throw new UnsupportedOperationException(
+                "El JDK en ejecución no ofrece hilos virtuales: " + Runtime.version());
+        }
+        try {
+            return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se pudo crear el ejecutor de hilos virtuales", e);
+        }
+    }
+
+    /**
+     * Ejecutor por defecto: hilos virtuales si están disponibles; si no, un pool de
+     * plataforma con dos hilos por procesador, ya que cada solicitud bloquea al leer y
+     * escribir el cuerpo.
+     *
+     * @return el ejecutor
+     */
+    public static ExecutorService defaultExecutor() {
+        if (isVirtualThreadsSupported()) {
+            return virtual();
+        }
+        return platform(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package edu.utec.cs3081.statistics;
+
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collector;
+
+/**
+ * Acumulador de estadísticas de una cohorte calculadas en una sola pasada: cantidad, media,
+ * desviación estándar, mínimo, máximo, tasa de aprobados, tasa de penalizados por asistencia,
+ * tasa con puntos extra e histograma sobre la escala de {@link Evaluation#MIN_GRADE} a
+ * {@link Evaluation#MAX_GRADE}.
+ *
+ * <p>La media y la varianza se actualizan con el algoritmo de Welford, numéricamente estable.
+ * Dos acumuladores se combinan con la fórmula de Chan, así que cada hilo puede acumular su
+ * parte de la cohorte y luego unirse sin volver a recorrer los resultados. Una instancia no
+ * es segura para uso concurrente; se usa una por hilo y se combinan con {@link #combine}.</p>
+ */
+public class CohortStatistics {
+
+    public static final double DEFAULT_PASSING_GRADE = 11.0;
+    public static final int DEFAULT_HISTOGRAM_BINS = 20;
+
+    private final double passingGrade;
+    private final long[] histogram;
+    private final double binWidth;
+    private long count;
+    private double mean;
+    private double sumOfSquaredDeviations;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private long passed;
+    private long penalized;
+    private long withExtraPoints;
+    private long failures;
+
+    /**
+     * Constructor con nota aprobatoria 11 y un intervalo de histograma por punto.
+     */
+    public CohortStatistics() {
+        this(DEFAULT_PASSING_GRADE, DEFAULT_HISTOGRAM_BINS);
+    }
+
+    /**
+     * Constructor con nota aprobatoria e intervalos del histograma.
+     *
+     * @param passingGrade nota mínima para aprobar
+     * @param histogramBins cantidad de intervalos de igual ancho entre la nota mínima y máxima
+     * @throws GradeCalculationException si la nota está fuera de escala o no hay intervalos
+     */
+    public CohortStatistics(double passingGrade, int histogramBins) {
+        if (!(passingGrade >= Evaluation.MIN_GRADE && passingGrade <= Evaluation.MAX_GRADE)) {
+            throw new GradeCalculationException(
+                String.format("La nota aprobatoria debe estar entre %.0f y %.0f", Evaluation.MIN_GRADE, Evaluation.MAX_GRADE));
+        }
+        if (histogramBins <= 0) {
+            throw new GradeCalculationException("El histograma debe tener al menos un intervalo");
+        }
+        this.passingGrade = passingGrade;
+        this.histogram = new long[histogramBins];
+        this.binWidth = (Evaluation.MAX_GRADE - Evaluation.MIN_GRADE) / histogramBins;
+    }
+
+    /**
+     * Estadísticas de los resultados de un cálculo masivo; los fallidos solo se cuentan.
+     *
+     * @param outcomes resultados de {@link edu.utec.cs3081.calculator.GradeCalculator#calculateAll}
+     * @return estadísticas de la cohorte
+     */
+    public static CohortStatistics of(Collection<GradeOutcome> outcomes) {
+        CohortStatistics statistics = new CohortStatistics();
+        for (GradeOutcome outcome : outcomes) {
+            statistics.accept(outcome);
+        }
+        return statistics;
+    }
+
+    /**
+     * Colector para flujos de resultados, paralelos o secuenciales.
+     *
+     * @return colector que acumula y combina estadísticas
+     */
+    public static Collector<GradeResult, CohortStatistics, CohortStatistics> collector() {
+        return Collector.of(CohortStatistics::new, CohortStatistics::accept, CohortStatistics::combine,
+            Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Agrega un resultado.
+     *
+     * @param result resultado de un estudiante
+     */
+    public void accept(GradeResult result) {
+        accept(result.getFinalGrade(), result.isPenalizedByAttendance(), result.getExtraPointsApplied() > 0);
+    }
+
+    /**
+     * Agrega un resultado de cálculo masivo; si falló, solo incrementa los fallidos.
+     *
+     * @param outcome resultado de un estudiante
+     */
+    public void accept(GradeOutcome outcome) {
+        if (outcome.isSuccess()) {
+            accept(outcome.getResult());
+        } else {
+            failures++;
+        }
+    }
+
+    /**
+     * Cuenta un estudiante que no pudo calcularse.
+     */
+    public void recordFailure() {
+        failures++;
+    }
+
+    /**
+     * Agrega una nota final sin pasar por {@link GradeResult}.
+     *
+     * @param finalGrade nota final
+     * @param penalizedByAttendance si fue penalizado por asistencia
+     * @param receivedExtraPoints si recibió puntos extra
+     * @throws GradeCalculationException si la nota no es finita
+     */
+    public void accept(double finalGrade, boolean penalizedByAttendance, boolean receivedExtraPoints) {
+        if (!Double.isFinite(finalGrade)) {
+            throw new GradeCalculationException("La nota final debe ser un número finito: " + finalGrade);
+        }
+        count++;
+        double delta = finalGrade - mean;
+        mean += delta / count;
+        sumOfSquaredDeviations += delta * (finalGrade - mean);
+        min = Math.min(min, finalGrade);
+        max = Math.max(max, finalGrade);
+        if (finalGrade >= passingGrade) {
+            passed++;
+        }
+        if (penalizedByAttendance) {
+            penalized++;
+        }
+        if (receivedExtraPoints) {
+            withExtraPoints++;
+        }
+        histogram[binOf(finalGrade)]++;
+    }
+
+    /**
+     * Incorpora las estadísticas de otro acumulador con la misma configuración.
+     *
+     * @param other acumulador a incorporar; no se modifica
+     * @return este acumulador
+     * @throws GradeCalculationException si la nota aprobatoria o el histograma difieren
+     */
+    public CohortStatistics combine(CohortStatistics other) {
+        if (other.passingGrade != passingGrade || other.histogram.length != histogram.length) {
+            throw new GradeCalculationException("Solo se pueden combinar estadísticas con la misma configuración");
+        }
+        failures += other.failures;
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            mean = other.mean;
+            sumOfSquaredDeviations = other.sumOfSquaredDeviations;
+        } else {
+            long total = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / total;
+            sumOfSquaredDeviations += other.sumOfSquaredDeviations + delta * delta * ((double) count * other.count / total);
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        passed += other.passed;
+        penalized += other.penalized;
+        withExtraPoints += other.withExtraPoints;
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        return this;
+    }
+
+    /**
+     * Escribe el estado completo del acumulador, para retomarlo con {@link #readFrom} y seguir
+     * acumulando con exactamente los mismos resultados que sin interrupción.
+     *
+     * @param out destino del estado
+     * @throws IOException si falla la escritura
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeDouble(passingGrade);
+        out.writeInt(histogram.length);
+        out.writeLong(count);
+        out.writeDouble(mean);
+        out.writeDouble(sumOfSquaredDeviations);
+        out.writeDouble(min);
+        out.writeDouble(max);
+        out.writeLong(passed);
+        out.writeLong(penalized);
+        out.writeLong(withExtraPoints);
+        out.writeLong(failures);
+        for (long bin : histogram) {
+            out.writeLong(bin);
+        }
+    }
+
+    /**
+     * Reconstruye un acumulador escrito con {@link #writeTo}.
+     *
+     * @param in origen del estado
+     * @return el acumulador
+     * @throws IOException si falla la lectura
+     * @throws GradeCalculationException si la configuración leída no es válida
+     */
+    public static CohortStatistics readFrom(DataInput in) throws IOException {
+        CohortStatistics statistics = new CohortStatistics(in.readDouble(), in.readInt());
+        statistics.count = in.readLong();
+        statistics.mean = in.readDouble();
+        statistics.sumOfSquaredDeviations = in.readDouble();
+        statistics.min = in.readDouble();
+        statistics.max = in.readDouble();
+        statistics.passed = in.readLong();
+        statistics.penalized = in.readLong();
+        statistics.withExtraPoints = in.readLong();
+        statistics.failures = in.readLong();
+        for (int i = 0; i < statistics.histogram.length; i++) {
+            statistics.histogram[i] = in.readLong();
+        }
+        return statistics;
+    }
+
+    private int binOf(double grade) {
+        int bin = (int) ((grade - Evaluation.MIN_GRADE) / binWidth);
+        return Math.max(0, Math.min(histogram.length - 1, bin));
+    }
+
+    /** Estudiantes calculados (sin contar los fallidos). */
+    public long getCount() {
+        return count;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    /** Media de las notas finales, o NaN si no hay notas. */
+    public double getMean() {
+        return count > 0 ? mean : Double.NaN;
+    }
+
+    /** Varianza poblacional, o NaN si no hay notas. */
+    public double getVariance() {
+        return count > 0 ? sumOfSquaredDeviations / count : Double.NaN;
+    }
+
+    /** Desviación estándar poblacional, o NaN si no hay notas. */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /** Nota mínima, o NaN si no hay notas. */
+    public double getMin() {
+        return count > 0 ? min : Double.NaN;
+    }
+
+    /** Nota máxima, o NaN si no hay notas. */
+    public double getMax() {
+        return count > 0 ? max : Double.NaN;
+    }
+
+    public double getPassingGrade() {
+        return passingGrade;
+    }
+
+    public long getPassed() {
+        return passed;
+    }
+
+    public long getPenalized() {
+        return penalized;
+    }
+
+    public long getWithExtraPoints() {
+        return withExtraPoints;
+    }
+
+    /** Proporción de aprobados entre 0 y 1, o NaN si no hay notas. */
+    public double getPassRate() {
+        return rate(passed);
+    }
+
+    /** Proporción de penalizados por asistencia entre 0 y 1, o NaN si no hay notas. */
+    public double getPenaltyRate() {
+        return rate(penalized);
+    }
+
+    /** Proporción con puntos extra entre 0 y 1, o NaN si no hay notas. */
+    public double getExtraPointsRate() {
+        return rate(withExtraPoints);
+    }
+
+    private double rate(long value) {
+        return count > 0 ? (double) value / count : Double.NaN;
+    }
+
+    /**
+     * Cantidad de notas por intervalo. El intervalo {@code i} cubre
+     * {@code [getBinLowerBound(i), getBinLowerBound(i + 1))}; el último incluye la nota máxima.
+     *
+     * @return copia del histograma
+     */
+    public long[] getHistogram() {
+        return Arrays.copyOf(histogram, histogram.length);
+    }
+
+    public double getBinLowerBound(int bin) {
+        return Evaluation.MIN_GRADE + bin * binWidth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Estadísticas[n=%d, media=%.2f, desviación=%.2f, mín=%.2f, máx=%.2f, aprobados=%.1f%%, "
+                + "penalizados=%.1f%%, fallidos=%d]", count, getMean(), getStandardDeviation(), getMin(), getMax(),
+            getPassRate() * 100, getPenaltyRate() * 100, failures);
+    }
+}
@@ -0,0 +1,188 @@
+package edu.utec.cs3081.statistics;
+
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resumen de cuantiles de notas finales con memoria fija, seguro para registro concurrente.
+ * Aprovecha que las notas están acotadas entre {@link Evaluation#MIN_GRADE} y
+ * {@link Evaluation#MAX_GRADE}: cada nota se redondea a la resolución configurada
+ * (0.01 por defecto, 2001 contadores) y se cuenta en su casilla.
+ *
+ * <p>Error documentado: el cuantil devuelto difiere del cuantil exacto por rango más cercano
+ * de las notas originales en a lo sumo media resolución ({@link #getMaxError()}). Con la
+ * resolución por defecto coincide con el cuantil exacto de las notas redondeadas a dos
+ * decimales, que es como se informan. Dos resúmenes con la misma resolución se combinan
+ * sumando contadores, sin pérdida adicional, por ejemplo de cursos a facultad.</p>
+ */
+public class GradeQuantileSketch {
+
+    public static final int DEFAULT_DECIMALS = 2;
+    public static final int MAX_DECIMALS = 3;
+
+    private final int decimals;
+    private final double scale;
+    private final AtomicLongArray counts;
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Constructor con resolución de 0.01.
+     */
+    public GradeQuantileSketch() {
+        this(DEFAULT_DECIMALS);
+    }
+
+    /**
+     * Constructor con la resolución indicada como cantidad de decimales.
+     *
+     * @param decimals decimales conservados, de 0 a {@value #MAX_DECIMALS}
+     * @throws GradeCalculationException si los decimales están fuera de rango
+     */
+    public GradeQuantileSketch(int decimals) {
+        if (decimals < 0 || decimals > MAX_DECIMALS) {
+            throw new GradeCalculationException(
+                String.format("La resolución debe tener entre 0 y %d decimales", MAX_DECIMALS));
+        }
+        this.decimals = decimals;
+        this.scale = Math.pow(10, decimals);
+        this.counts = new AtomicLongArray((int) Math.round((Evaluation.MAX_GRADE - Evaluation.MIN_GRADE) * scale) + 1);
+    }
+
+    /**
+     * Registra la nota final de un resultado.
+     *
+     * @param result resultado de un estudiante
+     */
+    public void add(GradeResult result) {
+        add(result.getFinalGrade());
+    }
+
+    /**
+     * Registra una nota; las notas fuera de escala se cuentan en el extremo más cercano.
+     *
+     * @param grade nota final
+     * @throws GradeCalculationException si la nota no es finita
+     */
+    public void add(double grade) {
+        if (!Double.isFinite(grade)) {
+            throw new GradeCalculationException("La nota final debe ser un número finito: " + grade);
+        }
+        long slot = Math.round((grade - Evaluation.MIN_GRADE) * scale);
+        counts.incrementAndGet((int) Math.max(0, Math.min(counts.length() - 1, slot)));
+        count.increment();
+    }
+
+    /**
+     * Suma los contadores de otro resumen con la misma resolución.
+     *
+     * @param other resumen a incorporar; no se modifica
+     * @return este resumen
+     * @throws GradeCalculationException si la resolución difiere
+     */
+    public GradeQuantileSketch merge(GradeQuantileSketch other) {
+        if (other.decimals != decimals) {
+            throw new GradeCalculationException("Solo se pueden combinar resúmenes con la misma resolución");
+        }
+        long added = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long value = other.counts.get(i);
+            if (value != 0) {
+                counts.addAndGet(i, value);
+                added += value;
+            }
+        }
+        count.add(added);
+        return this;
+    }
+
+    /**
+     * Cuantil por rango más cercano: la menor nota tal que al menos {@code q·n} notas son
+     * menores o iguales. Con registros concurrentes el resultado refleja un estado reciente.
+     *
+     * @param q cuantil entre 0 y 1
+     * @return la nota del cuantil, o NaN si no hay notas
+     * @throws GradeCalculationException si q está fuera de [0, 1]
+     */
+    public double quantile(double q) {
+        if (!(q >= 0.0 && q <= 1.0)) {
+            throw new GradeCalculationException("El cuantil debe estar entre 0 y 1: " + q);
+        }
+        long total = count.sum();
+        if (total == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        int last = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long value = counts.get(i);
+            if (value == 0) {
+                continue;
+            }
+            seen += value;
+            last = i;
+            if (seen >= rank) {
+                return gradeOf(i);
+            }
+        }
+        return gradeOf(last);
+    }
+
+    /**
+     * Percentil en escala de 0 a 100.
+     *
+     * @param percentile percentil
+     * @return la nota del percentil, o NaN si no hay notas
+     */
+    public double percentile(double percentile) {
+        return quantile(percentile / 100.0);
+    }
+
+    public double median() {
+        return quantile(0.5);
+    }
+
+    /**
+     * Proporción de notas menores o iguales a la indicada, redondeada a la resolución.
+     *
+     * @param grade nota de corte
+     * @return proporción entre 0 y 1, o NaN si no hay notas
+     */
+    public double fractionAtOrBelow(double grade) {
+        long total = count.sum();
+        if (total == 0) {
+            return Double.NaN;
+        }
+        long limit = Math.round((grade - Evaluation.MIN_GRADE) * scale);
+        long seen = 0;
+        for (int i = 0; i < counts.length() && i <= limit; i++) {
+            seen += counts.get(i);
+        }
+        return Math.min(1.0, (double) seen / total);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public int getDecimals() {
+        return decimals;
+    }
+
+    /**
+     * Diferencia máxima entre un cuantil devuelto y el exacto.
+     *
+     * @return media resolución
+     */
+    public double getMaxError() {
+        return 0.5 / scale;
+    }
+
+    private double gradeOf(int slot) {
+        return Evaluation.MIN_GRADE + slot / scale;
+    }
+}
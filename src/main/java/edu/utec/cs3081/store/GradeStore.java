@@ -0,0 +1,348 @@
+package edu.utec.cs3081.store;
+
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Student;
+
+import java.util.Collection;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Almacén en memoria de estudiantes y resultados indexado por código de estudiante.
+ *
+ * <p>Usa una tabla hash de direccionamiento abierto con sondeo lineal sobre arreglos
+ * paralelos (códigos, hashes, estudiantes y resultados), sin un nodo por entrada. Las
+ * eliminaciones desplazan hacia atrás las entradas siguientes, por lo que no quedan
+ * lápidas y las búsquedas no se degradan con el tiempo.</p>
+ *
+ * <p>Admite lectores concurrentes con un escritor: las consultas usan lecturas optimistas
+ * de {@link StampedLock}, sin bloquear, y solo si una escritura ocurrió durante la consulta
+ * se repite con el bloqueo de lectura. Las cargas masivas redimensionan una sola vez y
+ * toman el bloqueo de escritura una sola vez.</p>
+ */
+public class GradeStore {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_LOAD_PERCENT = 60;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private int size;
+
+    public GradeStore() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructor con la cantidad de estudiantes esperada, para no redimensionar al cargar.
+     *
+     * @param expectedSize estudiantes esperados
+     */
+    public GradeStore(int expectedSize) {
+        this.table = new Table(capacityFor(Math.max(0, expectedSize)));
+    }
+
+    /**
+     * Registra o reemplaza al estudiante; conserva el resultado ya almacenado para su código.
+     *
+     * @param student el estudiante
+     * @throws InvalidStudentDataException si el estudiante es nulo
+     */
+    public void putStudent(Student student) {
+        if (student == null) {
+            throw new InvalidStudentDataException("El estudiante no puede ser nulo");
+        }
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + 1);
+            table.students[slotForInsert(student.getCode())] = student;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Registra o reemplaza el resultado del estudiante con ese código.
+     *
+     * @param result el resultado
+     * @throws InvalidStudentDataException si el resultado es nulo
+     */
+    public void putResult(GradeResult result) {
+        if (result == null) {
+            throw new InvalidStudentDataException("El resultado no puede ser nulo");
+        }
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + 1);
+            table.results[slotForInsert(result.getStudentCode())] = result;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Carga masiva de estudiantes.
+     *
+     * @param students estudiantes a registrar
+     */
+    public void loadStudents(Collection<Student> students) {
+        if (students == null) {
+            throw new InvalidStudentDataException("La colección de estudiantes no puede ser nula");
+        }
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + students.size());
+            for (Student student : students) {
+                if (student == null) {
+                    throw new InvalidStudentDataException("El estudiante no puede ser nulo");
+                }
+                table.students[slotForInsert(student.getCode())] = student;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Carga masiva de resultados de un cálculo masivo; los cálculos fallidos se omiten.
+     *
+     * @param outcomes resultados de {@link edu.utec.cs3081.calculator.GradeCalculator#calculateAll}
+     * @return cantidad de resultados cargados
+     */
+    public int loadOutcomes(Collection<GradeOutcome> outcomes) {
+        if (outcomes == null) {
+            throw new InvalidStudentDataException("La colección de resultados no puede ser nula");
+        }
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + outcomes.size());
+            int loaded = 0;
+            for (GradeOutcome outcome : outcomes) {
+                if (outcome.isSuccess()) {
+                    table.results[slotForInsert(outcome.getStudentCode())] = outcome.getResult();
+                    loaded++;
+                }
+            }
+            return loaded;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Estudiante con el código indicado.
+     *
+     * @param code código del estudiante
+     * @return el estudiante, o null si no está registrado
+     */
+    public Student getStudent(String code) {
+        long stamp = lock.tryOptimisticRead();
+        Student student = findStudent(table, code);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                student = findStudent(table, code);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return student;
+    }
+
+    /**
+     * Resultado del estudiante con el código indicado.
+     *
+     * @param code código del estudiante
+     * @return el resultado, o null si no está registrado
+     */
+    public GradeResult getResult(String code) {
+        long stamp = lock.tryOptimisticRead();
+        GradeResult result = findResult(table, code);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = findResult(table, code);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    public boolean contains(String code) {
+        return getStudent(code) != null || getResult(code) != null;
+    }
+
+    /**
+     * Elimina al estudiante y su resultado.
+     *
+     * @param code código del estudiante
+     * @return true si había una entrada con ese código
+     */
+    public boolean remove(String code) {
+        if (code == null) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            Table current = table;
+            int slot = find(current, code, spread(code.hashCode()));
+            if (slot < 0) {
+                return false;
+            }
+            deleteSlot(current, slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Códigos registrados.
+     *
+     * @return cantidad de entradas
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static Student findStudent(Table current, String code) {
+        int slot = code == null ? -1 : find(current, code, spread(code.hashCode()));
+        return slot < 0 ? null : current.students[slot];
+    }
+
+    private static GradeResult findResult(Table current, String code) {
+        int slot = code == null ? -1 : find(current, code, spread(code.hashCode()));
+        return slot < 0 ? null : current.results[slot];
+    }
+
+    /**
+     * Busca la casilla del código. En una lectura optimista la tabla puede estar cambiando,
+     * así que el sondeo se limita a la capacidad; el resultado solo se usa si la lectura valida.
+     */
+    private static int find(Table current, String code, int hash) {
+        int mask = current.codes.length - 1;
+        int slot = hash & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            String key = current.codes[slot];
+            if (key == null) {
+                return -1;
+            }
+            if (current.hashes[slot] == hash && key.equals(code)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** Casilla del código, creando la entrada si no existe. Requiere el bloqueo de escritura. */
+    private int slotForInsert(String code) {
+        Table current = table;
+        int hash = spread(code.hashCode());
+        int mask = current.codes.length - 1;
+        int slot = hash & mask;
+        while (current.codes[slot] != null) {
+            if (current.hashes[slot] == hash && current.codes[slot].equals(code)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        current.hashes[slot] = hash;
+        current.codes[slot] = code;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Eliminación con desplazamiento hacia atrás: mueve a la casilla liberada cada entrada
+     * siguiente del grupo cuya posición ideal no quede después del hueco.
+     */
+    private static void deleteSlot(Table current, int slot) {
+        int mask = current.codes.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (current.codes[next] != null) {
+            int ideal = current.hashes[next] & mask;
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                current.move(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        current.clear(hole);
+    }
+
+    private void ensureCapacity(int entries) {
+        Table current = table;
+        if ((long) entries * 100 <= (long) current.codes.length * MAX_LOAD_PERCENT) {
+            return;
+        }
+        Table resized = new Table(capacityFor(entries));
+        int mask = resized.codes.length - 1;
+        for (int i = 0; i < current.codes.length; i++) {
+            if (current.codes[i] != null) {
+                int slot = current.hashes[i] & mask;
+                while (resized.codes[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                resized.hashes[slot] = current.hashes[i];
+                resized.codes[slot] = current.codes[i];
+                resized.students[slot] = current.students[i];
+                resized.results[slot] = current.results[i];
+            }
+        }
+        table = resized;
+    }
+
+    private static int capacityFor(int entries) {
+        long needed = Math.max(MIN_CAPACITY, (long) entries * 100 / MAX_LOAD_PERCENT + 1);
+        if (needed > 1 << 30) {
+            throw new IllegalStateException("Demasiadas entradas para el almacén: " + entries);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Arreglos paralelos de la tabla; se reemplazan juntos al redimensionar.
+     */
+    private static final class Table {
+        final String[] codes;
+        final int[] hashes;
+        final Student[] students;
+        final GradeResult[] results;
+
+        Table(int capacity) {
+            codes = new String[capacity];
+            hashes = new int[capacity];
+            students = new Student[capacity];
+            results = new GradeResult[capacity];
+        }
+
+        void move(int from, int to) {
+            codes[to] = codes[from];
+            hashes[to] = hashes[from];
+            students[to] = students[from];
+            results[to] = results[from];
+        }
+
+        void clear(int slot) {
+            codes[slot] = null;
+            hashes[slot] = 0;
+            students[slot] = null;
+            results[slot] = null;
+        }
+    }
+}
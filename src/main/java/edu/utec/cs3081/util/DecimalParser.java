@@ -0,0 +1,153 @@
+package edu.utec.cs3081.util;
+
+/**
+ * Interpretación de números decimales sin excepciones, para validar grandes volúmenes
+ * de datos donde los valores inválidos son frecuentes.
+ */
+public final class DecimalParser {
+
+    /**
+     * Dígitos significativos que se acumulan en la mantisa antes de recurrir al parser general;
+     * 18 dígitos siempre caben en un long.
+     */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Acceso por posición a los caracteres de un número, para interpretarlo directamente desde
+     * texto o desde bytes sin copiarlo a un {@link String}.
+     */
+    @FunctionalInterface
+    public interface CharSource {
+
+        /**
+         * Código del carácter en la posición indicada. Un byte o carácter no ASCII nunca
+         * coincide con un dígito, signo, punto ni exponente.
+         *
+         * @param index posición
+         * @return el código del carácter
+         */
+        int charAt(int index);
+    }
+
+    private DecimalParser() {
+    }
+
+    /**
+     * Interpreta el texto completo como decimal, ignorando espacios alrededor.
+     *
+     * @param text el texto
+     * @return el valor, o NaN si el texto no es un número válido
+     */
+    public static double parse(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return parse(text, start, end);
+    }
+
+    /**
+     * Interpreta un decimal con signo opcional.
+     *
+     * @param text el texto
+     * @param start inicio del número (inclusivo)
+     * @param end fin del número (exclusivo)
+     * @return el valor, o NaN si el texto no es un número válido
+     * @see #parse(CharSource, int, int)
+     */
+    public static double parse(CharSequence text, int start, int end) {
+        return parse(text::charAt, start, end);
+    }
+
+    /**
+     * Interpreta un decimal con signo opcional leyendo los caracteres de {@code source}. Los
+     * valores que {@link #exactValue} no puede calcular de forma exacta, o con exponente, usan
+     * el parser general. Los lectores de texto y de bytes comparten este recorrido, de modo que
+     * todos aceptan exactamente los mismos números.
+     *
+     * @param source los caracteres
+     * @param start inicio del número (inclusivo)
+     * @param end fin del número (exclusivo)
+     * @return el valor, o NaN si el texto no es un número válido
+     */
+    public static double parse(CharSource source, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+            negative = source.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int scale = 0;
+        boolean dot = false;
+        boolean sawDigit = false;
+        for (; i < end; i++) {
+            int c = source.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (significantDigits == MAX_MANTISSA_DIGITS) {
+                    return parseSlow(source, start, end);
+                }
+                sawDigit = true;
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    significantDigits++;
+                }
+                if (dot) {
+                    scale++;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else if (c == 'e' || c == 'E') {
+                return parseSlow(source, start, end);
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (!sawDigit) {
+            return Double.NaN;
+        }
+        double value = exactValue(mantissa, scale, negative);
+        return Double.isNaN(value) ? parseSlow(source, start, end) : value;
+    }
+
+    /**
+     * Convierte una mantisa entera y su cantidad de decimales en el double más cercano.
+     * Para mantisas menores a 2^53 y hasta 22 decimales, mantisa y 10^decimales son exactos
+     * como double y la división, redondeada por IEEE 754, coincide con {@link Double#parseDouble}.
+     *
+     * @param mantissa dígitos del número sin el punto decimal
+     * @param scale cantidad de dígitos después del punto
+     * @param negative si el número tiene signo negativo
+     * @return el valor, o NaN si no se puede calcular de forma exacta y hace falta el parser general
+     */
+    static double exactValue(long mantissa, int scale, boolean negative) {
+        if (mantissa >= MAX_EXACT_MANTISSA || scale >= POWERS_OF_TEN.length) {
+            return Double.NaN;
+        }
+        double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    private static double parseSlow(CharSource source, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) source.charAt(start + i);
+        }
+        try {
+            return Double.parseDouble(new String(chars));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package edu.utec.cs3081.util;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Formateo de números con una cantidad fija de decimales, escrito directamente sobre un
+ * {@link Appendable} sin crear cadenas intermedias.
+ *
+ * <p>Produce exactamente el mismo texto que {@code String.format("%.Nf", valor)}: redondeo
+ * HALF_UP sobre la representación decimal más corta del double, signo en el cero negativo
+ * y "NaN"/"Infinity" para valores no finitos. Los dígitos se escriben siempre en ASCII;
+ * solo el separador decimal depende de la configuración regional.</p>
+ */
+public final class FixedDecimalFormat {
+
+    public static final int MAX_DECIMALS = 6;
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+    private static final double FAST_PATH_LIMIT = 1L << 31;
+    private static final double HALF_TOLERANCE = 1e-6;
+
+    private FixedDecimalFormat() {
+    }
+
+    /**
+     * Separador decimal que usa {@code String.format} sin configuración regional explícita.
+     *
+     * @return separador de la configuración regional de formato por defecto
+     */
+    public static char defaultDecimalSeparator() {
+        return DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+    }
+
+    /**
+     * Escribe el valor con la cantidad de decimales indicada.
+     *
+     * @param out destino del texto
+     * @param value valor a escribir
+     * @param decimals cantidad de decimales (0 a {@value #MAX_DECIMALS})
+     * @param separator separador decimal
+     * @throws IOException si falla la escritura
+     */
+    public static void append(Appendable out, double value, int decimals, char separator) throws IOException {
+        if (decimals < 0 || decimals > MAX_DECIMALS) {
+            throw new IllegalArgumentException(
+                String.format("La cantidad de decimales debe estar entre 0 y %d", MAX_DECIMALS));
+        }
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+            return;
+        }
+        if (Double.isInfinite(value)) {
+            out.append(value > 0 ? "Infinity" : "-Infinity");
+            return;
+        }
+        if (Double.doubleToRawLongBits(value) < 0) {
+            out.append('-');
+        }
+        double magnitude = Math.abs(value);
+        long scale = POWERS_OF_TEN[decimals];
+        double scaled = magnitude * scale;
+        if (scaled >= FAST_PATH_LIMIT) {
+            appendPlain(out, round(magnitude, decimals).toPlainString(), separator);
+            return;
+        }
+        long units = (long) scaled;
+        double fraction = scaled - units;
+        if (Math.abs(fraction - 0.5) <= HALF_TOLERANCE) {
+            // Cerca del punto medio el producto en double no alcanza para decidir
+            units = round(magnitude, decimals).unscaledValue().longValue();
+        } else if (fraction > 0.5) {
+            units++;
+        }
+        appendDigits(out, units / scale, 1);
+        if (decimals > 0) {
+            out.append(separator);
+            appendDigits(out, units % scale, decimals);
+        }
+    }
+
+    /**
+     * Variante que devuelve el texto; útil fuera de rutas críticas.
+     *
+     * @param value valor a formatear
+     * @param decimals cantidad de decimales
+     * @param separator separador decimal
+     * @return texto formateado
+     */
+    public static String format(double value, int decimals, char separator) {
+        StringBuilder text = new StringBuilder(24);
+        try {
+            append(text, value, decimals, separator);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return text.toString();
+    }
+
+    private static BigDecimal round(double magnitude, int decimals) {
+        return BigDecimal.valueOf(magnitude).setScale(decimals, RoundingMode.HALF_UP);
+    }
+
+    private static void appendPlain(Appendable out, String plain, char separator) throws IOException {
+        int point = plain.indexOf('.');
+        if (point < 0) {
+            out.append(plain);
+            return;
+        }
+        out.append(plain, 0, point).append(separator).append(plain, point + 1, plain.length());
+    }
+
+    private static void appendDigits(Appendable out, long value, int minDigits) throws IOException {
+        long divisor = 1;
+        int digits = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+            digits++;
+        }
+        for (int i = digits; i < minDigits; i++) {
+            out.append('0');
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + (value / divisor) % 10));
+        }
+    }
+}
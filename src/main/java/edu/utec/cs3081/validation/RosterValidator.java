@@ -0,0 +1,278 @@
+package edu.utec.cs3081.validation;
+
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.model.StudentRecord;
+import edu.utec.cs3081.util.DecimalParser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Validación de filas de roster para ingesta masiva. Aplica las mismas reglas que
+ * {@link Student}, {@link Evaluation} y la suma de pesos de la calculadora, pero en lugar de lanzar excepciones registra cada
+ * problema en un {@link ValidationErrors} con su línea y campo, y revisa la fila completa
+ * para informar todos sus errores de una vez.
+ *
+ * <p>Formato de fila: {@code codigo,asistencia,nombre,nota,peso[,nombre,nota,peso...]}.</p>
+ */
+public final class RosterValidator {
+
+    private static final int HEADER_FIELDS = 2;
+    private static final int FIELDS_PER_EVALUATION = 3;
+    private static final String[] YES = {"s", "si", "sí", "true", "1"};
+    private static final String[] NO = {"n", "no", "false", "0"};
+
+    private RosterValidator() {
+    }
+
+    /**
+     * Convierte una fila en un estudiante si es válida.
+     *
+     * @param line la fila sin salto de línea
+     * @param lineNumber número de línea, usado al registrar errores
+     * @param errors registro donde se agregan los errores encontrados
+     * @return el estudiante, o null si la fila tiene errores
+     */
+    public static Student parseStudent(String line, long lineNumber, ValidationErrors errors) {
+        int fieldCount = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == ',') {
+                fieldCount++;
+            }
+        }
+        int evaluationFields = fieldCount - HEADER_FIELDS;
+        if (evaluationFields <= 0 || evaluationFields % FIELDS_PER_EVALUATION != 0) {
+            errors.record(lineNumber, ValidationErrors.WHOLE_ROW, ValidationCode.MALFORMED_ROW);
+            errors.setStudentCode(errors.size() - 1, firstField(line));
+            return null;
+        }
+        int evaluationCount = evaluationFields / FIELDS_PER_EVALUATION;
+        if (evaluationCount > Student.getMaxEvaluations()) {
+            errors.record(lineNumber, ValidationErrors.WHOLE_ROW, ValidationCode.TOO_MANY_EVALUATIONS);
+            errors.setStudentCode(errors.size() - 1, firstField(line));
+            return null;
+        }
+
+        int errorsBefore = errors.size();
+        int[] starts = new int[fieldCount];
+        int[] ends = new int[fieldCount];
+        splitTrimmed(line, starts, ends);
+
+        if (isBlank(line, starts[0], ends[0])) {
+            errors.record(lineNumber, 1, ValidationCode.EMPTY_CODE);
+        }
+        int attendance = parseAttendance(line, starts[1], ends[1]);
+        if (attendance < 0) {
+            errors.record(lineNumber, 2, ValidationCode.INVALID_ATTENDANCE);
+        }
+        double[] grades = new double[evaluationCount];
+        double[] weights = new double[evaluationCount];
+        boolean weightsValid = true;
+        double totalWeight = 0.0;
+        for (int e = 0; e < evaluationCount; e++) {
+            int field = HEADER_FIELDS + e * FIELDS_PER_EVALUATION;
+            if (isBlank(line, starts[field], ends[field])) {
+                errors.record(lineNumber, field + 1, ValidationCode.EMPTY_EVALUATION_NAME);
+            }
+            grades[e] = DecimalParser.parse(line, starts[field + 1], ends[field + 1]);
+            checkGrade(grades[e], lineNumber, field + 2, errors);
+            weights[e] = DecimalParser.parse(line, starts[field + 2], ends[field + 2]);
+            weightsValid &= checkWeight(weights[e], lineNumber, field + 3, errors);
+            totalWeight += weights[e];
+        }
+        if (weightsValid && !StudentRecord.isValidTotalWeight(totalWeight)) {
+            errors.record(lineNumber, ValidationErrors.WHOLE_ROW, ValidationCode.WEIGHT_SUM, totalWeight);
+        }
+        String code = line.substring(starts[0], ends[0]);
+        if (errors.size() > errorsBefore) {
+            errors.setStudentCode(errorsBefore, code.isEmpty() ? null : code);
+            return null;
+        }
+
+        Student student = new Student(code, attendance == 1);
+        for (int e = 0; e < evaluationCount; e++) {
+            int field = HEADER_FIELDS + e * FIELDS_PER_EVALUATION;
+            student.addEvaluation(new Evaluation(line.substring(starts[field], ends[field]), grades[e], weights[e]));
+        }
+        return student;
+    }
+
+    /**
+     * Verifica una nota con las reglas de {@link Evaluation}.
+     *
+     * @return true si la nota es válida
+     */
+    public static boolean checkGrade(double grade, long lineNumber, int field, ValidationErrors errors) {
+        if (Double.isNaN(grade)) {
+            errors.record(lineNumber, field, ValidationCode.INVALID_NUMBER);
+            return false;
+        }
+        if (grade < Evaluation.MIN_GRADE || grade > Evaluation.MAX_GRADE) {
+            errors.record(lineNumber, field, ValidationCode.GRADE_OUT_OF_RANGE, grade);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica un peso con las reglas de {@link Evaluation}.
+     *
+     * @return true si el peso es válido
+     */
+    public static boolean checkWeight(double weight, long lineNumber, int field, ValidationErrors errors) {
+        if (Double.isNaN(weight)) {
+            errors.record(lineNumber, field, ValidationCode.INVALID_NUMBER);
+            return false;
+        }
+        if (weight <= Evaluation.MIN_WEIGHT || weight > Evaluation.MAX_WEIGHT) {
+            errors.record(lineNumber, field, ValidationCode.WEIGHT_OUT_OF_RANGE, weight);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Interpreta el indicador de asistencia sin crear Strings, ignorando espacios alrededor
+     * y mayúsculas. Es la única definición de los valores aceptados por los lectores de texto.
+     *
+     * @param line texto que contiene el campo
+     * @param start inicio del campo (inclusivo)
+     * @param end fin del campo (exclusivo)
+     * @return 1 si cumple, 0 si no cumple, -1 si el valor es inválido
+     */
+    public static int parseAttendance(String line, int start, int end) {
+        return matchAttendance(line::charAt, start, end);
+    }
+
+    /**
+     * Interpreta el indicador de asistencia desde bytes UTF-8 con los mismos valores y el
+     * mismo recorte de espacios que {@link #parseAttendance(String, int, int)}. Los campos
+     * ASCII se comparan sin copiarlos; los que contienen otros caracteres, como "sí", se
+     * decodifican antes de compararlos.
+     *
+     * @param bytes bytes que contienen el campo
+     * @param start inicio del campo (inclusivo)
+     * @param end fin del campo (exclusivo)
+     * @return 1 si cumple, 0 si no cumple, -1 si el valor es inválido
+     */
+    public static int parseAttendance(ByteBuffer bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes.get(i) < 0) {
+                byte[] field = new byte[end - start];
+                bytes.get(start, field);
+                String text = new String(field, StandardCharsets.UTF_8);
+                return parseAttendance(text, 0, text.length());
+            }
+        }
+        return matchAttendance(bytes::get, start, end);
+    }
+
+    /**
+     * Indica si una línea se omite al leer un roster: vacía, solo con espacios según
+     * {@link #isFieldSpace}, o comentario que empieza con {@code #}.
+     *
+     * @param source caracteres o bytes de la línea
+     * @param start inicio de la línea (inclusivo)
+     * @param end fin de la línea sin salto de línea (exclusivo)
+     * @return true si la línea no contiene una fila
+     */
+    public static boolean isIgnoredLine(DecimalParser.CharSource source, int start, int end) {
+        int first = trimStart(source, start, end);
+        return first == end || source.charAt(first) == '#';
+    }
+
+    /**
+     * Indica si un carácter es espacio alrededor de un campo. Solo se recortan los espacios
+     * ASCII, de modo que los lectores de texto y de bytes recortan exactamente lo mismo.
+     *
+     * @param c código del carácter o byte
+     * @return true si el carácter se recorta
+     */
+    public static boolean isFieldSpace(int c) {
+        return c >= 0 && c < 0x80 && Character.isWhitespace(c);
+    }
+
+    /**
+     * Primera posición del campo que no es espacio según {@link #isFieldSpace}.
+     */
+    public static int trimStart(DecimalParser.CharSource source, int start, int end) {
+        while (start < end && isFieldSpace(source.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Posición siguiente al último carácter del campo que no es espacio según {@link #isFieldSpace}.
+     */
+    public static int trimEnd(DecimalParser.CharSource source, int start, int end) {
+        while (end > start && isFieldSpace(source.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int matchAttendance(DecimalParser.CharSource source, int start, int end) {
+        int trimmedStart = trimStart(source, start, end);
+        int trimmedEnd = trimEnd(source, trimmedStart, end);
+        if (matchesAny(source, trimmedStart, trimmedEnd, YES)) {
+            return 1;
+        }
+        if (matchesAny(source, trimmedStart, trimmedEnd, NO)) {
+            return 0;
+        }
+        return -1;
+    }
+
+    private static boolean matchesAny(DecimalParser.CharSource source, int start, int end, String[] options) {
+        int length = end - start;
+        for (String option : options) {
+            if (option.length() == length && matchesIgnoreCase(source, start, option)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesIgnoreCase(DecimalParser.CharSource source, int start, String option) {
+        for (int i = 0; i < option.length(); i++) {
+            char expected = option.charAt(i);
+            int actual = source.charAt(start + i);
+            if (actual != expected && Character.toLowerCase(Character.toUpperCase(actual)) != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(String line, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String firstField(String line) {
+        int comma = line.indexOf(',');
+        int end = comma < 0 ? line.length() : comma;
+        int start = trimStart(line::charAt, 0, end);
+        end = trimEnd(line::charAt, start, end);
+        return start == end ? null : line.substring(start, end);
+    }
+
+    private static void splitTrimmed(String line, int[] starts, int[] ends) {
+        int field = 0;
+        int fieldStart = 0;
+        for (int i = 0; i <= line.length(); i++) {
+            if (i == line.length() || line.charAt(i) == ',') {
+                starts[field] = trimStart(line::charAt, fieldStart, i);
+                ends[field] = trimEnd(line::charAt, starts[field], i);
+                field++;
+                fieldStart = i + 1;
+            }
+        }
+    }
+}
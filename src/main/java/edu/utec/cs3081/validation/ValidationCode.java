@@ -0,0 +1,50 @@
+package edu.utec.cs3081.validation;
+
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+
+import java.util.Locale;
+
+/**
+ * Códigos compactos de error de validación. Cada código sabe describirse, pero el texto
+ * solo se construye cuando alguien lo solicita.
+ */
+public enum ValidationCode {
+
+    MALFORMED_ROW("se esperaba codigo,asistencia y ternas nombre,nota,peso", false),
+    EMPTY_CODE("el código del estudiante no puede ser nulo o vacío", false),
+    INVALID_ATTENDANCE("indicador de asistencia inválido", false),
+    EMPTY_EVALUATION_NAME("el nombre de la evaluación no puede ser nulo o vacío", false),
+    INVALID_NUMBER("valor numérico inválido", false),
+    GRADE_OUT_OF_RANGE(String.format(Locale.ROOT, "la nota debe estar entre %.1f y %.1f",
+        Evaluation.MIN_GRADE, Evaluation.MAX_GRADE), true),
+    WEIGHT_OUT_OF_RANGE(String.format(Locale.ROOT, "el peso debe estar entre %.1f (exclusivo) y %.1f",
+        Evaluation.MIN_WEIGHT, Evaluation.MAX_WEIGHT), true),
+    WEIGHT_SUM("la suma de pesos debe ser 1.0 (100%)", true),
+    TOO_MANY_EVALUATIONS("no se pueden agregar más de " + Student.getMaxEvaluations() + " evaluaciones", false);
+
+    private final String description;
+    private final boolean reportsValue;
+
+    ValidationCode(String description, boolean reportsValue) {
+        this.description = description;
+        this.reportsValue = reportsValue;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Describe el error con el valor rechazado, si el código lo incluye.
+     *
+     * @param value el valor rechazado
+     * @return descripción del error
+     */
+    public String describe(double value) {
+        if (!reportsValue) {
+            return description;
+        }
+        return String.format("%s. Valor recibido: %.2f", description, value);
+    }
+}
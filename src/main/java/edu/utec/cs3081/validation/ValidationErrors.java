@@ -0,0 +1,160 @@
+package edu.utec.cs3081.validation;
+
+import java.util.Arrays;
+
+/**
+ * Registro de errores de validación para ingesta masiva. Cada error ocupa unas pocas
+ * posiciones en arreglos primitivos (línea, campo, código y valor rechazado), sin
+ * excepciones ni mensajes: el texto se arma solo al llamar a {@link #getMessage(int)}.
+ * Opcionalmente guarda el código de estudiante de la fila, para poder asociar el error
+ * al estudiante aunque la fila sea inválida.
+ */
+public class ValidationErrors {
+
+    /** Campo no aplicable: el error corresponde a la fila completa. */
+    public static final int WHOLE_ROW = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final ValidationCode[] CODES = ValidationCode.values();
+
+    private long[] lines = new long[INITIAL_CAPACITY];
+    private int[] fields = new int[INITIAL_CAPACITY];
+    private byte[] codes = new byte[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private String[] studentCodes = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Registra un error.
+     *
+     * @param line número de línea (empezando en 1)
+     * @param field posición del campo en la fila (empezando en 1), o {@link #WHOLE_ROW}
+     * @param code código del error
+     * @param value valor rechazado, o NaN si no aplica
+     */
+    public void record(long line, int field, ValidationCode code, double value) {
+        if (size == lines.length) {
+            int capacity = size * 2;
+            lines = Arrays.copyOf(lines, capacity);
+            fields = Arrays.copyOf(fields, capacity);
+            codes = Arrays.copyOf(codes, capacity);
+            values = Arrays.copyOf(values, capacity);
+            studentCodes = Arrays.copyOf(studentCodes, capacity);
+        }
+        lines[size] = line;
+        fields[size] = field;
+        codes[size] = (byte) code.ordinal();
+        values[size] = value;
+        studentCodes[size] = null;
+        size++;
+    }
+
+    /**
+     * Registra un error sin valor asociado.
+     *
+     * @param line número de línea (empezando en 1)
+     * @param field posición del campo en la fila (empezando en 1), o {@link #WHOLE_ROW}
+     * @param code código del error
+     */
+    public void record(long line, int field, ValidationCode code) {
+        record(line, field, code, Double.NaN);
+    }
+
+    /**
+     * Asocia un código de estudiante a los errores registrados desde una posición.
+     *
+     * @param from posición del primer error de la fila
+     * @param studentCode código tal como aparece en la fila, o null si no se conoce
+     */
+    public void setStudentCode(int from, String studentCode) {
+        for (int i = from; i < size; i++) {
+            studentCodes[i] = studentCode;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getLine(int index) {
+        checkIndex(index);
+        return lines[index];
+    }
+
+    public int getField(int index) {
+        checkIndex(index);
+        return fields[index];
+    }
+
+    public ValidationCode getCode(int index) {
+        checkIndex(index);
+        return CODES[codes[index]];
+    }
+
+    public double getValue(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Código de estudiante de la fila del error.
+     *
+     * @param index posición del error
+     * @return el código, o null si no se conoce
+     */
+    public String getStudentCode(int index) {
+        checkIndex(index);
+        return studentCodes[index];
+    }
+
+    /**
+     * Cantidad de errores registrados con un código.
+     *
+     * @param code el código
+     * @return cantidad de errores
+     */
+    public int count(ValidationCode code) {
+        byte ordinal = (byte) code.ordinal();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (codes[i] == ordinal) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Mensaje legible del error, construido en este momento.
+     *
+     * @param index posición del error
+     * @return mensaje con línea, campo y descripción
+     */
+    public String getMessage(int index) {
+        checkIndex(index);
+        String description = CODES[codes[index]].describe(values[index]);
+        if (fields[index] == WHOLE_ROW) {
+            return String.format("Línea %d: %s", lines[index], description);
+        }
+        return String.format("Línea %d, campo %d: %s", lines[index], fields[index], description);
+    }
+
+    /**
+     * Elimina los errores registrados, conservando la capacidad.
+     */
+    public void clear() {
+        Arrays.fill(studentCodes, 0, size, null);
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("No existe el error %d (registrados: %d)", index, size));
+        }
+    }
+}
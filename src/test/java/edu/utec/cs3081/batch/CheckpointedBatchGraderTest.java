@@ -0,0 +1,175 @@
+package edu.utec.cs3081.batch;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.model.StudentRecord;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import edu.utec.cs3081.statistics.CohortStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CheckpointedBatchGrader Tests")
+class CheckpointedBatchGraderTest {
+
+    private static final ExtraPointsPolicy EXTRA_POINTS = new ExtraPointsPolicy(Arrays.asList(2025));
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Ejecución sin Interrupciones")
+    class Uninterrupted {
+
+        @Test
+        @DisplayName("shouldMatchCsvBatchGraderAndRemoveCheckpoint")
+        void shouldMatchCsvBatchGraderAndRemoveCheckpoint() throws IOException {
+            Path input = roster(500);
+            Path expected = tempDir.resolve("esperado.csv");
+            Path output = tempDir.resolve("resultados.csv");
+            Path checkpoint = tempDir.resolve("lote.ckpt");
+            new CsvBatchGrader(new GradeCalculator(EXTRA_POINTS)).run(input, expected, 2025);
+
+            BatchSummary summary = new CheckpointedBatchGrader(new GradeCalculator(EXTRA_POINTS), 64)
+                .run(input, output, checkpoint, 2025);
+
+            assertEquals(500, summary.getRows());
+            assertTrue(summary.getFailed() > 0);
+            assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(output));
+            assertFalse(Files.exists(checkpoint));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reanudación")
+    class Resumption {
+
+        @Test
+        @DisplayName("shouldResumeAfterCrashWithSameOutputAndStatistics")
+        void shouldResumeAfterCrashWithSameOutputAndStatistics() throws IOException {
+            Path input = roster(1_000);
+            Path expected = tempDir.resolve("esperado.csv");
+            Path output = tempDir.resolve("resultados.csv");
+            Path checkpoint = tempDir.resolve("lote.ckpt");
+            CohortStatistics uninterrupted = new CohortStatistics();
+            new CheckpointedBatchGrader(new GradeCalculator(EXTRA_POINTS), 100)
+                .run(input, expected, tempDir.resolve("otro.ckpt"), 2025, uninterrupted);
+
+            assertThrows(SimulatedCrash.class, () -> new CheckpointedBatchGrader(crashingOn("STU737"), 100)
+                .run(input, output, checkpoint, 2025));
+            assertTrue(Files.exists(checkpoint));
+
+            CohortStatistics resumed = new CohortStatistics();
+            BatchSummary summary = new CheckpointedBatchGrader(new GradeCalculator(EXTRA_POINTS), 100)
+                .run(input, output, checkpoint, 2025, resumed);
+
+            assertEquals(1_000, summary.getRows());
+            assertEquals(uninterrupted.getFailures(), summary.getFailed());
+            assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(output));
+            assertEquals(uninterrupted.getCount(), resumed.getCount());
+            assertEquals(uninterrupted.getFailures(), resumed.getFailures());
+            assertEquals(uninterrupted.getMean(), resumed.getMean());
+            assertEquals(uninterrupted.getVariance(), resumed.getVariance());
+            assertEquals(uninterrupted.getPassed(), resumed.getPassed());
+            assertArrayEquals(uninterrupted.getHistogram(), resumed.getHistogram());
+            assertFalse(Files.exists(checkpoint));
+        }
+
+        @Test
+        @DisplayName("shouldRejectCheckpointForDifferentInputOrYear")
+        void shouldRejectCheckpointForDifferentInputOrYear() throws IOException {
+            Path input = roster(300);
+            Path output = tempDir.resolve("resultados.csv");
+            Path checkpoint = tempDir.resolve("lote.ckpt");
+            assertThrows(SimulatedCrash.class, () -> new CheckpointedBatchGrader(crashingOn("STU250"), 50)
+                .run(input, output, checkpoint, 2025));
+            CheckpointedBatchGrader grader = new CheckpointedBatchGrader(new GradeCalculator(EXTRA_POINTS), 50);
+
+            assertThrows(IOException.class, () -> grader.run(input, output, checkpoint, 2024));
+            Files.writeString(input, "STU001,s,Unica,15,1.0\n");
+            assertThrows(IOException.class, () -> grader.run(input, output, checkpoint, 2025));
+        }
+
+        @Test
+        @DisplayName("shouldRejectCheckpointForDifferentPolicies")
+        void shouldRejectCheckpointForDifferentPolicies() throws IOException {
+            Path input = roster(300);
+            Path output = tempDir.resolve("resultados.csv");
+            Path checkpoint = tempDir.resolve("lote.ckpt");
+            assertThrows(SimulatedCrash.class, () -> new CheckpointedBatchGrader(crashingOn("STU250"), 50)
+                .run(input, output, checkpoint, 2025));
+            GradeCalculator otherYears = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2024, 2025)));
+
+            IOException exception = assertThrows(IOException.class,
+                () -> new CheckpointedBatchGrader(otherYears, 50).run(input, output, checkpoint, 2025));
+            assertTrue(exception.getMessage().contains("políticas"));
+            assertTrue(Files.exists(checkpoint));
+
+            BatchSummary summary = new CheckpointedBatchGrader(new GradeCalculator(EXTRA_POINTS), 50)
+                .run(input, output, checkpoint, 2025);
+            assertEquals(300, summary.getRows());
+        }
+
+        @Test
+        @DisplayName("shouldRejectCorruptCheckpoint")
+        void shouldRejectCorruptCheckpoint() throws IOException {
+            Path input = roster(10);
+            Path checkpoint = tempDir.resolve("lote.ckpt");
+            Files.write(checkpoint, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+            assertThrows(IOException.class, () -> new CheckpointedBatchGrader(new GradeCalculator(EXTRA_POINTS))
+                .run(input, tempDir.resolve("resultados.csv"), checkpoint, 2025));
+        }
+    }
+
+    @Test
+    @DisplayName("shouldRejectInvalidConfiguration")
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(RuntimeException.class, () -> new CheckpointedBatchGrader(null));
+        assertThrows(RuntimeException.class, () -> new CheckpointedBatchGrader(new GradeCalculator(), 0));
+    }
+
+    private Path roster(int rows) throws IOException {
+        Random random = new Random(rows);
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            csv.append("STU").append(i).append(random.nextInt(8) == 0 ? ",n" : ",s");
+            if (i % 97 == 0) {
+                csv.append(",Parcial,x,1.0\n");
+            } else if (i % 89 == 0) {
+                csv.append(",Parcial,15,0.3,Final,15,0.3\n");
+            } else {
+                csv.append(String.format(Locale.ROOT, ",Parcial,%.1f,0.4,Final,%.1f,0.6\n",
+                    random.nextInt(201) / 10.0, random.nextInt(201) / 10.0));
+            }
+        }
+        Path input = tempDir.resolve("roster.csv");
+        Files.writeString(input, csv);
+        return input;
+    }
+
+    private static GradeCalculator crashingOn(String code) {
+        return new GradeCalculator(EXTRA_POINTS) {
+            @Override
+            public GradeResult calculateFinalGrade(StudentRecord student, int academicYear, long batchId) {
+                if (student.getCode().equals(code)) {
+                    throw new SimulatedCrash();
+                }
+                return super.calculateFinalGrade(student, academicYear, batchId);
+            }
+        };
+    }
+
+    private static final class SimulatedCrash extends Error {
+    }
+}
@@ -0,0 +1,119 @@
+package edu.utec.cs3081.batch;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.io.CsvResultWriter;
+import edu.utec.cs3081.model.StudentRecord;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvBatchGrader Tests")
+class CsvBatchGraderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Procesamiento por Lotes")
+    class BatchProcessing {
+
+        @Test
+        @DisplayName("shouldWriteOneResultRowPerStudent")
+        void shouldWriteOneResultRowPerStudent() throws IOException {
+            Path input = tempDir.resolve("roster.csv");
+            Path output = tempDir.resolve("resultados.csv");
+            Files.writeString(input, "STU001,s,Parcial,15,0.4,Final,17,0.6\n"
+                + "STU002,n,Unica,20,1.0\n"
+                + "STU003,s,Unica,19.5,1.0\n");
+            CsvBatchGrader grader = new CsvBatchGrader(
+                new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025))));
+
+            BatchSummary summary = grader.run(input, output, 2025);
+
+            List<String> lines = Files.readAllLines(output);
+            assertEquals(3, summary.getRows());
+            assertEquals(3, summary.getGraded());
+            assertEquals(0, summary.getFailed());
+            assertEquals(CsvResultWriter.HEADER, lines.get(0));
+            assertEquals("STU001,16.20,2.00,18.20,CALCULADO,", lines.get(1));
+            assertEquals("STU002,20.00,0.00,0.00,PENALIZADO,", lines.get(2));
+            assertEquals("STU003,19.50,0.50,20.00,CALCULADO,", lines.get(3));
+        }
+
+        @Test
+        @DisplayName("shouldRecordErrorsWithoutStoppingBatch")
+        void shouldRecordErrorsWithoutStoppingBatch() throws IOException {
+            Path input = tempDir.resolve("roster.csv");
+            Path output = tempDir.resolve("resultados.csv");
+            Files.writeString(input, "STU001,s,Parcial,15,0.3,Final,15,0.3\n"
+                + "STU002,s,Parcial,x,1.0\n"
+                + "STU003,s,Unica,14,1.0\n");
+
+            BatchSummary summary = new CsvBatchGrader(new GradeCalculator()).run(input, output, 2025);
+
+            List<String> lines = Files.readAllLines(output);
+            assertEquals(3, summary.getRows());
+            assertEquals(1, summary.getGraded());
+            assertEquals(2, summary.getFailed());
+            assertTrue(lines.get(1).startsWith("STU001,,,,ERROR,"));
+            assertTrue(lines.get(2).startsWith("STU002,,,,ERROR,"));
+            assertEquals("STU003,14.00,0.00,14.00,CALCULADO,", lines.get(3));
+        }
+
+        @Test
+        @DisplayName("shouldReportWeightSumAsValidationErrorWithoutCalculating")
+        void shouldReportWeightSumAsValidationErrorWithoutCalculating() throws IOException {
+            Path input = tempDir.resolve("roster.csv");
+            Path output = tempDir.resolve("resultados.csv");
+            Files.writeString(input, "STU001,s,Parcial,15,0.3,Final,15,0.3\n"
+                + "STU002,s,Unica,14,1.0\n");
+            List<String> calculated = new ArrayList<>();
+            GradeCalculator calculator = new GradeCalculator() {
+                @Override
+                public GradeResult calculateFinalGrade(StudentRecord student, int academicYear, long batchId) {
+                    calculated.add(student.getCode());
+                    return super.calculateFinalGrade(student, academicYear, batchId);
+                }
+            };
+
+            BatchSummary summary = new CsvBatchGrader(calculator).run(input, output, 2025);
+
+            List<String> lines = Files.readAllLines(output);
+            assertEquals(1, summary.getFailed());
+            assertEquals(List.of("STU002"), calculated);
+            assertTrue(lines.get(1).startsWith("STU001,,,,ERROR,"));
+            assertTrue(lines.get(1).contains("Línea 1: la suma de pesos debe ser 1.0 (100%)"));
+        }
+
+        @Test
+        @DisplayName("shouldWriteOneErrorRowPerInvalidLine")
+        void shouldWriteOneErrorRowPerInvalidLine() throws IOException {
+            Path input = tempDir.resolve("roster.csv");
+            Path output = tempDir.resolve("resultados.csv");
+            Files.writeString(input, "STU001,x,Parcial,25,0.5,Final,15,0.5\n"
+                + "STU002,s,Unica,14,1.0\n");
+
+            BatchSummary summary = new CsvBatchGrader(new GradeCalculator()).run(input, output, 2025);
+
+            List<String> lines = Files.readAllLines(output);
+            assertEquals(2, summary.getRows());
+            assertEquals(1, summary.getFailed());
+            assertEquals(3, lines.size());
+            assertTrue(lines.get(1).startsWith("STU001,,,,ERROR,"));
+            assertTrue(lines.get(1).contains("Línea 1, campo 2"));
+            assertTrue(lines.get(1).contains("Línea 1, campo 4"));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static edu.utec.cs3081.model.TestStudents.singleEvaluation;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncGradeCalculator Tests")
+class AsyncGradeCalculatorTest {
+
+    private ExecutorService executor;
+    private GradeCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        calculator = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Cálculo Individual")
+    class SingleStudent {
+
+        @Test
+        @DisplayName("shouldCompleteWithSameResultAsBlockingCall")
+        void shouldCompleteWithSameResultAsBlockingCall() throws Exception {
+            AsyncGradeCalculator async = new AsyncGradeCalculator(calculator, executor);
+            Student student = singleEvaluation("STU001", 15.0);
+
+            GradeResult result = async.calculate(student, 2025).get(5, TimeUnit.SECONDS);
+
+            assertEquals(calculator.calculateFinalGrade(student, 2025).getDetailedReport(), result.getDetailedReport());
+        }
+
+        @Test
+        @DisplayName("shouldCompleteExceptionallyOnInvalidStudent")
+        void shouldCompleteExceptionallyOnInvalidStudent() {
+            AsyncGradeCalculator async = new AsyncGradeCalculator(calculator, executor);
+            Student invalid = new Student("STU001", true);
+            invalid.addEvaluation(new Evaluation("Parcial", 15.0, 0.5));
+
+            ExecutionException error = assertThrows(ExecutionException.class,
+                () -> async.calculate(invalid, 2025).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(GradeCalculationException.class, error.getCause());
+        }
+
+        @Test
+        @DisplayName("shouldSkipCalculationWhenCancelledBeforeStart")
+        void shouldSkipCalculationWhenCancelledBeforeStart() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService single = Executors.newSingleThreadExecutor();
+            try {
+                single.execute(() -> awaitQuietly(release));
+                AsyncGradeCalculator async = new AsyncGradeCalculator(calculator, single);
+                CompletableFuture<GradeResult> future = async.calculate(singleEvaluation("STU001", 15.0), 2025);
+
+                assertTrue(future.cancel(false));
+                release.countDown();
+                single.shutdown();
+                assertTrue(single.awaitTermination(5, TimeUnit.SECONDS));
+                assertTrue(future.isCancelled());
+            } finally {
+                single.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("shouldTimeOutWhenExecutorIsBusy")
+        void shouldTimeOutWhenExecutorIsBusy() {
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService single = Executors.newSingleThreadExecutor();
+            try {
+                single.execute(() -> awaitQuietly(release));
+                AsyncGradeCalculator async = new AsyncGradeCalculator(calculator, single);
+
+                ExecutionException error = assertThrows(ExecutionException.class,
+                    () -> async.calculate(singleEvaluation("STU001", 15.0), 2025, Duration.ofMillis(50)).get(5, TimeUnit.SECONDS));
+                assertInstanceOf(TimeoutException.class, error.getCause());
+            } finally {
+                release.countDown();
+                single.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Cálculo por Lotes")
+    class Batch {
+
+        @Test
+        @DisplayName("shouldMatchBlockingBatchInOrder")
+        void shouldMatchBlockingBatchInOrder() throws Exception {
+            List<Student> cohort = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                cohort.add(singleEvaluation("STU" + i, i % 21));
+            }
+            Student invalid = new Student("STU-X", true);
+            invalid.addEvaluation(new Evaluation("Parcial", 15.0, 0.5));
+            cohort.add(invalid);
+            AsyncGradeCalculator async = new AsyncGradeCalculator(calculator, executor, 64);
+
+            List<GradeOutcome> outcomes = async.calculateAll(cohort, 2025).get(10, TimeUnit.SECONDS);
+            List<GradeOutcome> expected = calculator.calculateAll(cohort, 2025);
+
+            assertEquals(expected.size(), outcomes.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(i, outcomes.get(i).getIndex());
+                assertEquals(expected.get(i).isSuccess(), outcomes.get(i).isSuccess());
+                if (expected.get(i).isSuccess()) {
+                    assertEquals(expected.get(i).getResult().getFinalGrade(), outcomes.get(i).getResult().getFinalGrade());
+                }
+            }
+            assertFalse(outcomes.get(1000).isSuccess());
+        }
+
+        @Test
+        @DisplayName("shouldCompleteEmptyBatchImmediately")
+        void shouldCompleteEmptyBatchImmediately() {
+            AsyncGradeCalculator async = new AsyncGradeCalculator(calculator, executor);
+
+            CompletableFuture<List<GradeOutcome>> future = async.calculateAll(List.of(), 2025);
+
+            assertTrue(future.isDone());
+            assertTrue(future.join().isEmpty());
+        }
+
+        @Test
+        @DisplayName("shouldRejectInvalidConfiguration")
+        void shouldRejectInvalidConfiguration() {
+            assertThrows(GradeCalculationException.class, () -> new AsyncGradeCalculator(null, executor));
+            assertThrows(GradeCalculationException.class, () -> new AsyncGradeCalculator(calculator, null));
+            assertThrows(GradeCalculationException.class, () -> new AsyncGradeCalculator(calculator, executor, 0));
+            assertThrows(GradeCalculationException.class,
+                () -> new AsyncGradeCalculator(calculator, executor).calculateAll(null, 2025));
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
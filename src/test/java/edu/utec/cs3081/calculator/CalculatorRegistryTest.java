@@ -0,0 +1,66 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.metrics.GradeMetrics;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CalculatorRegistry Tests")
+class CalculatorRegistryTest {
+
+    @Nested
+    @DisplayName("Reutilización")
+    class Reuse {
+
+        @Test
+        @DisplayName("shouldReuseCalculatorForEquivalentYears")
+        void shouldReuseCalculatorForEquivalentYears() {
+            CalculatorRegistry registry = new CalculatorRegistry();
+
+            GradeCalculator first = registry.forYears(Arrays.asList(2025, 2024));
+            GradeCalculator second = registry.forYears(Arrays.asList(2024, 2025, 2024));
+
+            assertSame(first, second);
+            assertSame(registry.forYears(null), registry.forYears(List.of()));
+            assertEquals(2, registry.size());
+        }
+
+        @Test
+        @DisplayName("shouldGradeLikeFreshCalculator")
+        void shouldGradeLikeFreshCalculator() {
+            Student student = new Student("STU001", true);
+            student.addEvaluation(new Evaluation("Parcial", 14.0, 0.4));
+            student.addEvaluation(new Evaluation("Final", 16.0, 0.6));
+            GradeResult expected = new GradeCalculator(
+                new ExtraPointsPolicy(Arrays.asList(2025))).calculateFinalGrade(student, 2025);
+
+            GradeResult actual = new CalculatorRegistry().forYears(Arrays.asList(2025)).calculateFinalGrade(student, 2025);
+
+            assertEquals(expected.getFinalGrade(), actual.getFinalGrade());
+            assertEquals(expected.getDetailedReport(), actual.getDetailedReport());
+        }
+
+        @Test
+        @DisplayName("shouldStopStoringBeyondCapacity")
+        void shouldStopStoringBeyondCapacity() {
+            CalculatorRegistry registry = new CalculatorRegistry(1, GradeMetrics.disabled());
+
+            GradeCalculator stored = registry.forYears(List.of(2024));
+            GradeCalculator other = registry.forYears(List.of(2025));
+
+            assertSame(stored, registry.forYears(List.of(2024)));
+            assertNotSame(other, registry.forYears(List.of(2025)));
+            assertEquals(1, registry.size());
+            assertThrows(GradeCalculationException.class, () -> new CalculatorRegistry(0, GradeMetrics.disabled()));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.InvalidEvaluationException;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.AttendancePolicy;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static edu.utec.cs3081.model.TestStudents.randomCohort;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnarGradeEngine Tests")
+class ColumnarGradeEngineTest {
+
+    private ExtraPointsPolicy extraPointsPolicy;
+    private GradeCalculator calculator;
+    private ColumnarGradeEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        extraPointsPolicy = new ExtraPointsPolicy(Arrays.asList(2024, 2025));
+        calculator = new GradeCalculator(new AttendancePolicy(), extraPointsPolicy);
+        engine = new ColumnarGradeEngine(extraPointsPolicy);
+    }
+
+    @Nested
+    @DisplayName("Equivalencia con GradeCalculator")
+    class Equivalence {
+
+        @Test
+        @DisplayName("shouldMatchGradeCalculatorBitForBit")
+        void shouldMatchGradeCalculatorBitForBit() {
+            List<Student> students = randomCohort(5000, new Random(42));
+            ColumnarCohort cohort = new ColumnarCohort(8);
+            students.forEach(cohort::add);
+
+            for (int year : new int[] {2023, 2025}) {
+                ColumnarResults results = engine.calculateAll(cohort, year);
+
+                assertEquals(students.size(), results.size());
+                for (int i = 0; i < students.size(); i++) {
+                    GradeResult expected = calculator.calculateFinalGrade(students.get(i), year);
+                    assertEquals(expected.getWeightedAverage(), results.getWeightedAverage(i));
+                    assertEquals(expected.getFinalGrade(), results.getFinalGrade(i));
+                    assertEquals(expected.getExtraPointsApplied(), results.getExtraPointsApplied(i));
+                    assertEquals(expected.isPenalizedByAttendance(), results.isPenalizedByAttendance(i));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Estudiantes Inválidos")
+    class InvalidStudents {
+
+        @Test
+        @DisplayName("shouldFlagInvalidWeightsWithoutStoppingCohort")
+        void shouldFlagInvalidWeightsWithoutStoppingCohort() {
+            ColumnarCohort cohort = new ColumnarCohort();
+            cohort.add("STU001", true, new double[] {15.0, 15.0}, new double[] {0.3, 0.3}, 2);
+            cohort.add("STU002", true, new double[0], new double[0], 0);
+            cohort.add("STU003", true, new double[] {16.0}, new double[] {1.0}, 1);
+
+            ColumnarResults results = engine.calculateAll(cohort, 2023);
+
+            assertEquals(ColumnarResults.Status.INVALID_WEIGHTS, results.getStatus(0));
+            assertTrue(Double.isNaN(results.getFinalGrade(0)));
+            assertEquals(ColumnarResults.Status.NO_EVALUATIONS, results.getStatus(1));
+            assertEquals(ColumnarResults.Status.GRADED, results.getStatus(2));
+            assertEquals(16.0, results.getFinalGrade(2), 0.001);
+        }
+
+        @Test
+        @DisplayName("shouldRejectGradeOutOfRange")
+        void shouldRejectGradeOutOfRange() {
+            ColumnarCohort cohort = new ColumnarCohort();
+
+            assertThrows(InvalidEvaluationException.class,
+                () -> cohort.add("STU001", true, new double[] {21.0}, new double[] {1.0}, 1));
+            assertEquals(0, cohort.size());
+        }
+    }
+}
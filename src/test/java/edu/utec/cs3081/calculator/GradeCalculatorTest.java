@@ -10,7 +10,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -468,6 +472,63 @@ class GradeCalculatorTest {
             assertTrue(report.contains("NOTA FINAL"));
         }
 
+        @Test
+        @DisplayName("shouldStreamSameReportAsFormattedText")
+        void shouldStreamSameReportAsFormattedText() throws IOException {
+            Student student = new Student("STU034", true);
+            student.addEvaluation(new Evaluation("PC1", 13.335, 0.125));
+            student.addEvaluation(new Evaluation("PC2", 16.005, 0.375));
+            student.addEvaluation(new Evaluation("Final", 12.5, 0.5));
+            GradeResult result = calculator.calculateFinalGrade(student, 2025);
+
+            StringWriter streamed = new StringWriter();
+            result.writeDetailedReport(streamed);
+
+            assertEquals(formattedReport(result), streamed.toString());
+            assertEquals(formattedReport(result), result.getDetailedReport());
+        }
+
+        private String formattedReport(GradeResult result) {
+            StringBuilder report = new StringBuilder();
+            report.append("═══════════════════════════════════════════\n");
+            report.append("       DETALLE DE CÁLCULO DE NOTA FINAL    \n");
+            report.append("═══════════════════════════════════════════\n");
+            report.append(String.format("Estudiante: %s%n", result.getStudentCode()));
+            report.append("───────────────────────────────────────────\n");
+            report.append("EVALUACIONES:\n");
+            for (Evaluation eval : result.getEvaluations()) {
+                report.append(String.format("  • %s: %.2f × %.0f%% = %.2f%n",
+                    eval.getName(), eval.getGrade(), eval.getWeight() * 100, eval.getWeightedGrade()));
+            }
+            report.append("───────────────────────────────────────────\n");
+            report.append(String.format("Promedio ponderado: %.2f%n", result.getWeightedAverage()));
+            report.append(String.format("Asistencia: %s%n", result.getAttendanceDetail()));
+            report.append(String.format("Puntos extra: %s%n", result.getExtraPointsDetail()));
+            report.append("═══════════════════════════════════════════\n");
+            report.append(String.format("NOTA FINAL: %.2f%n", result.getFinalGrade()));
+            report.append("═══════════════════════════════════════════\n");
+            return report.toString();
+        }
+
+        @Test
+        @DisplayName("shouldGradeSealedStudentLikeUnsealedStudent")
+        void shouldGradeSealedStudentLikeUnsealedStudent() {
+            Student open = new Student("STU035", true);
+            Student sealed = new Student("STU035", true);
+            for (Student student : Arrays.asList(open, sealed)) {
+                student.addEvaluation(new Evaluation("PC1", 13.3, 0.1));
+                student.addEvaluation(new Evaluation("PC2", 17.7, 0.2));
+                student.addEvaluation(new Evaluation("Parcial", 11.9, 0.3));
+                student.addEvaluation(new Evaluation("Final", 15.1, 0.4));
+            }
+            sealed.seal();
+
+            assertEquals(calculator.calculateFinalGrade(open, 2025).getFinalGrade(),
+                calculator.calculateFinalGrade(sealed, 2025).getFinalGrade());
+            assertEquals(calculator.calculateFinalGrade(open, 2023).getWeightedAverage(),
+                calculator.calculateFinalGrade(sealed, 2023).getWeightedAverage());
+        }
+
         @Test
         @DisplayName("shouldIncludeWeightedAverageInResult")
         void shouldIncludeWeightedAverageInResult() {
@@ -498,6 +559,68 @@ class GradeCalculatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Cálculo Masivo de Cohorte")
+    class CohortCalculation {
+
+        @Test
+        @DisplayName("shouldPreserveInputOrderWhenGradingCohort")
+        void shouldPreserveInputOrderWhenGradingCohort() {
+            List<Student> cohort = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                Student student = new Student("STU" + i, true);
+                student.addEvaluation(new Evaluation("Parcial", i % 21, 0.5));
+                student.addEvaluation(new Evaluation("Final", 10.0, 0.5));
+                cohort.add(student);
+            }
+
+            List<GradeOutcome> outcomes = calculator.calculateAll(cohort, 2023);
+
+            assertEquals(cohort.size(), outcomes.size());
+            for (int i = 0; i < cohort.size(); i++) {
+                GradeOutcome outcome = outcomes.get(i);
+                assertTrue(outcome.isSuccess());
+                assertEquals(i, outcome.getIndex());
+                assertEquals("STU" + i, outcome.getStudentCode());
+                assertEquals(calculator.calculateFinalGrade(cohort.get(i), 2023).getFinalGrade(),
+                        outcome.getResult().getFinalGrade());
+            }
+        }
+
+        @Test
+        @DisplayName("shouldIsolateFailuresWithoutStoppingBatch")
+        void shouldIsolateFailuresWithoutStoppingBatch() {
+            Student valid = createStudentWithEvaluations(new Evaluation("Unica", 14.0, 1.0));
+            Student invalidWeights = new Student("STU040", true);
+            invalidWeights.addEvaluation(new Evaluation("Parcial", 15.0, 0.3));
+
+            List<GradeOutcome> outcomes = calculator.calculateAll(
+                    Arrays.asList(valid, invalidWeights, null, valid), 2025);
+
+            assertEquals(4, outcomes.size());
+            assertTrue(outcomes.get(0).isSuccess());
+            assertFalse(outcomes.get(1).isSuccess());
+            assertEquals("STU040", outcomes.get(1).getStudentCode());
+            assertInstanceOf(GradeCalculationException.class, outcomes.get(1).getError());
+            assertFalse(outcomes.get(2).isSuccess());
+            assertNull(outcomes.get(2).getStudentCode());
+            assertEquals(16.0, outcomes.get(3).getResult().getFinalGrade(), 0.001);
+        }
+
+        @Test
+        @DisplayName("shouldReturnEmptyListWhenCohortIsEmpty")
+        void shouldReturnEmptyListWhenCohortIsEmpty() {
+            assertTrue(calculator.calculateAll(Collections.emptyList(), 2024).isEmpty());
+        }
+
+        @Test
+        @DisplayName("shouldThrowExceptionWhenCohortIsNull")
+        void shouldThrowExceptionWhenCohortIsNull() {
+            assertThrows(GradeCalculationException.class,
+                    () -> calculator.calculateAll(null, 2024));
+        }
+    }
+
     private Student createStudentWithEvaluations(Evaluation... evaluations) {
         Student student = new Student("STU003", true);
         for (Evaluation eval : evaluations) {
@@ -0,0 +1,145 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static edu.utec.cs3081.model.TestStudents.singleEvaluation;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GradeResultCache Tests")
+class GradeResultCacheTest {
+
+    private GradeCalculator calculator;
+    private GradeResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025)));
+        cache = new GradeResultCache(3);
+    }
+
+    @Nested
+    @DisplayName("Aciertos y Fallos")
+    class HitsAndMisses {
+
+        @Test
+        @DisplayName("shouldReturnSameResultForUnchangedStudent")
+        void shouldReturnSameResultForUnchangedStudent() {
+            GradeResult first = cache.getOrCalculate(calculator, singleEvaluation("STU001", 15.0), 2025);
+            GradeResult second = cache.getOrCalculate(calculator, singleEvaluation("STU001", 15.0), 2025);
+
+            assertSame(first, second);
+            assertEquals(17.0, first.getFinalGrade(), 0.001);
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("shouldShareEntriesBetweenEquivalentCalculators")
+        void shouldShareEntriesBetweenEquivalentCalculators() {
+            GradeCalculator equivalent = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025)));
+
+            GradeResult first = cache.getOrCalculate(calculator, singleEvaluation("STU001", 15.0), 2025);
+
+            assertSame(first, cache.getOrCalculate(equivalent, singleEvaluation("STU001", 15.0), 2025));
+        }
+
+        @Test
+        @DisplayName("shouldMissWhenContentYearOrPolicyChanges")
+        void shouldMissWhenContentYearOrPolicyChanges() {
+            cache.getOrCalculate(calculator, singleEvaluation("STU001", 15.0), 2025);
+
+            GradeResult otherGrade = cache.getOrCalculate(calculator, singleEvaluation("STU001", 16.0), 2025);
+            GradeResult otherYear = cache.getOrCalculate(calculator, singleEvaluation("STU001", 15.0), 2024);
+            GradeResult otherPolicy = cache.getOrCalculate(
+                new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025), 3.0)), singleEvaluation("STU001", 15.0), 2025);
+
+            assertEquals(18.0, otherGrade.getFinalGrade(), 0.001);
+            assertEquals(15.0, otherYear.getFinalGrade(), 0.001);
+            assertEquals(18.0, otherPolicy.getFinalGrade(), 0.001);
+            assertEquals(0, cache.getHitCount());
+            assertEquals(4, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("shouldKeepCachedEvaluationsWhenStudentChangesLater")
+        void shouldKeepCachedEvaluationsWhenStudentChangesLater() {
+            Student student = new Student("STU001", true);
+            student.addEvaluation(new Evaluation("Parcial", 15.0, 0.5));
+            student.addEvaluation(new Evaluation("Final", 15.0, 0.5));
+            GradeResult cached = cache.getOrCalculate(calculator, student, 2024);
+
+            student.removeEvaluation(1);
+
+            assertEquals(2, cached.getEvaluations().size());
+        }
+
+        @Test
+        @DisplayName("shouldNotCacheFailedCalculations")
+        void shouldNotCacheFailedCalculations() {
+            Student invalid = new Student("STU001", true);
+            invalid.addEvaluation(new Evaluation("Parcial", 15.0, 0.5));
+
+            assertThrows(GradeCalculationException.class, () -> cache.getOrCalculate(calculator, invalid, 2025));
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Desalojo y Concurrencia")
+    class EvictionAndConcurrency {
+
+        @Test
+        @DisplayName("shouldEvictLeastRecentlyUsedEntry")
+        void shouldEvictLeastRecentlyUsedEntry() {
+            GradeResult first = cache.getOrCalculate(calculator, singleEvaluation("STU001", 10.0), 2025);
+            cache.getOrCalculate(calculator, singleEvaluation("STU002", 11.0), 2025);
+            cache.getOrCalculate(calculator, singleEvaluation("STU003", 12.0), 2025);
+            cache.getOrCalculate(calculator, singleEvaluation("STU001", 10.0), 2025);
+
+            cache.getOrCalculate(calculator, singleEvaluation("STU004", 13.0), 2025);
+
+            assertEquals(3, cache.size());
+            assertEquals(1, cache.getEvictionCount());
+            assertSame(first, cache.getOrCalculate(calculator, singleEvaluation("STU001", 10.0), 2025));
+            long misses = cache.getMissCount();
+            cache.getOrCalculate(calculator, singleEvaluation("STU002", 11.0), 2025);
+            assertEquals(misses + 1, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("shouldServeConcurrentRequestsConsistently")
+        void shouldServeConcurrentRequestsConsistently() throws Exception {
+            GradeResultCache shared = new GradeResultCache(100);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<GradeResult>> futures = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    int code = i % 50;
+                    futures.add(executor.submit(
+                        () -> shared.getOrCalculate(calculator, singleEvaluation("STU" + code, code % 21), 2024)));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    assertEquals((i % 50) % 21, futures.get(i).get().getFinalGrade(), 0.001);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(400, shared.getHitCount() + shared.getMissCount());
+            assertEquals(50, shared.size());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IncrementalGrade Tests")
+class IncrementalGradeTest {
+
+    private GradeCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025)));
+    }
+
+    @Nested
+    @DisplayName("Actualización Incremental")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("shouldMatchFullRecalculationAfterEachChange")
+        void shouldMatchFullRecalculationAfterEachChange() {
+            IncrementalGrade grade = new IncrementalGrade(calculator, new Student("STU001", true), 2025);
+
+            grade.addEvaluation(new Evaluation("PC1", 13.3, 0.2));
+            grade.addEvaluation(new Evaluation("PC2", 17.1, 0.3));
+            grade.addEvaluation(new Evaluation("Final", 12.9, 0.5));
+            assertEquals(calculator.calculateFinalGrade(grade.getStudent(), 2025).getFinalGrade(), grade.getFinalGrade());
+
+            grade.replaceEvaluation(1, new Evaluation("PC2", 9.7, 0.3));
+            assertEquals(calculator.calculateFinalGrade(grade.getStudent(), 2025).getFinalGrade(), grade.getFinalGrade());
+
+            grade.removeEvaluation(0);
+            grade.addEvaluation(new Evaluation("PC1", 13.3, 0.2));
+            assertEquals(calculator.calculateFinalGrade(grade.getStudent(), 2025).getFinalGrade(), grade.getFinalGrade());
+        }
+
+        @Test
+        @DisplayName("shouldIgnoreLaterChangesToOriginalStudent")
+        void shouldIgnoreLaterChangesToOriginalStudent() {
+            Student student = new Student("STU005", true);
+            student.addEvaluation(new Evaluation("Parcial", 12.0, 0.5));
+            IncrementalGrade grade = new IncrementalGrade(calculator, student, 2024);
+            double before = grade.addEvaluation(new Evaluation("Final", 16.0, 0.5));
+
+            student.replaceEvaluation(0, new Evaluation("Parcial", 20.0, 0.5));
+
+            assertEquals(before, grade.getFinalGrade());
+            assertEquals(14.0, grade.toResult().getFinalGrade(), 0.001);
+            assertEquals(12.0, grade.getStudent().getEvaluations().get(0).getGrade());
+            assertEquals(1, student.getEvaluationCount());
+        }
+
+        @Test
+        @DisplayName("shouldReportProvisionalGradeWhileWeightsAreIncomplete")
+        void shouldReportProvisionalGradeWhileWeightsAreIncomplete() {
+            IncrementalGrade grade = new IncrementalGrade(calculator, new Student("STU002", true), 2024);
+
+            grade.addEvaluation(new Evaluation("Parcial", 15.0, 0.4));
+
+            assertFalse(grade.hasValidWeights());
+            assertEquals(6.0, grade.getFinalGrade(), 0.001);
+            assertThrows(GradeCalculationException.class, grade::toResult);
+        }
+
+        @Test
+        @DisplayName("shouldReturnZeroWhenNoAttendance")
+        void shouldReturnZeroWhenNoAttendance() {
+            IncrementalGrade grade = new IncrementalGrade(calculator, new Student("STU003", false), 2025);
+
+            assertEquals(0.0, grade.addEvaluation(new Evaluation("Unica", 19.0, 1.0)), 0.001);
+            assertTrue(grade.toResult().isPenalizedByAttendance());
+        }
+    }
+
+    @Nested
+    @DisplayName("Resultado Bajo Demanda")
+    class LazyResult {
+
+        @Test
+        @DisplayName("shouldReuseResultUntilNextChange")
+        void shouldReuseResultUntilNextChange() {
+            IncrementalGrade grade = new IncrementalGrade(calculator, new Student("STU004", true), 2025);
+            grade.addEvaluation(new Evaluation("Unica", 14.0, 1.0));
+
+            GradeResult first = grade.toResult();
+            assertSame(first, grade.toResult());
+            assertEquals(16.0, first.getFinalGrade(), 0.001);
+
+            grade.replaceEvaluation(0, new Evaluation("Unica", 15.0, 1.0));
+            assertNotSame(first, grade.toResult());
+            assertEquals(17.0, grade.toResult().getFinalGrade(), 0.001);
+        }
+    }
+}
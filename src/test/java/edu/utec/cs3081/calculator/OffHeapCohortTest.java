@@ -0,0 +1,175 @@
+package edu.utec.cs3081.calculator;
+
+import edu.utec.cs3081.exception.InvalidEvaluationException;
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.AttendancePolicy;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static edu.utec.cs3081.model.TestStudents.randomCohort;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OffHeapCohort Tests")
+class OffHeapCohortTest {
+
+    private ExtraPointsPolicy extraPointsPolicy;
+    private GradeCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        extraPointsPolicy = new ExtraPointsPolicy(Arrays.asList(2024, 2025));
+        calculator = new GradeCalculator(new AttendancePolicy(), extraPointsPolicy);
+    }
+
+    @Nested
+    @DisplayName("Almacenamiento")
+    class Storage {
+
+        @Test
+        @DisplayName("shouldReadBackRecordsAcrossSegments")
+        void shouldReadBackRecordsAcrossSegments() {
+            List<Student> students = randomCohort(1000, new Random(7));
+            OffHeapCohort cohort = new OffHeapCohort(100);
+            students.forEach(cohort::add);
+
+            assertEquals(students.size(), cohort.size());
+            assertEquals(8 * 128 * 216L, cohort.getAllocatedBytes());
+            for (int row = 0; row < students.size(); row++) {
+                Student expected = students.get(row);
+                assertEquals(expected.getCode(), cohort.getCode(row));
+                assertEquals(expected.hasReachedMinimumClasses(), cohort.hasReachedMinimumClasses(row));
+                assertEquals(expected.getEvaluationCount(), cohort.getEvaluationCount(row));
+                assertEquals(expected.getTotalWeight(), cohort.getTotalWeight(row));
+                assertEquals(expected.getWeightedGradeSum(), cohort.getWeightedGradeSum(row));
+                for (int slot = 0; slot < expected.getEvaluationCount(); slot++) {
+                    assertEquals(expected.getEvaluations().get(slot).getGrade(), cohort.getGrade(row, slot));
+                    assertEquals(expected.getEvaluations().get(slot).getWeight(), cohort.getWeight(row, slot));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("shouldAccumulateSumsLikeStudent")
+        void shouldAccumulateSumsLikeStudent() {
+            Student student = new Student("ÑANDÚ-01", true);
+            student.addEvaluation(new Evaluation("E1", 13.7, 0.3));
+            student.addEvaluation(new Evaluation("E2", 18.1, 0.3));
+            student.addEvaluation(new Evaluation("E3", 9.9, 0.4));
+            OffHeapCohort cohort = new OffHeapCohort();
+
+            int row = cohort.add("ÑANDÚ-01", true, new double[] {13.7, 18.1, 9.9}, new double[] {0.3, 0.3, 0.4}, 3);
+
+            assertEquals("ÑANDÚ-01", cohort.getCode(row));
+            assertEquals(student.getTotalWeight(), cohort.getTotalWeight(row));
+            assertEquals(student.getWeightedGradeSum(), cohort.getWeightedGradeSum(row));
+        }
+
+        @Test
+        @DisplayName("shouldRejectInvalidRecordsWithoutAddingThem")
+        void shouldRejectInvalidRecordsWithoutAddingThem() {
+            OffHeapCohort cohort = new OffHeapCohort();
+
+            assertThrows(InvalidEvaluationException.class,
+                () -> cohort.add("STU001", true, new double[] {21.0}, new double[] {1.0}, 1));
+            assertThrows(InvalidStudentDataException.class,
+                () -> cohort.add("X".repeat(OffHeapCohort.CODE_WIDTH + 1), true, new double[0], new double[0], 0));
+            assertThrows(InvalidStudentDataException.class, () -> cohort.add(null));
+            assertEquals(0, cohort.size());
+            assertThrows(IndexOutOfBoundsException.class, () -> cohort.getCode(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cálculo sin Materializar Estudiantes")
+    class Grading {
+
+        @Test
+        @DisplayName("shouldMatchGradeCalculatorBitForBit")
+        void shouldMatchGradeCalculatorBitForBit() {
+            List<Student> students = randomCohort(5000, new Random(42));
+            OffHeapCohort cohort = new OffHeapCohort(256);
+            students.forEach(cohort::add);
+            ColumnarGradeEngine engine = new ColumnarGradeEngine(extraPointsPolicy);
+
+            for (int year : new int[] {2023, 2025}) {
+                ColumnarResults results = engine.calculateAll(cohort, year);
+
+                assertEquals(students.size(), results.size());
+                for (int i = 0; i < students.size(); i++) {
+                    GradeResult expected = calculator.calculateFinalGrade(students.get(i), year);
+                    assertEquals(expected.getWeightedAverage(), results.getWeightedAverage(i));
+                    assertEquals(expected.getFinalGrade(), results.getFinalGrade(i));
+                    assertEquals(expected.getExtraPointsApplied(), results.getExtraPointsApplied(i));
+                    assertEquals(expected.isPenalizedByAttendance(), results.isPenalizedByAttendance(i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("shouldFlagInvalidRecords")
+        void shouldFlagInvalidRecords() {
+            OffHeapCohort cohort = new OffHeapCohort();
+            cohort.add("STU001", true, new double[] {15.0, 15.0}, new double[] {0.3, 0.3}, 2);
+            cohort.add("STU002", true, new double[0], new double[0], 0);
+            cohort.add("STU003", false, new double[] {16.0}, new double[] {1.0}, 1);
+
+            ColumnarResults results = new ColumnarGradeEngine().calculateAll(cohort, 2025);
+
+            assertEquals(ColumnarResults.Status.INVALID_WEIGHTS, results.getStatus(0));
+            assertTrue(Double.isNaN(results.getFinalGrade(0)));
+            assertEquals(ColumnarResults.Status.NO_EVALUATIONS, results.getStatus(1));
+            assertEquals(ColumnarResults.Status.PENALIZED_BY_ATTENDANCE, results.getStatus(2));
+            assertEquals(0.0, results.getFinalGrade(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Vista de Estudiante")
+    class View {
+
+        @Test
+        @DisplayName("shouldGradeThroughReusedViewLikeStudent")
+        void shouldGradeThroughReusedViewLikeStudent() {
+            List<Student> students = randomCohort(300, new Random(9));
+            OffHeapCohort cohort = new OffHeapCohort(64);
+            students.forEach(cohort::add);
+            OffHeapStudentView view = cohort.view(0);
+
+            for (int row = 0; row < students.size(); row++) {
+                GradeResult expected = calculator.calculateFinalGrade(students.get(row), 2024);
+                GradeResult actual = calculator.calculateFinalGrade(view.moveTo(row), 2024);
+
+                assertEquals(expected.getStudentCode(), actual.getStudentCode());
+                assertEquals(expected.getFinalGrade(), actual.getFinalGrade());
+                assertEquals(expected.getAttendanceDetail(), actual.getAttendanceDetail());
+                assertEquals(expected.getEvaluations().size(), actual.getEvaluations().size());
+            }
+        }
+
+        @Test
+        @DisplayName("shouldExposeReadSideOfStudent")
+        void shouldExposeReadSideOfStudent() {
+            OffHeapCohort cohort = new OffHeapCohort();
+            cohort.add("STU001", false, new double[] {12.0, 16.0}, new double[] {0.4, 0.6}, 2);
+            OffHeapStudentView view = cohort.view(0);
+
+            assertEquals("STU001", view.getCode());
+            assertFalse(view.hasReachedMinimumClasses());
+            assertTrue(view.hasValidTotalWeight());
+            assertFalse(view.isSealed());
+            assertEquals("E2", view.getEvaluations().get(1).getName());
+            assertEquals(16.0, view.getEvaluations().get(1).getGrade());
+            assertThrows(UnsupportedOperationException.class, () -> view.getEvaluations().clear());
+            assertThrows(IndexOutOfBoundsException.class, () -> view.moveTo(1));
+        }
+    }
+}
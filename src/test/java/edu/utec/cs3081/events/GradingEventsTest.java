@@ -0,0 +1,149 @@
+package edu.utec.cs3081.events;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Grading Events Tests")
+class GradingEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GradeCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025)));
+    }
+
+    @Nested
+    @DisplayName("Configuración por Defecto")
+    class Defaults {
+
+        @Test
+        @DisplayName("shouldBeDisabledByDefault")
+        void shouldBeDisabledByDefault() {
+            assertFalse(EventType.getEventType(GradeCalculationEvent.class).isEnabled());
+            assertFalse(EventType.getEventType(GradingBatchEvent.class).isEnabled());
+        }
+
+        @Test
+        @DisplayName("shouldClassifyOutcomes")
+        void shouldClassifyOutcomes() {
+            assertEquals(GradeCalculationEvent.OUTCOME_PENALIZED, GradeCalculationEvent.outcomeOf(true, 0.0));
+            assertEquals(GradeCalculationEvent.OUTCOME_EXTRA_POINTS, GradeCalculationEvent.outcomeOf(false, 1.0));
+            assertEquals(GradeCalculationEvent.OUTCOME_GRADED, GradeCalculationEvent.outcomeOf(false, 0.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Grabación")
+    class Recorded {
+
+        @Test
+        @DisplayName("shouldRecordIndividualCalculation")
+        void shouldRecordIndividualCalculation() throws Exception {
+            List<RecordedEvent> events = record(() -> calculator.calculateFinalGrade(student("STU001", 15.0, true), 2025));
+
+            List<RecordedEvent> calculations = ofType(events, "edu.utec.cs3081.GradeCalculation");
+            assertEquals(1, calculations.size());
+            RecordedEvent event = calculations.get(0);
+            assertEquals("STU001", event.getString("studentCode"));
+            assertEquals(2, event.getInt("evaluationCount"));
+            assertEquals(2025, event.getInt("academicYear"));
+            assertEquals(GradeCalculationEvent.OUTCOME_EXTRA_POINTS, event.getString("outcome"));
+            assertEquals(17.0, event.getDouble("finalGrade"), 0.001);
+            assertEquals(GradeCalculationEvent.NO_BATCH, event.getLong("batchId"));
+        }
+
+        @Test
+        @DisplayName("shouldRecordFailedCalculation")
+        void shouldRecordFailedCalculation() throws Exception {
+            Student invalid = new Student("STU002", true);
+            invalid.addEvaluation(new Evaluation("Parcial", 15.0, 0.5));
+
+            List<RecordedEvent> events = record(() -> assertThrows(RuntimeException.class,
+                () -> calculator.calculateFinalGrade(invalid, 2024)));
+
+            RecordedEvent event = ofType(events, "edu.utec.cs3081.GradeCalculation").get(0);
+            assertEquals("STU002", event.getString("studentCode"));
+            assertEquals(GradeCalculationEvent.OUTCOME_ERROR, event.getString("outcome"));
+            assertTrue(Double.isNaN(event.getDouble("finalGrade")));
+        }
+
+        @Test
+        @DisplayName("shouldCorrelateCohortCalculationsWithBatch")
+        void shouldCorrelateCohortCalculationsWithBatch() throws Exception {
+            List<Student> cohort = new ArrayList<>();
+            cohort.add(student("STU001", 15.0, true));
+            cohort.add(student("STU002", 12.0, false));
+            Student invalid = new Student("STU003", true);
+            invalid.addEvaluation(new Evaluation("Parcial", 15.0, 0.5));
+            cohort.add(invalid);
+            List<GradeOutcome> outcomes = new ArrayList<>();
+
+            List<RecordedEvent> events = record(() -> outcomes.addAll(calculator.calculateAll(cohort, 2024)));
+
+            assertEquals(3, outcomes.size());
+            List<RecordedEvent> batches = ofType(events, "edu.utec.cs3081.GradingBatch");
+            assertEquals(1, batches.size());
+            RecordedEvent batch = batches.get(0);
+            assertEquals(GradingBatchEvent.KIND_COHORT, batch.getString("kind"));
+            assertEquals(3, batch.getLong("students"));
+            assertEquals(1, batch.getLong("failures"));
+            long batchId = batch.getLong("batchId");
+            assertTrue(batchId > 0);
+            List<RecordedEvent> calculations = ofType(events, "edu.utec.cs3081.GradeCalculation");
+            assertEquals(3, calculations.size());
+            for (RecordedEvent calculation : calculations) {
+                assertEquals(batchId, calculation.getLong("batchId"));
+            }
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = tempDir.resolve("grading.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(GradeCalculationEvent.class).withoutThreshold();
+            recording.enable(GradingBatchEvent.class).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+
+    private static Student student(String code, double grade, boolean attendance) {
+        Student student = new Student(code, attendance);
+        student.addEvaluation(new Evaluation("Parcial", grade, 0.4));
+        student.addEvaluation(new Evaluation("Final", grade, 0.6));
+        return student;
+    }
+}
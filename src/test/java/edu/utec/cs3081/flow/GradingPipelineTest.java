@@ -0,0 +1,216 @@
+package edu.utec.cs3081.flow;
+
+import edu.utec.cs3081.batch.BatchSummary;
+import edu.utec.cs3081.batch.CsvBatchGrader;
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.io.CsvResultWriter;
+import edu.utec.cs3081.io.CsvRosterReader;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Grading Pipeline Tests")
+class GradingPipelineTest {
+
+    private ExecutorService gradingExecutor;
+    private ExecutorService deliveryExecutor;
+    private GradeCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        gradingExecutor = Executors.newFixedThreadPool(4);
+        deliveryExecutor = Executors.newCachedThreadPool();
+        calculator = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gradingExecutor.shutdownNow();
+        deliveryExecutor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Flujo Completo")
+    class EndToEnd {
+
+        @Test
+        @DisplayName("shouldProduceSameRowsAsBatchGrader")
+        void shouldProduceSameRowsAsBatchGrader() throws Exception {
+            String roster = roster(500);
+            StringWriter streamed = new StringWriter();
+            RosterPublisher publisher = new RosterPublisher(reader(roster), deliveryExecutor);
+            GradingProcessor processor = new GradingProcessor(calculator, 2025, gradingExecutor, 4, deliveryExecutor, 16);
+            ResultWriterSubscriber subscriber = new ResultWriterSubscriber(new CsvResultWriter(streamed), 8);
+            processor.subscribe(subscriber);
+            publisher.subscribe(processor);
+
+            BatchSummary summary = subscriber.getCompletion().get(10, TimeUnit.SECONDS);
+
+            StringWriter expected = new StringWriter();
+            new CsvBatchGrader(calculator).run(reader(roster), new CsvResultWriter(expected), 2025);
+            List<String> expectedRows = sortedLines(expected.toString());
+            expectedRows.removeIf(line -> line.contains(",ERROR,"));
+            assertEquals(expectedRows, sortedLines(streamed.toString()));
+            assertEquals(499, summary.getRows());
+            assertEquals(0, summary.getFailed());
+            assertEquals(1, publisher.getInvalidRows());
+        }
+
+        @Test
+        @DisplayName("shouldSkipAndCountInvalidRows")
+        void shouldSkipAndCountInvalidRows() throws Exception {
+            String roster = "STU001,s,Unica,15,1.0\nSTU002,s,Unica,25,1.0\n,x,Unica,10,1.0\nSTU004,n,Unica,12,1.0\n";
+            RosterPublisher publisher = new RosterPublisher(reader(roster), deliveryExecutor);
+            RecordingSubscriber<Student> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+            publisher.subscribe(subscriber);
+
+            assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+            assertEquals(2, subscriber.items.size());
+            assertEquals(2, publisher.getInvalidRows());
+        }
+    }
+
+    @Nested
+    @DisplayName("Contrapresión")
+    class Backpressure {
+
+        @Test
+        @DisplayName("shouldReadOnlyRequestedStudents")
+        void shouldReadOnlyRequestedStudents() throws Exception {
+            RosterPublisher publisher = new RosterPublisher(reader(roster(100)), deliveryExecutor);
+            RecordingSubscriber<Student> subscriber = new RecordingSubscriber<>(3);
+
+            publisher.subscribe(subscriber);
+            Thread.sleep(100);
+
+            assertEquals(3, subscriber.items.size());
+            assertEquals(1, subscriber.completed.getCount());
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+            assertEquals(99, subscriber.items.size());
+            assertEquals(1, publisher.getInvalidRows());
+        }
+
+        @Test
+        @DisplayName("shouldBoundUpstreamDemandWhenConsumerStalls")
+        void shouldBoundUpstreamDemandWhenConsumerStalls() throws Exception {
+            int parallelism = 2;
+            int bufferCapacity = 8;
+            CountingPublisher upstream = new CountingPublisher();
+            GradingProcessor processor = new GradingProcessor(
+                calculator, 2025, gradingExecutor, parallelism, deliveryExecutor, bufferCapacity);
+            RecordingSubscriber<GradeOutcome> stalled = new RecordingSubscriber<>(2);
+            processor.subscribe(stalled);
+            upstream.subscribe(processor);
+
+            Thread.sleep(300);
+
+            assertEquals(2, stalled.items.size());
+            long requested = upstream.requested.get();
+            assertTrue(requested <= 2 + bufferCapacity + 2L * parallelism, () -> "pedidos: " + requested);
+            stalled.subscription.cancel();
+        }
+    }
+
+    private static CsvRosterReader reader(String roster) {
+        return new CsvRosterReader(new ByteArrayInputStream(roster.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String roster(int rows) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            double secondWeight = i == rows - 1 ? 0.5 : 0.6;
+            text.append("STU").append(i).append(i % 3 == 0 ? ",n" : ",s")
+                .append(",Parcial,").append(i % 21).append(",0.4,Final,").append((i * 7) % 21)
+                .append(',').append(secondWeight).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static List<String> sortedLines(String text) {
+        List<String> lines = new ArrayList<>(Arrays.asList(text.split("\n")));
+        Collections.sort(lines);
+        return lines;
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        private final long initialDemand;
+        private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+
+        RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+
+    /**
+     * Upstream infinito que entrega en el hilo que pide y cuenta la demanda recibida.
+     */
+    private static final class CountingPublisher implements Flow.Publisher<Student> {
+        private final AtomicLong requested = new AtomicLong();
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Student> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public synchronized void request(long n) {
+                    requested.addAndGet(n);
+                    for (long i = 0; i < n; i++) {
+                        Student student = new Student("STU" + requested.get() + "-" + i, true);
+                        student.addEvaluation(new Evaluation("Unica", 15.0, 1.0));
+                        subscriber.onNext(student);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+}
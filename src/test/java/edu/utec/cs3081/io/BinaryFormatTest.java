@@ -0,0 +1,132 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.calculator.ColumnarCohort;
+import edu.utec.cs3081.calculator.ColumnarGradeEngine;
+import edu.utec.cs3081.calculator.ColumnarResults;
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Binary Format Tests")
+class BinaryFormatTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Roster Binario")
+    class BinaryRoster {
+
+        @Test
+        @DisplayName("shouldRoundTripStudents")
+        void shouldRoundTripStudents() throws IOException {
+            Path file = tempDir.resolve("roster.bin");
+            Student first = new Student("STU001", true);
+            first.addEvaluation(new Evaluation("Parcial", 15.25, 0.4));
+            first.addEvaluation(new Evaluation("Final", 18.0, 0.6));
+            try (BinaryRosterWriter writer = new BinaryRosterWriter(file)) {
+                writer.write(first);
+                writer.write("ÑAND02", false, new double[] {12.0}, new double[] {1.0}, 1);
+            }
+
+            BinaryRosterFile roster = BinaryRosterFile.open(file);
+
+            assertEquals(2, roster.size());
+            assertEquals(BinaryFormat.HEADER_SIZE + 2L * BinaryRosterWriter.RECORD_SIZE, Files.size(file));
+            assertEquals("STU001", roster.getCode(0));
+            assertTrue(roster.hasReachedMinimumClasses(0));
+            assertEquals(2, roster.getEvaluationCount(0));
+            assertEquals(15.25, roster.getGrade(0, 0));
+            assertEquals(0.6, roster.getWeight(0, 1));
+            assertEquals("ÑAND02", roster.getCode(1));
+            assertFalse(roster.hasReachedMinimumClasses(1));
+            assertEquals("E1", roster.toStudent(1).getEvaluations().get(0).getName());
+        }
+
+        @Test
+        @DisplayName("shouldRegradeFromColumnarCohortLikeCalculator")
+        void shouldRegradeFromColumnarCohortLikeCalculator() throws IOException {
+            Path file = tempDir.resolve("roster.bin");
+            Student student = new Student("STU001", true);
+            student.addEvaluation(new Evaluation("PC1", 13.7, 0.3));
+            student.addEvaluation(new Evaluation("Final", 16.1, 0.7));
+            try (BinaryRosterWriter writer = new BinaryRosterWriter(file)) {
+                writer.write(student);
+            }
+
+            ColumnarCohort cohort = BinaryRosterFile.open(file).toColumnarCohort();
+            ColumnarResults results = new ColumnarGradeEngine().calculateAll(cohort, 2025);
+
+            assertEquals(new GradeCalculator().calculateFinalGrade(student, 2025).getFinalGrade(),
+                results.getFinalGrade(0));
+        }
+
+        @Test
+        @DisplayName("shouldRejectCodeLongerThanFormatWidth")
+        void shouldRejectCodeLongerThanFormatWidth() throws IOException {
+            try (BinaryRosterWriter writer = new BinaryRosterWriter(tempDir.resolve("roster.bin"))) {
+                assertThrows(InvalidStudentDataException.class,
+                    () -> writer.write("X".repeat(40), true, new double[] {10}, new double[] {1}, 1));
+            }
+        }
+
+        @Test
+        @DisplayName("shouldRejectFileWithWrongKind")
+        void shouldRejectFileWithWrongKind() throws IOException {
+            Path file = tempDir.resolve("results.bin");
+            new BinaryResultWriter(file).close();
+
+            assertThrows(IOException.class, () -> BinaryRosterFile.open(file));
+        }
+
+        @Test
+        @DisplayName("shouldRejectFileWithoutMagic")
+        void shouldRejectFileWithoutMagic() throws IOException {
+            Path file = tempDir.resolve("roster.csv");
+            Files.writeString(file, "STU001,s,Parcial,15,1.0\n");
+
+            assertThrows(IOException.class, () -> BinaryRosterFile.open(file));
+        }
+    }
+
+    @Nested
+    @DisplayName("Resultados Binarios")
+    class BinaryResults {
+
+        @Test
+        @DisplayName("shouldRoundTripResults")
+        void shouldRoundTripResults() throws IOException {
+            Path file = tempDir.resolve("results.bin");
+            Student student = new Student("STU001", false);
+            student.addEvaluation(new Evaluation("Unica", 17.0, 1.0));
+            GradeResult result = new GradeCalculator().calculateFinalGrade(student, 2025);
+            try (BinaryResultWriter writer = new BinaryResultWriter(file)) {
+                writer.write(result);
+                writer.writeError("STU002");
+            }
+
+            BinaryResultFile results = BinaryResultFile.open(file);
+
+            assertEquals(2, results.size());
+            assertEquals("STU001", results.getCode(0));
+            assertTrue(results.isPenalizedByAttendance(0));
+            assertEquals(17.0, results.getWeightedAverage(0));
+            assertEquals(0.0, results.getFinalGrade(0));
+            assertTrue(results.isError(1));
+            assertTrue(Double.isNaN(results.getFinalGrade(1)));
+            assertThrows(IndexOutOfBoundsException.class, () -> results.getCode(2));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.validation.ValidationCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvRosterReader Tests")
+class CsvRosterReaderTest {
+
+    @Nested
+    @DisplayName("Lectura Válida")
+    class ValidReading {
+
+        @Test
+        @DisplayName("shouldReadStudentsWithEvaluations")
+        void shouldReadStudentsWithEvaluations() throws IOException {
+            CsvRosterReader reader = readerOf("# codigo,asistencia,...\n"
+                + "STU001,s,Parcial,15.0,0.4,Final,18,0.6\r\n"
+                + "\n"
+                + "STU002,no,Unica,12.5,1.0");
+
+            Student first = reader.readStudent();
+            Student second = reader.readStudent();
+
+            assertEquals("STU001", first.getCode());
+            assertTrue(first.hasReachedMinimumClasses());
+            assertEquals(2, first.getEvaluationCount());
+            assertEquals("Final", first.getEvaluations().get(1).getName());
+            assertEquals(18.0, first.getEvaluations().get(1).getGrade(), 0.001);
+            assertEquals("STU002", second.getCode());
+            assertFalse(second.hasReachedMinimumClasses());
+            assertNull(reader.readStudent());
+        }
+
+        @Test
+        @DisplayName("shouldTrackByteOffsetAndLineNumber")
+        void shouldTrackByteOffsetAndLineNumber() throws IOException {
+            String firstLine = "ÑAND01,s,Única,15,1\n";
+            CsvRosterReader reader = readerOf(firstLine + "STU002,s,E1,10,1\n");
+
+            reader.readStudent();
+
+            assertEquals(firstLine.getBytes(StandardCharsets.UTF_8).length, reader.getOffset());
+            assertEquals(1, reader.getLineNumber());
+        }
+
+        @Test
+        @DisplayName("shouldAcceptUppercaseAttendanceRegardlessOfLocale")
+        void shouldAcceptUppercaseAttendanceRegardlessOfLocale() {
+            Locale original = Locale.getDefault();
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            try {
+                assertTrue(CsvRosterReader.parseAttendance("SI", 1));
+                assertTrue(CsvRosterReader.parseAttendance(" TRUE ", 1));
+                assertFalse(CsvRosterReader.parseAttendance("FALSE", 1));
+            } finally {
+                Locale.setDefault(original);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Filas Inválidas")
+    class InvalidRows {
+
+        @Test
+        @DisplayName("shouldContinueAfterInvalidRow")
+        void shouldContinueAfterInvalidRow() throws IOException {
+            CsvRosterReader reader = readerOf("STU001,s,Parcial,abc,1.0\nSTU002,s,Final,14,1.0\n");
+
+            InvalidStudentDataException exception =
+                assertThrows(InvalidStudentDataException.class, reader::readStudent);
+            assertTrue(exception.getMessage().contains("Línea 1"));
+            assertEquals("STU002", reader.readStudent().getCode());
+        }
+
+        @Test
+        @DisplayName("shouldRejectIncompleteEvaluationTriplet")
+        void shouldRejectIncompleteEvaluationTriplet() {
+            assertThrows(InvalidStudentDataException.class,
+                () -> CsvRosterReader.parseStudent("STU001,s,Parcial,15", 1));
+        }
+
+        @Test
+        @DisplayName("shouldRejectInvalidAttendanceFlag")
+        void shouldRejectInvalidAttendanceFlag() {
+            assertThrows(InvalidStudentDataException.class,
+                () -> CsvRosterReader.parseStudent("STU001,quizas,Parcial,15,1.0", 1));
+        }
+
+        @Test
+        @DisplayName("shouldReportFirstValidationError")
+        void shouldReportFirstValidationError() {
+            InvalidStudentDataException exception = assertThrows(InvalidStudentDataException.class,
+                () -> CsvRosterReader.parseStudent("STU001,s,Parcial,25,1.0", 7));
+
+            assertEquals("Línea 7, campo 4: " + ValidationCode.GRADE_OUT_OF_RANGE.describe(25.0),
+                exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("shouldRejectInvalidWeightSum")
+        void shouldRejectInvalidWeightSum() {
+            assertThrows(InvalidStudentDataException.class,
+                () -> CsvRosterReader.parseStudent("STU001,s,Parcial,15,0.4,Final,15,0.4", 1));
+        }
+    }
+
+    private static CsvRosterReader readerOf(String content) {
+        return new CsvRosterReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,210 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.AttendancePolicy;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import edu.utec.cs3081.policy.GradeCapPolicy;
+import edu.utec.cs3081.policy.PolicyPipeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GradeResultLog Tests")
+class GradeResultLogTest {
+
+    private static final GradeCalculator CALCULATOR =
+        new GradeCalculator(new AttendancePolicy(), new ExtraPointsPolicy(List.of(2025)));
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Consultas y Recorridos")
+    class LookupsAndScans {
+
+        @Test
+        @DisplayName("shouldRoundTripFullResult")
+        void shouldRoundTripFullResult() throws IOException {
+            GradeResult expected = CALCULATOR.calculateFinalGrade(student("ÑAND01", 14.5, true), 2025);
+
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                log.append(expected);
+
+                GradeResult actual = log.get("ÑAND01");
+                assertEquals(expected.getStudentCode(), actual.getStudentCode());
+                assertEquals(expected.getWeightedAverage(), actual.getWeightedAverage());
+                assertEquals(expected.getExtraPointsApplied(), actual.getExtraPointsApplied());
+                assertEquals(expected.getFinalGrade(), actual.getFinalGrade());
+                assertEquals(expected.isMeetsAttendance(), actual.isMeetsAttendance());
+                assertEquals(expected.isPenalizedByAttendance(), actual.isPenalizedByAttendance());
+                assertEquals(expected.getAttendanceDetail(), actual.getAttendanceDetail());
+                assertEquals(expected.getExtraPointsDetail(), actual.getExtraPointsDetail());
+                assertEquals(expected.getDetailedReport(), actual.getDetailedReport());
+                assertNull(actual.getAdjustmentDetail());
+                assertNull(log.get("STU999"));
+                assertNull(log.get(null));
+            }
+        }
+
+        @Test
+        @DisplayName("shouldRoundTripAdjustmentDetail")
+        void shouldRoundTripAdjustmentDetail() throws IOException {
+            GradeCalculator capped = new GradeCalculator(new PolicyPipeline.Builder()
+                .add(new AttendancePolicy())
+                .add(new GradeCapPolicy(12.0))
+                .build());
+            GradeResult expected = capped.calculateFinalGrade(student("STU001", 15.0, true), 2025);
+
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                log.append(expected);
+            }
+
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                GradeResult actual = log.get("STU001");
+                assertEquals(expected.getAdjustmentDetail(), actual.getAdjustmentDetail());
+                assertEquals(expected.getDetailedReport(), actual.getDetailedReport());
+            }
+        }
+
+        @Test
+        @DisplayName("shouldReturnLatestResultAndScanAllInOrder")
+        void shouldReturnLatestResultAndScanAllInOrder() throws IOException {
+            try (GradeResultLog log = GradeResultLog.open(tempDir, 3)) {
+                for (int i = 0; i < 10; i++) {
+                    log.append(result("STU" + (i % 4), i));
+                }
+
+                assertEquals(4, log.size());
+                assertEquals(9.0, log.get("STU1").getFinalGrade());
+                assertEquals(6.0, log.get("STU2").getFinalGrade());
+                List<Double> scanned = new ArrayList<>();
+                log.scan(result -> scanned.add(result.getFinalGrade()));
+                assertEquals(List.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0), scanned);
+            }
+        }
+
+        @Test
+        @DisplayName("shouldFindEveryCodeAfterIndexGrows")
+        void shouldFindEveryCodeAfterIndexGrows() throws IOException {
+            try (GradeResultLog log = GradeResultLog.open(tempDir, 500)) {
+                for (int i = 0; i < 5_000; i++) {
+                    log.append(result("STU" + i, i % 21));
+                }
+            }
+
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                assertEquals(5_000, log.size());
+                assertEquals(0, log.getTruncatedBytes());
+                for (int i = 0; i < 5_000; i++) {
+                    assertEquals(i % 21, log.get("STU" + i).getFinalGrade());
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Recuperación")
+    class Recovery {
+
+        @Test
+        @DisplayName("shouldTruncateTornTailOnReopen")
+        void shouldTruncateTornTailOnReopen() throws IOException {
+            long validEnd;
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                log.append(result("STU1", 11.0));
+                log.append(result("STU2", 12.0));
+                validEnd = log.getLogSize();
+            }
+            try (FileChannel channel = FileChannel.open(tempDir.resolve(GradeResultLog.LOG_FILE),
+                    StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[] {120, 0, 0, 0, 1, 2, 3}), validEnd);
+            }
+
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                assertEquals(7, log.getTruncatedBytes());
+                assertEquals(validEnd, log.getLogSize());
+                assertEquals(12.0, log.get("STU2").getFinalGrade());
+                log.append(result("STU3", 13.0));
+                assertEquals(13.0, log.get("STU3").getFinalGrade());
+            }
+        }
+
+        @Test
+        @DisplayName("shouldIndexRecordsWrittenAfterLastFlush")
+        void shouldIndexRecordsWrittenAfterLastFlush() throws IOException {
+            Path copy = tempDir.resolve("copia");
+            Files.createDirectories(copy);
+            try (GradeResultLog log = GradeResultLog.open(tempDir.resolve("original"), 1_000)) {
+                log.append(result("STU1", 11.0));
+                log.flush();
+                Files.copy(tempDir.resolve("original").resolve(GradeResultLog.INDEX_FILE),
+                    copy.resolve(GradeResultLog.INDEX_FILE));
+                log.append(result("STU1", 15.0));
+                log.append(result("STU2", 16.0));
+                log.flush();
+                Files.copy(tempDir.resolve("original").resolve(GradeResultLog.LOG_FILE),
+                    copy.resolve(GradeResultLog.LOG_FILE));
+            }
+
+            try (GradeResultLog log = GradeResultLog.open(copy)) {
+                assertEquals(2, log.size());
+                assertEquals(15.0, log.get("STU1").getFinalGrade());
+                assertEquals(16.0, log.get("STU2").getFinalGrade());
+            }
+        }
+
+        @Test
+        @DisplayName("shouldRebuildMissingOrCorruptIndex")
+        void shouldRebuildMissingOrCorruptIndex() throws IOException {
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                log.append(result("STU1", 11.0));
+                log.append(result("STU2", 12.0));
+            }
+            Files.write(tempDir.resolve(GradeResultLog.INDEX_FILE), new byte[] {1, 2, 3});
+
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                assertEquals(2, log.size());
+                assertEquals(11.0, log.get("STU1").getFinalGrade());
+            }
+
+            Files.delete(tempDir.resolve(GradeResultLog.INDEX_FILE));
+            try (GradeResultLog log = GradeResultLog.open(tempDir)) {
+                assertEquals(12.0, log.get("STU2").getFinalGrade());
+            }
+        }
+
+        @Test
+        @DisplayName("shouldRejectFileThatIsNotResultLog")
+        void shouldRejectFileThatIsNotResultLog() throws IOException {
+            Files.write(tempDir.resolve(GradeResultLog.LOG_FILE), new byte[64]);
+
+            assertThrows(IOException.class, () -> GradeResultLog.open(tempDir));
+        }
+    }
+
+    private static GradeResult result(String code, double grade) {
+        return CALCULATOR.calculateFinalGrade(student(code, grade, true), 2024);
+    }
+
+    private static Student student(String code, double grade, boolean attendance) {
+        Student student = new Student(code, attendance);
+        student.addEvaluation(new Evaluation("Parcial", grade, 0.5));
+        student.addEvaluation(new Evaluation("Final", grade, 0.5));
+        return student;
+    }
+}
@@ -0,0 +1,264 @@
+package edu.utec.cs3081.io;
+
+import edu.utec.cs3081.calculator.ColumnarCohort;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.validation.ValidationErrors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedRosterReader Tests")
+class MappedRosterReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Lectura Mapeada")
+    class MappedReading {
+
+        @Test
+        @DisplayName("shouldMatchStreamingReaderAcrossWindows")
+        void shouldMatchStreamingReaderAcrossWindows() throws IOException {
+            String content = randomRoster(500, new Random(7));
+            Path roster = write(content);
+            List<Student> expected = new ArrayList<>();
+            CsvRosterReader streaming = new CsvRosterReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+            for (Student s = streaming.readStudent(); s != null; s = streaming.readStudent()) {
+                expected.add(s);
+            }
+
+            List<Student> actual = new ArrayList<>();
+            try (MappedRosterReader reader = new MappedRosterReader(roster, 512)) {
+                reader.read(row -> actual.add(row.toStudent()));
+            }
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Student e = expected.get(i);
+                Student a = actual.get(i);
+                assertEquals(e.getCode(), a.getCode());
+                assertEquals(e.hasReachedMinimumClasses(), a.hasReachedMinimumClasses());
+                assertEquals(e.getEvaluationCount(), a.getEvaluationCount());
+                for (int j = 0; j < e.getEvaluationCount(); j++) {
+                    assertEquals(e.getEvaluations().get(j).getName(), a.getEvaluations().get(j).getName());
+                    assertEquals(e.getEvaluations().get(j).getGrade(), a.getEvaluations().get(j).getGrade());
+                    assertEquals(e.getEvaluations().get(j).getWeight(), a.getEvaluations().get(j).getWeight());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("shouldFeedColumnarCohortWithoutStudentObjects")
+        void shouldFeedColumnarCohortWithoutStudentObjects() throws IOException {
+            Path roster = write("# encabezado\nSTU001, sí ,Parcial,15.5,0.4,Final,18,0.6\r\nSTU002,NO,Unica,12,1\n");
+            ColumnarCohort cohort = new ColumnarCohort();
+
+            try (MappedRosterReader reader = new MappedRosterReader(roster)) {
+                assertEquals(2, reader.read(row -> row.addTo(cohort)));
+            }
+
+            assertEquals(2, cohort.size());
+            assertEquals("STU001", cohort.getCode(0));
+            assertTrue(cohort.hasReachedMinimumClasses(0));
+            assertEquals(15.5, cohort.getGrade(0, 0));
+            assertEquals(0.6, cohort.getWeight(0, 1));
+            assertFalse(cohort.hasReachedMinimumClasses(1));
+        }
+
+        @Test
+        @DisplayName("shouldCopyCodeBytesWithoutCreatingString")
+        void shouldCopyCodeBytesWithoutCreatingString() throws IOException {
+            Path roster = write("ÑAND01,s,Unica,12,1\n");
+            byte[] code = new byte[32];
+            int[] length = new int[1];
+
+            try (MappedRosterReader reader = new MappedRosterReader(roster)) {
+                reader.read(row -> length[0] = row.copyCode(code));
+            }
+
+            assertEquals("ÑAND01", new String(code, 0, length[0], StandardCharsets.UTF_8));
+        }
+    }
+
+    @Nested
+    @DisplayName("Filas Inválidas")
+    class InvalidRows {
+
+        @Test
+        @DisplayName("shouldReportInvalidRowsAndContinue")
+        void shouldReportInvalidRowsAndContinue() throws IOException {
+            Path roster = write("STU001,s,Parcial,1x,1\nSTU002,talvez,Unica,12,1\nSTU003,s,Unica\nSTU004,s,Unica,14,1");
+            List<String> errors = new ArrayList<>();
+            List<String> valid = new ArrayList<>();
+
+            try (MappedRosterReader reader = new MappedRosterReader(roster)) {
+                reader.read(row -> {
+                    if (row.isValid()) {
+                        valid.add(row.getCode());
+                    } else {
+                        errors.add(row.getError());
+                    }
+                });
+            }
+
+            assertEquals(List.of("STU004"), valid);
+            assertEquals(3, errors.size());
+            assertTrue(errors.get(0).startsWith("Línea 1"));
+            assertTrue(errors.get(1).contains("asistencia"));
+        }
+
+        @Test
+        @DisplayName("shouldFailWhenLineExceedsWindow")
+        void shouldFailWhenLineExceedsWindow() throws IOException {
+            Path roster = write("STU001,s,Parcial,15,0.5,Final,15,0.5\nSTU002,s,Unica,12,1\n");
+
+            try (MappedRosterReader reader = new MappedRosterReader(roster, 16)) {
+                assertThrows(IOException.class, () -> reader.read(row -> { }));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Equivalencia entre Lectores")
+    class ReaderEquivalence {
+
+        @Test
+        @DisplayName("shouldAcceptAndRejectSameRowsAsCsvRosterReader")
+        void shouldAcceptAndRejectSameRowsAsCsvRosterReader() throws IOException {
+            String content = "STU001,SÍ,Unica,12,1\n"
+                + "STU002,\tsi\t,Unica,13,1\n"
+                + "STU003, Sí ,Unica,14,1\n"
+                + "\t# comentario con sangría\n"
+                + "STU004,TRUE,Parcial,\t15.5 ,0.4,Final,18,0.6\r\n"
+                + " \t \n"
+                + "STU005,No,Unica,11,1\n"
+                + "STU006,0,Unica,10,1\n"
+                + "STU007,talvez,Unica,12,1\n"
+                + "STU008,s\u00a0,Unica,12,1\n"
+                + "STU009,s,Unica,1x,1\n"
+                + "STU010,s,Unica\n"
+                + "\tSTU011\t,FALSE,Unica,9,1\n";
+            List<String> expectedValid = new ArrayList<>();
+            List<Long> expectedInvalidLines = new ArrayList<>();
+            ValidationErrors errors = new ValidationErrors();
+            CsvRosterReader streaming = new CsvRosterReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+            for (Student s = streaming.readStudent(errors); s != null; s = streaming.readStudent(errors)) {
+                expectedValid.add(describe(s));
+            }
+            for (int i = 0; i < errors.size(); i++) {
+                if (!expectedInvalidLines.contains(errors.getLine(i))) {
+                    expectedInvalidLines.add(errors.getLine(i));
+                }
+            }
+
+            List<String> actualValid = new ArrayList<>();
+            List<Long> actualInvalidLines = new ArrayList<>();
+            try (MappedRosterReader reader = new MappedRosterReader(write(content))) {
+                reader.read(row -> {
+                    if (row.isValid()) {
+                        actualValid.add(describe(row.toStudent()));
+                    } else {
+                        actualInvalidLines.add(row.getLineNumber());
+                    }
+                });
+            }
+
+            assertEquals(7, expectedValid.size());
+            assertEquals(List.of(9L, 10L, 11L, 12L), expectedInvalidLines);
+            assertEquals(expectedValid, actualValid);
+            assertEquals(expectedInvalidLines, actualInvalidLines);
+        }
+
+        private String describe(Student student) {
+            StringBuilder builder = new StringBuilder(student.getCode())
+                .append(',').append(student.hasReachedMinimumClasses());
+            student.getEvaluations().forEach(e -> builder.append(',').append(e.getName())
+                .append(',').append(e.getGrade()).append(',').append(e.getWeight()));
+            return builder.toString();
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversión Decimal")
+    class DecimalParsing {
+
+        @Test
+        @DisplayName("shouldParseExactlyLikeParseDouble")
+        void shouldParseExactlyLikeParseDouble() throws IOException {
+            Random random = new Random(11);
+            List<String> values = new ArrayList<>(List.of("0", "20", "0.1", "0.333", "19.999999999999999999",
+                "1e1", "007.50", "-3.25", "+4"));
+            for (int i = 0; i < 2000; i++) {
+                values.add(String.format(Locale.ROOT, "%." + random.nextInt(17) + "f", random.nextDouble() * 20));
+            }
+            Path file = write(String.join("", values));
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int position = 0;
+                for (String value : values) {
+                    int end = position + value.length();
+                    assertEquals(Double.parseDouble(value), MappedRosterReader.parseDecimal(buffer, position, end),
+                        value);
+                    position = end;
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("shouldReturnNaNForMalformedNumbers")
+        void shouldReturnNaNForMalformedNumbers() throws IOException {
+            Path file = write("1.2.3.-");
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                assertTrue(Double.isNaN(MappedRosterReader.parseDecimal(buffer, 0, 5)));
+                assertTrue(Double.isNaN(MappedRosterReader.parseDecimal(buffer, 5, 6)));
+                assertTrue(Double.isNaN(MappedRosterReader.parseDecimal(buffer, 6, 7)));
+            }
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "roster", ".csv");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static String randomRoster(int students, Random random) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < students; i++) {
+            builder.append("STU").append(i).append(',').append(random.nextBoolean() ? "s" : "n");
+            int evaluations = 1 + random.nextInt(Student.getMaxEvaluations());
+            int remaining = 10_000;
+            for (int e = 0; e < evaluations; e++) {
+                int weight = e == evaluations - 1 ? remaining : 1 + random.nextInt(remaining - (evaluations - e - 1));
+                remaining -= weight;
+                builder.append(",E").append(e).append(',')
+                    .append(String.format(Locale.ROOT, "%.3f", random.nextDouble() * 20)).append(',')
+                    .append(String.format(Locale.ROOT, "%.4f", weight / 10_000.0));
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+}
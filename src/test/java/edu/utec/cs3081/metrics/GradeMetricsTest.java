@@ -0,0 +1,130 @@
+package edu.utec.cs3081.metrics;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.AttendancePolicy;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import edu.utec.cs3081.policy.PolicyPipeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GradeMetrics Tests")
+class GradeMetricsTest {
+
+    private static final PolicyPipeline PIPELINE =
+        PolicyPipeline.standard(new AttendancePolicy(), new ExtraPointsPolicy(Arrays.asList(2025)));
+
+    @Nested
+    @DisplayName("Métricas del Cálculo")
+    class CalculatorMetrics {
+
+        @Test
+        @DisplayName("shouldCountOutcomesAndMeasureEveryStage")
+        void shouldCountOutcomesAndMeasureEveryStage() {
+            GradeMetrics metrics = new GradeMetrics();
+            GradeCalculator calculator = new GradeCalculator(PIPELINE, metrics);
+
+            calculator.calculateFinalGrade(student("STU001", true, 1.0), 2025);
+            calculator.calculateFinalGrade(student("STU002", false, 1.0), 2025);
+            calculator.calculateFinalGrade(student("STU003", true, 1.0), 2024);
+            assertThrows(GradeCalculationException.class,
+                () -> calculator.calculateFinalGrade(student("STU004", true, 0.5), 2025));
+
+            MetricsSnapshot snapshot = metrics.snapshot();
+            assertEquals(3, snapshot.getGraded());
+            assertEquals(1, snapshot.getPenalizedByAttendance());
+            assertEquals(1, snapshot.getExtraPointsApplied());
+            assertEquals(1, snapshot.getFailed());
+            assertEquals(Arrays.asList(GradeMetrics.VALIDATION, GradeMetrics.AVERAGING, "attendance",
+                "extra_points", GradeMetrics.RESULT_BUILD, GradeMetrics.TOTAL),
+                Arrays.asList(snapshot.getStages().keySet().toArray()));
+            assertEquals(3, snapshot.getStage("attendance").getCount());
+            assertEquals(2, snapshot.getStage("extra_points").getCount());
+            assertEquals(3, snapshot.getStage(GradeMetrics.TOTAL).getCount());
+        }
+
+        @Test
+        @DisplayName("shouldMatchResultsWithAndWithoutMetrics")
+        void shouldMatchResultsWithAndWithoutMetrics() {
+            Student student = student("STU001", true, 1.0);
+
+            assertEquals(new GradeCalculator(PIPELINE).calculateFinalGrade(student, 2025).getFinalGrade(),
+                new GradeCalculator(PIPELINE, new GradeMetrics()).calculateFinalGrade(student, 2025).getFinalGrade());
+        }
+
+        @Test
+        @DisplayName("shouldRecordNothingWhenDisabled")
+        void shouldRecordNothingWhenDisabled() {
+            GradeCalculator calculator = new GradeCalculator(PIPELINE);
+
+            calculator.calculateFinalGrade(student("STU001", true, 1.0), 2025);
+
+            assertFalse(calculator.getMetrics().isEnabled());
+            assertEquals(0, calculator.getMetrics().snapshot().getGraded());
+            assertTrue(calculator.getMetrics().snapshot().getStages().isEmpty());
+        }
+
+        @Test
+        @DisplayName("shouldExportSnapshotAsPrometheusText")
+        void shouldExportSnapshotAsPrometheusText() throws IOException {
+            GradeMetrics metrics = new GradeMetrics();
+            new GradeCalculator(PIPELINE, metrics).calculateFinalGrade(student("STU001", true, 1.0), 2025);
+            StringBuilder text = new StringBuilder();
+
+            metrics.snapshot().writeTo(text);
+
+            assertTrue(text.toString().contains("grading_students_graded_total 1\n"));
+            assertTrue(text.toString().contains("grading_stage_latency_nanoseconds_count{stage=\"attendance\"} 1\n"));
+            assertTrue(text.toString().contains("quantile=\"0.99\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Histograma de Latencias")
+    class Histogram {
+
+        @Test
+        @DisplayName("shouldMapValuesToContiguousBuckets")
+        void shouldMapValuesToContiguousBuckets() {
+            for (int index = 0; index < LatencyHistogram.BUCKET_COUNT - 1; index++) {
+                long lower = LatencyHistogram.bucketLowerBound(index);
+                assertEquals(index, LatencyHistogram.bucketIndex(lower));
+                assertEquals(index, LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(index)));
+            }
+            assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        }
+
+        @Test
+        @DisplayName("shouldEstimateQuantilesWithinBucketPrecision")
+        void shouldEstimateQuantilesWithinBucketPrecision() {
+            LatencyHistogram histogram = new LatencyHistogram("test");
+            for (long value = 1; value <= 10_000; value++) {
+                histogram.record(value * 100);
+            }
+
+            HistogramSnapshot snapshot = histogram.snapshot();
+
+            assertEquals(10_000, snapshot.getCount());
+            assertEquals(100, snapshot.getMin());
+            assertEquals(1_000_000, snapshot.getMax());
+            assertEquals(500_050.0, snapshot.getMean(), 0.001);
+            assertEquals(500_000, snapshot.getValueAtQuantile(0.5), 500_000 * 0.125);
+            assertEquals(990_000, snapshot.getValueAtQuantile(0.99), 990_000 * 0.125);
+            assertEquals(1_000_000, snapshot.getValueAtQuantile(1.0));
+        }
+    }
+
+    private static Student student(String code, boolean attendance, double weight) {
+        Student student = new Student(code, attendance);
+        student.addEvaluation(new Evaluation("Unica", 15.0, weight));
+        return student;
+    }
+}
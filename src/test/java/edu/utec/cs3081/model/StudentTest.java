@@ -132,6 +132,58 @@ class StudentTest {
         }
     }
 
+    @Nested
+    @DisplayName("Totales Acumulados")
+    class RunningTotals {
+
+        @Test
+        @DisplayName("shouldAccumulateTotalsWhenAddingEvaluations")
+        void shouldAccumulateTotalsWhenAddingEvaluations() {
+            student.addEvaluation(new Evaluation("Parcial", 15.0, 0.4));
+            student.addEvaluation(new Evaluation("Final", 18.0, 0.6));
+
+            assertEquals(1.0, student.getTotalWeight(), 0.001);
+            assertEquals(15.0 * 0.4 + 18.0 * 0.6, student.getWeightedGradeSum());
+        }
+
+        @Test
+        @DisplayName("shouldUpdateTotalsWhenReplacingEvaluation")
+        void shouldUpdateTotalsWhenReplacingEvaluation() {
+            student.addEvaluation(new Evaluation("Parcial", 15.0, 0.4));
+            student.addEvaluation(new Evaluation("Final", 18.0, 0.6));
+
+            Evaluation previous = student.replaceEvaluation(0, new Evaluation("Parcial", 11.0, 0.4));
+
+            assertEquals(15.0, previous.getGrade(), 0.001);
+            assertEquals(11.0, student.getEvaluations().get(0).getGrade(), 0.001);
+            assertEquals(11.0 * 0.4 + 18.0 * 0.6, student.getWeightedGradeSum());
+        }
+
+        @Test
+        @DisplayName("shouldUpdateTotalsWhenRemovingEvaluation")
+        void shouldUpdateTotalsWhenRemovingEvaluation() {
+            student.addEvaluation(new Evaluation("PC1", 12.0, 0.3));
+            student.addEvaluation(new Evaluation("PC2", 14.0, 0.3));
+            student.addEvaluation(new Evaluation("Final", 16.0, 0.4));
+
+            student.removeEvaluation(1);
+
+            assertEquals(2, student.getEvaluationCount());
+            assertEquals(0.7, student.getTotalWeight(), 0.001);
+            assertEquals(12.0 * 0.3 + 16.0 * 0.4, student.getWeightedGradeSum());
+        }
+
+        @Test
+        @DisplayName("shouldThrowExceptionWhenIndexDoesNotExist")
+        void shouldThrowExceptionWhenIndexDoesNotExist() {
+            student.addEvaluation(new Evaluation("Parcial", 15.0, 1.0));
+
+            assertThrows(InvalidStudentDataException.class, () -> student.removeEvaluation(1));
+            assertThrows(InvalidStudentDataException.class,
+                () -> student.replaceEvaluation(-1, new Evaluation("X", 10.0, 1.0)));
+        }
+    }
+
     @Nested
     @DisplayName("Información del Estudiante")
     class StudentInfo {
@@ -152,4 +204,48 @@ class StudentTest {
             assertTrue(str.contains("1"));
         }
     }
+
+    @Nested
+    @DisplayName("Estado Sellado")
+    class SealedState {
+
+        @Test
+        @DisplayName("shouldRejectChangesAfterSealing")
+        void shouldRejectChangesAfterSealing() {
+            student.addEvaluation(new Evaluation("Parcial", 14.0, 0.4));
+            student.addEvaluation(new Evaluation("Final", 16.0, 0.6));
+
+            student.seal();
+            student.seal();
+
+            assertTrue(student.isSealed());
+            assertThrows(InvalidStudentDataException.class,
+                () -> student.addEvaluation(new Evaluation("Extra", 10.0, 0.1)));
+            assertThrows(InvalidStudentDataException.class,
+                () -> student.replaceEvaluation(0, new Evaluation("Parcial", 10.0, 0.4)));
+            assertThrows(InvalidStudentDataException.class, () -> student.removeEvaluation(0));
+            assertEquals(2, student.getEvaluationCount());
+        }
+
+        @Test
+        @DisplayName("shouldNotSealInvalidEvaluations")
+        void shouldNotSealInvalidEvaluations() {
+            assertThrows(InvalidStudentDataException.class, student::seal);
+
+            student.addEvaluation(new Evaluation("Parcial", 14.0, 0.4));
+
+            assertFalse(student.hasValidTotalWeight());
+            assertThrows(InvalidStudentDataException.class, student::seal);
+            assertFalse(student.isSealed());
+        }
+
+        @Test
+        @DisplayName("shouldReuseUnmodifiableEvaluationsView")
+        void shouldReuseUnmodifiableEvaluationsView() {
+            student.addEvaluation(new Evaluation("Parcial", 14.0, 1.0));
+
+            assertSame(student.getEvaluations(), student.getEvaluations());
+            assertThrows(UnsupportedOperationException.class, () -> student.getEvaluations().clear());
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package edu.utec.cs3081.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Estudiantes de prueba compartidos entre los tests de distintos paquetes.
+ */
+public final class TestStudents {
+
+    private TestStudents() {
+    }
+
+    /**
+     * Estudiante con asistencia y una única evaluación "Unica" de peso 1.0, cuya nota final
+     * sin políticas es exactamente {@code grade}.
+     */
+    public static Student singleEvaluation(String code, double grade) {
+        return singleEvaluation(code, grade, true);
+    }
+
+    /**
+     * Estudiante con una única evaluación "Unica" de peso 1.0.
+     */
+    public static Student singleEvaluation(String code, double grade, boolean attendance) {
+        Student student = new Student(code, attendance);
+        student.addEvaluation(new Evaluation("Unica", grade, 1.0));
+        return student;
+    }
+
+    /**
+     * Cohorte aleatoria con códigos "STU0", "STU1"…, un 10% sin asistencia y entre una y el
+     * máximo de evaluaciones cuyos pesos suman 1.0.
+     */
+    public static List<Student> randomCohort(int count, Random random) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student student = new Student("STU" + i, random.nextInt(10) != 0);
+            int evaluations = 1 + random.nextInt(Student.getMaxEvaluations());
+            double remaining = 1.0;
+            for (int e = 1; e < evaluations; e++) {
+                double weight = Math.round(remaining / (evaluations - e + 1) * 1000) / 1000.0;
+                student.addEvaluation(new Evaluation("E" + e, random.nextDouble() * 20.0, weight));
+                remaining -= weight;
+            }
+            student.addEvaluation(new Evaluation("E" + evaluations, random.nextDouble() * 20.0, remaining));
+            students.add(student);
+        }
+        return students;
+    }
+}
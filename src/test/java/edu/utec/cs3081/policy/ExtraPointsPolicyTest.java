@@ -5,9 +5,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -152,4 +155,75 @@ class ExtraPointsPolicyTest {
                 () -> policy.getYearsWithExtraPoints().add(2030));
         }
     }
+
+    @Nested
+    @DisplayName("Puntos Extra por Año")
+    class PerYearExtraPoints {
+
+        @Test
+        @DisplayName("shouldApplyBonusConfiguredForEachYear")
+        void shouldApplyBonusConfiguredForEachYear() {
+            Map<Integer, Double> bonuses = new HashMap<>();
+            bonuses.put(2024, 1.5);
+            bonuses.put(2025, 3.0);
+            ExtraPointsPolicy perYear = ExtraPointsPolicy.perYear(bonuses);
+
+            assertEquals(16.5, perYear.applyExtraPoints(15.0, 2024), 0.001);
+            assertEquals(18.0, perYear.applyExtraPoints(15.0, 2025), 0.001);
+            assertEquals(15.0, perYear.applyExtraPoints(15.0, 2023), 0.001);
+            assertEquals(3.0, perYear.getExtraPointsForYear(2025), 0.001);
+            assertTrue(perYear.getPolicyDescription(2024).contains("1"));
+        }
+
+        @Test
+        @DisplayName("shouldPreferYearSpecificBonusOverGeneralAmount")
+        void shouldPreferYearSpecificBonusOverGeneralAmount() {
+            ExtraPointsPolicy mixed = new ExtraPointsPolicy(Arrays.asList(2023, 2024), 2.0,
+                Collections.singletonMap(2024, 0.5));
+
+            assertEquals(2.0, mixed.getExtraPointsForYear(2023), 0.001);
+            assertEquals(0.5, mixed.getExtraPointsForYear(2024), 0.001);
+            assertEquals(List.of(2023, 2024), List.copyOf(mixed.getYearsWithExtraPoints()));
+        }
+
+        @Test
+        @DisplayName("shouldTreatNegativeYearBonusAsZero")
+        void shouldTreatNegativeYearBonusAsZero() {
+            ExtraPointsPolicy negative = ExtraPointsPolicy.perYear(Collections.singletonMap(2025, -1.0));
+
+            assertTrue(negative.hasExtraPoints(2025));
+            assertEquals(15.0, negative.applyExtraPoints(15.0, 2025), 0.001);
+        }
+
+        @Test
+        @DisplayName("shouldResolveWidelySpreadYears")
+        void shouldResolveWidelySpreadYears() {
+            List<Integer> years = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                years.add(i * 997 - 50_000);
+            }
+            years.add(Integer.MAX_VALUE);
+            years.add(Integer.MIN_VALUE);
+            ExtraPointsPolicy spread = new ExtraPointsPolicy(years);
+
+            for (int year : years) {
+                assertTrue(spread.hasExtraPoints(year), () -> "año " + year);
+            }
+            assertFalse(spread.hasExtraPoints(0));
+            assertFalse(spread.hasExtraPoints(-49_999));
+            assertFalse(spread.hasExtraPoints(Integer.MAX_VALUE - 1));
+        }
+
+        @Test
+        @DisplayName("shouldBeEqualWhenSameYearsAndAmounts")
+        void shouldBeEqualWhenSameYearsAndAmounts() {
+            Map<Integer, Double> bonuses = new HashMap<>();
+            bonuses.put(2024, 2.0);
+            bonuses.put(2025, 2.0);
+
+            assertEquals(policy, ExtraPointsPolicy.perYear(bonuses));
+            assertEquals(policy.hashCode(), ExtraPointsPolicy.perYear(bonuses).hashCode());
+            assertNotEquals(policy, ExtraPointsPolicy.perYear(Collections.singletonMap(2024, 2.0)));
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package edu.utec.cs3081.policy;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicyPipeline Tests")
+class PolicyPipelineTest {
+
+    private final ExtraPointsPolicy extraPointsPolicy = new ExtraPointsPolicy(Arrays.asList(2025));
+
+    @Nested
+    @DisplayName("Orden y Cortocircuito")
+    class OrderAndShortCircuit {
+
+        @Test
+        @DisplayName("shouldMatchStandardCalculatorWhenBuiltExplicitly")
+        void shouldMatchStandardCalculatorWhenBuiltExplicitly() {
+            PolicyPipeline pipeline = new PolicyPipeline.Builder()
+                .add(new AttendancePolicy())
+                .add(extraPointsPolicy)
+                .build();
+            Student student = student(true, 13.7, 16.1);
+
+            GradeResult expected = new GradeCalculator(extraPointsPolicy).calculateFinalGrade(student, 2025);
+            GradeResult actual = new GradeCalculator(pipeline).calculateFinalGrade(student, 2025);
+
+            assertEquals(expected.getFinalGrade(), actual.getFinalGrade());
+            assertEquals(expected.getExtraPointsApplied(), actual.getExtraPointsApplied());
+            assertEquals(expected.getAttendanceDetail(), actual.getAttendanceDetail());
+            assertEquals(expected.getExtraPointsDetail(), actual.getExtraPointsDetail());
+            assertEquals(PolicyPipeline.standard(new AttendancePolicy(), extraPointsPolicy), pipeline);
+        }
+
+        @Test
+        @DisplayName("shouldSkipLaterStagesWhenAttendanceIsNotMet")
+        void shouldSkipLaterStagesWhenAttendanceIsNotMet() {
+            AtomicInteger laterStageCalls = new AtomicInteger();
+            PolicyPipeline pipeline = new PolicyPipeline.Builder()
+                .add(new AttendancePolicy())
+                .add(context -> laterStageCalls.incrementAndGet())
+                .build();
+
+            GradeResult result = new GradeCalculator(pipeline).calculateFinalGrade(student(false, 18.0, 18.0), 2025);
+
+            assertEquals(0.0, result.getFinalGrade(), 0.001);
+            assertTrue(result.isPenalizedByAttendance());
+            assertEquals(0, laterStageCalls.get());
+        }
+
+        @Test
+        @DisplayName("shouldReportMissingPoliciesInDetails")
+        void shouldReportMissingPoliciesInDetails() {
+            GradeResult result = new GradeCalculator(new PolicyPipeline.Builder().build())
+                .calculateFinalGrade(student(false, 12.0, 14.0), 2025);
+
+            assertEquals(13.0, result.getFinalGrade(), 0.001);
+            assertEquals("No configurada política de asistencia", result.getAttendanceDetail());
+            assertEquals("No configurada política de puntos extra", result.getExtraPointsDetail());
+        }
+
+        @Test
+        @DisplayName("shouldRejectNullPipeline")
+        void shouldRejectNullPipeline() {
+            assertThrows(GradeCalculationException.class, () -> new GradeCalculator((PolicyPipeline) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Políticas del Curso")
+    class CoursePolicies {
+
+        @Test
+        @DisplayName("shouldCapGradeAfterExtraPoints")
+        void shouldCapGradeAfterExtraPoints() {
+            GradeCalculator calculator = new GradeCalculator(new PolicyPipeline.Builder()
+                .add(new AttendancePolicy())
+                .add(extraPointsPolicy)
+                .add(new GradeCapPolicy(16.0))
+                .build());
+
+            GradeResult result = calculator.calculateFinalGrade(student(true, 15.0, 15.0), 2025);
+
+            assertEquals(16.0, result.getFinalGrade(), 0.001);
+            assertEquals(1.0, result.getExtraPointsApplied(), 0.001);
+            assertTrue(result.getAdjustmentDetail().startsWith("Nota limitada a 16"));
+        }
+
+        @Test
+        @DisplayName("shouldShowCapInDetailedReport")
+        void shouldShowCapInDetailedReport() {
+            GradeCalculator calculator = new GradeCalculator(new PolicyPipeline.Builder()
+                .add(new AttendancePolicy())
+                .add(extraPointsPolicy)
+                .add(new GradeCapPolicy(14.0))
+                .build());
+
+            GradeResult capped = calculator.calculateFinalGrade(student(true, 15.0, 15.0), 2025);
+            GradeResult uncapped = calculator.calculateFinalGrade(student(true, 10.0, 10.0), 2025);
+
+            assertEquals(14.0, capped.getFinalGrade(), 0.001);
+            assertEquals(0.0, capped.getExtraPointsApplied(), 0.001);
+            assertTrue(capped.getDetailedReport().contains("Ajustes: " + capped.getAdjustmentDetail()));
+            assertTrue(capped.getAdjustmentDetail().contains("nota máxima del curso"));
+            assertNull(uncapped.getAdjustmentDetail());
+            assertFalse(uncapped.getDetailedReport().contains("Ajustes:"));
+        }
+
+        @Test
+        @DisplayName("shouldLimitGradeWhenMinimumExamIsNotMet")
+        void shouldLimitGradeWhenMinimumExamIsNotMet() {
+            GradeCalculator calculator = new GradeCalculator(new PolicyPipeline.Builder()
+                .add(new AttendancePolicy())
+                .add(new MinimumEvaluationPolicy("Final", 8.0, 10.0))
+                .build());
+
+            GradeResult limited = calculator.calculateFinalGrade(student(true, 20.0, 7.0), 2025);
+            GradeResult passed = calculator.calculateFinalGrade(student(true, 20.0, 8.0), 2025);
+
+            assertEquals(10.0, limited.getFinalGrade(), 0.001);
+            assertTrue(limited.getAdjustmentDetail().contains("Final menor a 8"));
+            assertEquals(14.0, passed.getFinalGrade(), 0.001);
+            assertNull(passed.getAdjustmentDetail());
+        }
+
+        @Test
+        @DisplayName("shouldIgnoreMinimumRuleWhenEvaluationIsMissing")
+        void shouldIgnoreMinimumRuleWhenEvaluationIsMissing() {
+            GradeCalculator calculator = new GradeCalculator(new PolicyPipeline.Builder()
+                .add(new MinimumEvaluationPolicy("Sustitutorio", 10.0, 5.0))
+                .build());
+
+            assertEquals(13.5, calculator.calculateFinalGrade(student(true, 20.0, 7.0), 2025).getFinalGrade(), 0.001);
+        }
+
+        @Test
+        @DisplayName("shouldRejectOutOfRangePolicyGrades")
+        void shouldRejectOutOfRangePolicyGrades() {
+            assertThrows(GradeCalculationException.class, () -> new GradeCapPolicy(21.0));
+            assertThrows(GradeCalculationException.class, () -> new GradeCapPolicy(Double.NaN));
+            assertThrows(GradeCalculationException.class, () -> new MinimumEvaluationPolicy("Final", -1.0, 10.0));
+            assertThrows(GradeCalculationException.class, () -> new MinimumEvaluationPolicy(" ", 8.0, 10.0));
+        }
+    }
+
+    private static Student student(boolean attendance, double partialGrade, double finalGrade) {
+        Student student = new Student("STU001", attendance);
+        student.addEvaluation(new Evaluation("Parcial", partialGrade, 0.5));
+        student.addEvaluation(new Evaluation("Final", finalGrade, 0.5));
+        return student;
+    }
+}
@@ -0,0 +1,124 @@
+package edu.utec.cs3081.ranking;
+
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GradeRanking Tests")
+class GradeRankingTest {
+
+    static final Comparator<GradeResult> EXPECTED_ORDER = Comparator
+        .comparingDouble(GradeResult::getFinalGrade).reversed()
+        .thenComparing(GradeResult::getStudentCode);
+
+    @Nested
+    @DisplayName("Orden")
+    class Ordering {
+
+        @Test
+        @DisplayName("shouldMatchComparatorSortOnLargeCohort")
+        void shouldMatchComparatorSortOnLargeCohort() {
+            List<GradeResult> cohort = randomCohort(100_000, 5);
+            List<GradeResult> expected = new ArrayList<>(cohort);
+            expected.sort(EXPECTED_ORDER);
+
+            GradeRanking ranking = GradeRanking.of(cohort);
+
+            assertEquals(expected.size(), ranking.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), ranking.get(i), "posición " + i);
+            }
+        }
+
+        @Test
+        @DisplayName("shouldBreakTiesByExactGradeThenCode")
+        void shouldBreakTiesByExactGradeThenCode() {
+            List<GradeResult> cohort = List.of(result("C", 15.0), result("A", 15.0), result("B", 15.004),
+                result("D", 14.996), result("E", 20.0));
+
+            GradeRanking ranking = GradeRanking.of(cohort);
+
+            assertEquals(List.of("E", "B", "A", "C", "D"), codes(ranking.asList()));
+            assertEquals(1, ranking.rankAt(0));
+            assertEquals(2, ranking.rankAt(1));
+            assertEquals(3, ranking.rankAt(2));
+            assertEquals(3, ranking.rankAt(3));
+            assertEquals(5, ranking.rankAt(4));
+        }
+
+        @Test
+        @DisplayName("shouldNotDependOnInputOrder")
+        void shouldNotDependOnInputOrder() {
+            List<GradeResult> cohort = randomCohort(5_000, 9);
+            List<GradeResult> shuffled = new ArrayList<>(cohort);
+            Collections.shuffle(shuffled, new Random(1));
+
+            assertEquals(GradeRanking.of(cohort).asList(), GradeRanking.of(shuffled).asList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cortes")
+    class Cutoffs {
+
+        @Test
+        @DisplayName("shouldSelectTopThirdIncludingTiesAtCutoff")
+        void shouldSelectTopThirdIncludingTiesAtCutoff() {
+            List<GradeResult> cohort = List.of(result("A", 18.0), result("B", 17.0), result("D", 16.0),
+                result("C", 16.0), result("E", 14.0), result("F", 12.0), result("G", 10.0), result("H", 9.0),
+                result("I", 7.0));
+
+            GradeRanking ranking = GradeRanking.of(cohort);
+
+            assertEquals(List.of("A", "B", "C", "D"), codes(ranking.topFraction(GradeRanking.TOP_THIRD)));
+            assertEquals(16.0, ranking.cutoffGrade(GradeRanking.TOP_THIRD));
+            assertEquals(List.of("A", "B"), codes(ranking.topFraction(GradeRanking.TOP_FIFTH)));
+            assertEquals(List.of("A", "B", "C"), codes(ranking.top(3)));
+            assertTrue(Double.isNaN(ranking.cutoffGrade(0.0)));
+        }
+
+        @Test
+        @DisplayName("shouldRejectInvalidInput")
+        void shouldRejectInvalidInput() {
+            GradeRanking ranking = GradeRanking.of(List.of(result("A", 18.0)));
+
+            assertThrows(GradeCalculationException.class, () -> ranking.topFraction(1.5));
+            assertThrows(GradeCalculationException.class, () -> GradeRanking.of(null));
+            assertEquals(0, GradeRanking.of(List.of()).size());
+        }
+    }
+
+    static List<GradeResult> randomCohort(int size, long seed) {
+        Random random = new Random(seed);
+        List<GradeResult> cohort = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double grade = random.nextInt(4) == 0
+                ? random.nextDouble() * 20
+                : Math.round(random.nextDouble() * 2000) / 100.0;
+            cohort.add(result(String.format("STU%06d", (int) ((i * 7919L) % size)), grade));
+        }
+        return cohort;
+    }
+
+    static GradeResult result(String code, double grade) {
+        return new GradeResult.Builder().studentCode(code).finalGrade(grade).build();
+    }
+
+    static List<String> codes(List<GradeResult> results) {
+        List<String> codes = new ArrayList<>();
+        for (GradeResult result : results) {
+            codes.add(result.getStudentCode());
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,70 @@
+package edu.utec.cs3081.ranking;
+
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TopGrades Tests")
+class TopGradesTest {
+
+    @Nested
+    @DisplayName("Mejores K")
+    class TopK {
+
+        @Test
+        @DisplayName("shouldKeepSameTopAsFullSort")
+        void shouldKeepSameTopAsFullSort() {
+            List<GradeResult> cohort = GradeRankingTest.randomCohort(20_000, 3);
+            List<GradeResult> expected = new ArrayList<>(cohort);
+            expected.sort(GradeRankingTest.EXPECTED_ORDER);
+            TopGrades top = new TopGrades(25);
+
+            cohort.forEach(top::accept);
+
+            assertEquals(expected.subList(0, 25), top.toList());
+            assertEquals(expected.get(24).getFinalGrade(), top.getThresholdGrade());
+        }
+
+        @Test
+        @DisplayName("shouldBreakTiesByCode")
+        void shouldBreakTiesByCode() {
+            TopGrades top = new TopGrades(2);
+            top.accept(GradeRankingTest.result("C", 17.0));
+            top.accept(GradeRankingTest.result("B", 17.0));
+            top.accept(GradeRankingTest.result("A", 17.0));
+            top.accept(GradeRankingTest.result("D", 16.0));
+
+            assertEquals(List.of("A", "B"), GradeRankingTest.codes(top.toList()));
+        }
+
+        @Test
+        @DisplayName("shouldCollectParallelStreamLikeSequential")
+        void shouldCollectParallelStreamLikeSequential() {
+            List<GradeResult> cohort = GradeRankingTest.randomCohort(50_000, 8);
+            TopGrades sequential = new TopGrades(100);
+            cohort.forEach(sequential::accept);
+
+            List<GradeResult> parallel = cohort.parallelStream().collect(TopGrades.collector(100));
+
+            assertEquals(sequential.toList(), parallel);
+        }
+
+        @Test
+        @DisplayName("shouldHandleFewerResultsThanCapacity")
+        void shouldHandleFewerResultsThanCapacity() {
+            TopGrades top = new TopGrades(10);
+            top.accept(GradeRankingTest.result("A", 12.0));
+
+            assertEquals(1, top.size());
+            assertTrue(Double.isNaN(new TopGrades(1).getThresholdGrade()));
+            assertThrows(GradeCalculationException.class, () -> new TopGrades(0));
+        }
+    }
+}
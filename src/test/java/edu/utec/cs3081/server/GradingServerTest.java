@@ -0,0 +1,174 @@
+package edu.utec.cs3081.server;
+
+import edu.utec.cs3081.io.CsvResultWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GradingServer Tests")
+class GradingServerTest {
+
+    private ExecutorService executor;
+    private GradingServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = ServerExecutors.platform(4);
+        server = GradingServer.builder().port(0).executor(executor).build().start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Cálculo Individual")
+    class SingleStudent {
+
+        @Test
+        @DisplayName("shouldGradeSingleRow")
+        void shouldGradeSingleRow() throws Exception {
+            HttpResponse<String> response = post("/notas?anio=2025&extra=2024,2025", "STU001,s,Parcial,15,0.4,Final,15,0.6");
+
+            assertEquals(200, response.statusCode());
+            assertEquals(CsvResultWriter.HEADER + "\nSTU001,15.00,2.00,17.00,CALCULADO,\n", response.body());
+        }
+
+        @Test
+        @DisplayName("shouldRejectInvalidRowWithValidationMessages")
+        void shouldRejectInvalidRowWithValidationMessages() throws Exception {
+            HttpResponse<String> response = post("/notas?anio=2025", "STU001,s,Parcial,25,1.0");
+
+            assertEquals(400, response.statusCode());
+            assertTrue(response.body().startsWith("Línea 1, campo 4"), response.body());
+        }
+
+        @Test
+        @DisplayName("shouldRejectIncompleteWeightsAsInvalidRow")
+        void shouldRejectIncompleteWeightsAsInvalidRow() throws Exception {
+            HttpResponse<String> response = post("/notas?anio=2025", "STU001,s,Parcial,15,0.5");
+
+            assertEquals(400, response.statusCode());
+            assertTrue(response.body().contains("la suma de pesos debe ser 1.0"), response.body());
+        }
+
+        @Test
+        @DisplayName("shouldRejectBodyLargerThanOneRow")
+        void shouldRejectBodyLargerThanOneRow() throws Exception {
+            String row = "STU001,s,Parcial,15,1.0\n#";
+            String atLimit = row + "x".repeat(GradingServer.MAX_ROW_BYTES - row.length());
+
+            assertEquals(200, post("/notas?anio=2025", atLimit).statusCode());
+            HttpResponse<String> response = post("/notas?anio=2025", atLimit + "x");
+            assertEquals(413, response.statusCode());
+            assertTrue(response.body().contains(String.valueOf(GradingServer.MAX_ROW_BYTES)), response.body());
+        }
+
+        @Test
+        @DisplayName("shouldRejectMissingYearAndWrongMethod")
+        void shouldRejectMissingYearAndWrongMethod() throws Exception {
+            assertEquals(400, post("/notas", "STU001,s,Parcial,15,1.0").statusCode());
+            assertEquals(400, post("/notas?anio=dos", "STU001,s,Parcial,15,1.0").statusCode());
+            HttpResponse<String> get = client.send(HttpRequest.newBuilder(uri("/notas?anio=2025")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, get.statusCode());
+            assertEquals(404, post("/notas/otra?anio=2025", "").statusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cálculo por Lotes")
+    class Batch {
+
+        @Test
+        @DisplayName("shouldGradeRosterWithErrorRows")
+        void shouldGradeRosterWithErrorRows() throws Exception {
+            String roster = "STU001,s,Parcial,15,0.4,Final,15,0.6\n"
+                + "STU002,n,Unica,18,1.0\n"
+                + "STU003,s,Unica,30,1.0\n";
+
+            HttpResponse<String> response = post("/notas/lote?anio=2024&extra=2024", roster);
+
+            assertEquals(200, response.statusCode());
+            String[] lines = response.body().split("\n");
+            assertEquals(4, lines.length);
+            assertEquals(CsvResultWriter.HEADER, lines[0]);
+            assertEquals("STU001,15.00,2.00,17.00,CALCULADO,", lines[1]);
+            assertTrue(lines[2].startsWith("STU002,18.00,0.00,0.00,PENALIZADO"), lines[2]);
+            assertTrue(lines[3].contains(CsvResultWriter.STATUS_ERROR), lines[3]);
+        }
+
+        @Test
+        @DisplayName("shouldShareCalculatorsAcrossConcurrentRequests")
+        void shouldShareCalculatorsAcrossConcurrentRequests() throws Exception {
+            ExecutorService clients = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+                for (int i = 0; i < 64; i++) {
+                    int grade = i % 21;
+                    String extra = i % 2 == 0 ? "2025,2024" : "2024,2025,2025";
+                    responses.add(clients.submit(
+                        () -> post("/notas?anio=2023&extra=" + extra, "STU" + grade + ",s,Unica," + grade + ",1.0")));
+                }
+                for (int i = 0; i < responses.size(); i++) {
+                    HttpResponse<String> response = responses.get(i).get();
+                    assertEquals(200, response.statusCode());
+                    assertTrue(response.body().contains(String.format("STU%d,%d.00,", i % 21, i % 21)));
+                }
+            } finally {
+                clients.shutdownNow();
+            }
+            assertEquals(1, server.getCalculators().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Ejecutores")
+    class ExecutorSelection {
+
+        @Test
+        @DisplayName("shouldFallBackToPlatformThreadsWithoutVirtualThreads")
+        void shouldFallBackToPlatformThreadsWithoutVirtualThreads() {
+            ExecutorService defaultExecutor = ServerExecutors.defaultExecutor();
+            try {
+                assertNotNull(defaultExecutor);
+                if (!ServerExecutors.isVirtualThreadsSupported()) {
+                    assertThrows(UnsupportedOperationException.class, ServerExecutors::virtual);
+                }
+            } finally {
+                defaultExecutor.shutdown();
+            }
+            assertThrows(IllegalArgumentException.class, () -> ServerExecutors.platform(0));
+        }
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
@@ -0,0 +1,177 @@
+package edu.utec.cs3081.statistics;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.GradeCalculationException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import edu.utec.cs3081.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static edu.utec.cs3081.model.TestStudents.singleEvaluation;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CohortStatistics Tests")
+class CohortStatisticsTest {
+
+    @Nested
+    @DisplayName("Una Pasada")
+    class SinglePass {
+
+        @Test
+        @DisplayName("shouldMatchTwoPassComputation")
+        void shouldMatchTwoPassComputation() {
+            double[] grades = randomGrades(10_000, 7);
+            CohortStatistics statistics = new CohortStatistics();
+            for (double grade : grades) {
+                statistics.accept(grade, false, false);
+            }
+
+            double sum = 0;
+            for (double grade : grades) {
+                sum += grade;
+            }
+            double mean = sum / grades.length;
+            double squares = 0;
+            long passed = 0;
+            for (double grade : grades) {
+                squares += (grade - mean) * (grade - mean);
+                passed += grade >= 11.0 ? 1 : 0;
+            }
+            assertEquals(grades.length, statistics.getCount());
+            assertEquals(mean, statistics.getMean(), 1e-9);
+            assertEquals(Math.sqrt(squares / grades.length), statistics.getStandardDeviation(), 1e-9);
+            assertEquals(Arrays.stream(grades).min().getAsDouble(), statistics.getMin());
+            assertEquals(Arrays.stream(grades).max().getAsDouble(), statistics.getMax());
+            assertEquals((double) passed / grades.length, statistics.getPassRate(), 1e-12);
+            assertEquals(grades.length, Arrays.stream(statistics.getHistogram()).sum());
+        }
+
+        @Test
+        @DisplayName("shouldCountRatesAndHistogramBoundaries")
+        void shouldCountRatesAndHistogramBoundaries() {
+            CohortStatistics statistics = new CohortStatistics();
+            statistics.accept(0.0, true, false);
+            statistics.accept(10.99, false, false);
+            statistics.accept(11.0, false, true);
+            statistics.accept(20.0, false, true);
+
+            long[] histogram = statistics.getHistogram();
+            assertEquals(1, histogram[0]);
+            assertEquals(1, histogram[10]);
+            assertEquals(1, histogram[11]);
+            assertEquals(1, histogram[19]);
+            assertEquals(0.5, statistics.getPassRate());
+            assertEquals(0.25, statistics.getPenaltyRate());
+            assertEquals(0.5, statistics.getExtraPointsRate());
+            assertEquals(11.0, statistics.getBinLowerBound(11));
+        }
+
+        @Test
+        @DisplayName("shouldReportNaNWhenEmpty")
+        void shouldReportNaNWhenEmpty() {
+            CohortStatistics statistics = new CohortStatistics();
+
+            assertTrue(Double.isNaN(statistics.getMean()));
+            assertTrue(Double.isNaN(statistics.getMin()));
+            assertTrue(Double.isNaN(statistics.getPassRate()));
+            assertThrows(GradeCalculationException.class, () -> statistics.accept(Double.NaN, false, false));
+            assertThrows(GradeCalculationException.class, () -> new CohortStatistics(21.0, 20));
+        }
+
+        @Test
+        @DisplayName("shouldAccumulateCalculatedOutcomes")
+        void shouldAccumulateCalculatedOutcomes() {
+            GradeCalculator calculator = new GradeCalculator(new ExtraPointsPolicy(Arrays.asList(2025)));
+            List<Student> cohort = new ArrayList<>();
+            cohort.add(singleEvaluation("STU001", 15.0, true));
+            cohort.add(singleEvaluation("STU002", 15.0, false));
+            Student invalid = new Student("STU003", true);
+            invalid.addEvaluation(new Evaluation("Parcial", 15.0, 0.5));
+            cohort.add(invalid);
+
+            List<GradeOutcome> outcomes = calculator.calculateAll(cohort, 2025);
+            CohortStatistics statistics = CohortStatistics.of(outcomes);
+
+            assertEquals(2, statistics.getCount());
+            assertEquals(1, statistics.getFailures());
+            assertEquals(8.5, statistics.getMean(), 1e-9);
+            assertEquals(1, statistics.getPenalized());
+            assertEquals(1, statistics.getWithExtraPoints());
+        }
+    }
+
+    @Nested
+    @DisplayName("Combinación")
+    class Merging {
+
+        @Test
+        @DisplayName("shouldMergeToSameStatisticsAsSequential")
+        void shouldMergeToSameStatisticsAsSequential() {
+            double[] grades = randomGrades(5_000, 11);
+            CohortStatistics sequential = new CohortStatistics();
+            CohortStatistics[] parts = {new CohortStatistics(), new CohortStatistics(), new CohortStatistics()};
+            for (int i = 0; i < grades.length; i++) {
+                sequential.accept(grades[i], i % 5 == 0, i % 7 == 0);
+                parts[i < 100 ? 0 : i < 3000 ? 1 : 2].accept(grades[i], i % 5 == 0, i % 7 == 0);
+            }
+
+            CohortStatistics merged = new CohortStatistics().combine(parts[0]).combine(parts[1]).combine(parts[2]);
+
+            assertEquals(sequential.getCount(), merged.getCount());
+            assertEquals(sequential.getMean(), merged.getMean(), 1e-9);
+            assertEquals(sequential.getStandardDeviation(), merged.getStandardDeviation(), 1e-9);
+            assertEquals(sequential.getMin(), merged.getMin());
+            assertEquals(sequential.getMax(), merged.getMax());
+            assertEquals(sequential.getPassed(), merged.getPassed());
+            assertEquals(sequential.getPenalized(), merged.getPenalized());
+            assertEquals(sequential.getWithExtraPoints(), merged.getWithExtraPoints());
+            assertArrayEquals(sequential.getHistogram(), merged.getHistogram());
+        }
+
+        @Test
+        @DisplayName("shouldCollectParallelStream")
+        void shouldCollectParallelStream() {
+            GradeCalculator calculator = new GradeCalculator();
+            List<GradeResult> results = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                results.add(calculator.calculateFinalGrade(singleEvaluation("STU" + i, i % 21, i % 4 != 0), 2024));
+            }
+            CohortStatistics sequential = new CohortStatistics();
+            results.forEach(sequential::accept);
+
+            CohortStatistics parallel = results.parallelStream().collect(CohortStatistics.collector());
+
+            assertEquals(sequential.getCount(), parallel.getCount());
+            assertEquals(sequential.getMean(), parallel.getMean(), 1e-9);
+            assertEquals(sequential.getPenaltyRate(), parallel.getPenaltyRate());
+            assertArrayEquals(sequential.getHistogram(), parallel.getHistogram());
+        }
+
+        @Test
+        @DisplayName("shouldRejectDifferentConfigurations")
+        void shouldRejectDifferentConfigurations() {
+            assertThrows(GradeCalculationException.class,
+                () -> new CohortStatistics().combine(new CohortStatistics(10.5, 20)));
+            assertThrows(GradeCalculationException.class,
+                () -> new CohortStatistics().combine(new CohortStatistics(11.0, 40)));
+        }
+    }
+
+    private static double[] randomGrades(int size, long seed) {
+        Random random = new Random(seed);
+        double[] grades = new double[size];
+        for (int i = 0; i < size; i++) {
+            grades[i] = Math.round(random.nextDouble() * 2000) / 100.0;
+        }
+        return grades;
+    }
+}
@@ -0,0 +1,122 @@
+package edu.utec.cs3081.statistics;
+
+import edu.utec.cs3081.exception.GradeCalculationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GradeQuantileSketch Tests")
+class GradeQuantileSketchTest {
+
+    private static final double[] QUANTILES = {0.0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1.0};
+
+    @Nested
+    @DisplayName("Precisión")
+    class Accuracy {
+
+        @Test
+        @DisplayName("shouldStayWithinDocumentedErrorOfExactQuantiles")
+        void shouldStayWithinDocumentedErrorOfExactQuantiles() {
+            Random random = new Random(3);
+            double[] grades = new double[20_000];
+            GradeQuantileSketch sketch = new GradeQuantileSketch();
+            for (int i = 0; i < grades.length; i++) {
+                grades[i] = Math.min(20.0, Math.abs(random.nextGaussian() * 3 + 13));
+                sketch.add(grades[i]);
+            }
+            Arrays.sort(grades);
+
+            for (double q : QUANTILES) {
+                double exact = grades[(int) Math.max(0, Math.ceil(q * grades.length) - 1)];
+                assertEquals(exact, sketch.quantile(q), sketch.getMaxError() + 1e-9, () -> "cuantil " + q);
+            }
+        }
+
+        @Test
+        @DisplayName("shouldBeExactForTwoDecimalGrades")
+        void shouldBeExactForTwoDecimalGrades() {
+            GradeQuantileSketch sketch = new GradeQuantileSketch();
+            double[] grades = {12.35, 8.0, 17.5, 12.35, 20.0, 0.0, 14.99};
+            for (double grade : grades) {
+                sketch.add(grade);
+            }
+
+            assertEquals(12.35, sketch.median(), 1e-12);
+            assertEquals(0.0, sketch.quantile(0.0));
+            assertEquals(20.0, sketch.percentile(100));
+            assertEquals(4.0 / 7, sketch.fractionAtOrBelow(12.35), 1e-12);
+        }
+
+        @Test
+        @DisplayName("shouldHandleEmptyAndInvalidInput")
+        void shouldHandleEmptyAndInvalidInput() {
+            GradeQuantileSketch sketch = new GradeQuantileSketch();
+
+            assertTrue(Double.isNaN(sketch.median()));
+            assertThrows(GradeCalculationException.class, () -> sketch.quantile(1.5));
+            assertThrows(GradeCalculationException.class, () -> sketch.add(Double.NaN));
+            assertThrows(GradeCalculationException.class, () -> new GradeQuantileSketch(4));
+        }
+    }
+
+    @Nested
+    @DisplayName("Combinación y Concurrencia")
+    class MergingAndConcurrency {
+
+        @Test
+        @DisplayName("shouldMergeCoursesIntoFaculty")
+        void shouldMergeCoursesIntoFaculty() {
+            GradeQuantileSketch faculty = new GradeQuantileSketch();
+            GradeQuantileSketch courseA = new GradeQuantileSketch();
+            GradeQuantileSketch courseB = new GradeQuantileSketch();
+            for (int i = 0; i <= 2000; i++) {
+                double grade = i / 100.0;
+                faculty.add(grade);
+                (i % 2 == 0 ? courseA : courseB).add(grade);
+            }
+
+            GradeQuantileSketch merged = new GradeQuantileSketch().merge(courseA).merge(courseB);
+
+            assertEquals(faculty.getCount(), merged.getCount());
+            for (double q : QUANTILES) {
+                assertEquals(faculty.quantile(q), merged.quantile(q));
+            }
+            assertThrows(GradeCalculationException.class, () -> merged.merge(new GradeQuantileSketch(1)));
+        }
+
+        @Test
+        @DisplayName("shouldRecordConcurrently")
+        void shouldRecordConcurrently() throws Exception {
+            GradeQuantileSketch sketch = new GradeQuantileSketch();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i <= 2000; i++) {
+                            sketch.add(i / 100.0);
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(4 * 2001, sketch.getCount());
+            assertEquals(10.0, sketch.median(), 1e-12);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package edu.utec.cs3081.store;
+
+import edu.utec.cs3081.calculator.GradeCalculator;
+import edu.utec.cs3081.calculator.GradeOutcome;
+import edu.utec.cs3081.calculator.GradeResult;
+import edu.utec.cs3081.exception.InvalidStudentDataException;
+import edu.utec.cs3081.model.Evaluation;
+import edu.utec.cs3081.model.Student;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static edu.utec.cs3081.model.TestStudents.singleEvaluation;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GradeStore Tests")
+class GradeStoreTest {
+
+    @Nested
+    @DisplayName("Consultas por Código")
+    class Lookups {
+
+        @Test
+        @DisplayName("shouldStoreStudentAndResultUnderSameCode")
+        void shouldStoreStudentAndResultUnderSameCode() {
+            GradeStore store = new GradeStore();
+            Student student = singleEvaluation("STU001", 15.0);
+            GradeResult result = new GradeCalculator().calculateFinalGrade(student, 2025);
+
+            store.putStudent(student);
+            store.putResult(result);
+
+            assertSame(student, store.getStudent("STU001"));
+            assertSame(result, store.getResult("STU001"));
+            assertEquals(1, store.size());
+            assertNull(store.getStudent("STU002"));
+            assertNull(store.getResult(null));
+            assertFalse(store.contains("STU002"));
+        }
+
+        @Test
+        @DisplayName("shouldBulkLoadStudentsAndOutcomes")
+        void shouldBulkLoadStudentsAndOutcomes() {
+            List<Student> cohort = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                cohort.add(singleEvaluation("STU" + i, i % 21));
+            }
+            Student invalid = new Student("STU-X", true);
+            invalid.addEvaluation(new Evaluation("Parcial", 10.0, 0.5));
+            cohort.add(invalid);
+            GradeStore store = new GradeStore();
+
+            store.loadStudents(cohort);
+            int loaded = store.loadOutcomes(new GradeCalculator().calculateAll(cohort, 2025));
+
+            assertEquals(10_000, loaded);
+            assertEquals(10_001, store.size());
+            assertEquals(7.0, store.getResult("STU4123").getFinalGrade(), 1e-9);
+            assertSame(invalid, store.getStudent("STU-X"));
+            assertNull(store.getResult("STU-X"));
+        }
+
+        @Test
+        @DisplayName("shouldMatchHashMapUnderRandomInsertsAndRemovals")
+        void shouldMatchHashMapUnderRandomInsertsAndRemovals() {
+            GradeStore store = new GradeStore();
+            Map<String, Student> model = new HashMap<>();
+            Random random = new Random(17);
+            for (int i = 0; i < 50_000; i++) {
+                String code = "C" + random.nextInt(2_000);
+                if (random.nextInt(3) == 0) {
+                    assertEquals(model.remove(code) != null, store.remove(code));
+                } else {
+                    Student student = new Student(code, true);
+                    model.put(code, student);
+                    store.putStudent(student);
+                }
+            }
+
+            assertEquals(model.size(), store.size());
+            for (int i = 0; i < 2_000; i++) {
+                assertSame(model.get("C" + i), store.getStudent("C" + i));
+            }
+        }
+
+        @Test
+        @DisplayName("shouldRejectNullEntries")
+        void shouldRejectNullEntries() {
+            GradeStore store = new GradeStore();
+
+            assertThrows(InvalidStudentDataException.class, () -> store.putStudent(null));
+            assertThrows(InvalidStudentDataException.class, () -> store.putResult(null));
+            assertFalse(store.remove(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrencia")
+    class Concurrency {
+
+        @Test
+        @DisplayName("shouldServeReadersWhileWriterGrowsStore")
+        void shouldServeReadersWhileWriterGrowsStore() throws Exception {
+            GradeStore store = new GradeStore();
+            List<Student> stable = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                stable.add(singleEvaluation("BASE" + i, 10.0));
+            }
+            store.loadStudents(stable);
+            AtomicBoolean writing = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Integer>> readers = new ArrayList<>();
+                for (int r = 0; r < 3; r++) {
+                    readers.add(executor.submit(() -> {
+                        int misses = 0;
+                        do {
+                            for (Student expected : stable) {
+                                if (store.getStudent(expected.getCode()) != expected) {
+                                    misses++;
+                                }
+                            }
+                        } while (writing.get());
+                        return misses;
+                    }));
+                }
+                Future<?> writer = executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        store.putStudent(new Student("NEW" + i, true));
+                        if (i % 3 == 0) {
+                            store.remove("NEW" + (i / 2));
+                        }
+                    }
+                    writing.set(false);
+                });
+                writer.get();
+                for (Future<Integer> reader : readers) {
+                    assertEquals(0, reader.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package edu.utec.cs3081.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DecimalParser Tests")
+class DecimalParserTest {
+
+    @Nested
+    @DisplayName("Interpretación de Decimales")
+    class Parsing {
+
+        @Test
+        @DisplayName("shouldMatchParseDoubleOnValidValues")
+        void shouldMatchParseDoubleOnValidValues() {
+            Random random = new Random(3);
+            for (int i = 0; i < 20_000; i++) {
+                String text = Double.toString(random.nextDouble() * 20);
+                assertEquals(Double.parseDouble(text), DecimalParser.parse(text), text);
+            }
+            for (String text : new String[] {"0", "20", "-1.5", "+0.25", ".5", "5.", "1e1", "0.1234567890123456789"}) {
+                assertEquals(Double.parseDouble(text), DecimalParser.parse(text), text);
+            }
+        }
+
+        @Test
+        @DisplayName("shouldReturnNaNForInvalidText")
+        void shouldReturnNaNForInvalidText() {
+            for (String text : new String[] {"", " ", "x", "1.2.3", "-", "1,5", "1e", "NaN"}) {
+                assertTrue(Double.isNaN(DecimalParser.parse(text)), text);
+            }
+        }
+
+        @Test
+        @DisplayName("shouldParseBytesLikeText")
+        void shouldParseBytesLikeText() {
+            for (String text : new String[] {"15.75", "-0.3", "1e1", "0.1234567890123456789", "1.2.3", "15\u00b0"}) {
+                byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                double expected = DecimalParser.parse(text);
+                assertEquals(expected, DecimalParser.parse(i -> bytes[i], 0, bytes.length), text);
+            }
+        }
+
+        @Test
+        @DisplayName("shouldComputeExactValueOnlyWithinExactRange")
+        void shouldComputeExactValueOnlyWithinExactRange() {
+            assertEquals(15.75, DecimalParser.exactValue(1575, 2, false));
+            assertEquals(-0.1, DecimalParser.exactValue(1, 1, true));
+            assertEquals(20.0, DecimalParser.exactValue(20, 0, false));
+            assertTrue(Double.isNaN(DecimalParser.exactValue(1L << 53, 0, false)));
+            assertTrue(Double.isNaN(DecimalParser.exactValue(1, 23, false)));
+        }
+    }
+}
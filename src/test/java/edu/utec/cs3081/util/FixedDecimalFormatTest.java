@@ -0,0 +1,77 @@
+package edu.utec.cs3081.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FixedDecimalFormat Tests")
+class FixedDecimalFormatTest {
+
+    @Nested
+    @DisplayName("Equivalencia con String.format")
+    class FormatEquivalence {
+
+        @Test
+        @DisplayName("shouldMatchFormatterOnHalfwayValues")
+        void shouldMatchFormatterOnHalfwayValues() {
+            for (int i = 0; i <= 20_000; i++) {
+                double value = i / 1000.0 + 0.0005;
+                assertFormattedLikeFormatter(value, 2);
+                assertFormattedLikeFormatter(i / 1000.0, 2);
+                assertFormattedLikeFormatter(i / 1000.0, 0);
+            }
+        }
+
+        @Test
+        @DisplayName("shouldMatchFormatterOnRandomValues")
+        void shouldMatchFormatterOnRandomValues() {
+            Random random = new Random(42);
+            for (int i = 0; i < 50_000; i++) {
+                double value = (random.nextDouble() - 0.2) * 25;
+                assertFormattedLikeFormatter(value, 2);
+                assertFormattedLikeFormatter(value * 100, 0);
+            }
+        }
+
+        @Test
+        @DisplayName("shouldMatchFormatterOnSpecialValues")
+        void shouldMatchFormatterOnSpecialValues() {
+            double[] values = {1.005, 0.125, 2.675, 0.045, -0.001, -0.0, 0.0, 1e20, 123456789.995,
+                Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+            for (double value : values) {
+                for (int decimals = 0; decimals <= FixedDecimalFormat.MAX_DECIMALS; decimals++) {
+                    assertFormattedLikeFormatter(value, decimals);
+                }
+            }
+        }
+
+        private void assertFormattedLikeFormatter(double value, int decimals) {
+            assertEquals(String.format(Locale.ROOT, "%." + decimals + "f", value),
+                FixedDecimalFormat.format(value, decimals, '.'), () -> "valor " + value);
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuración Regional")
+    class LocaleSeparator {
+
+        @Test
+        @DisplayName("shouldUseGivenDecimalSeparator")
+        void shouldUseGivenDecimalSeparator() {
+            assertEquals("17,50", FixedDecimalFormat.format(17.5, 2, ','));
+            assertEquals("1000000000000,00", FixedDecimalFormat.format(1e12, 2, ','));
+        }
+
+        @Test
+        @DisplayName("shouldRejectUnsupportedDecimals")
+        void shouldRejectUnsupportedDecimals() {
+            assertThrows(IllegalArgumentException.class, () -> FixedDecimalFormat.format(1.0, 7, '.'));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package edu.utec.cs3081.validation;
+
+import edu.utec.cs3081.io.CsvRosterReader;
+import edu.utec.cs3081.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RosterValidator Tests")
+class RosterValidatorTest {
+
+    private ValidationErrors errors;
+
+    @BeforeEach
+    void setUp() {
+        errors = new ValidationErrors();
+    }
+
+    @Nested
+    @DisplayName("Filas Válidas")
+    class ValidRows {
+
+        @Test
+        @DisplayName("shouldParseLikeCsvRosterReader")
+        void shouldParseLikeCsvRosterReader() {
+            String line = " STU001 , Sí ,Parcial, 15.25 ,0.4,Final,18,0.6";
+
+            Student student = RosterValidator.parseStudent(line, 1, errors);
+            Student expected = CsvRosterReader.parseStudent(line, 1);
+
+            assertTrue(errors.isEmpty());
+            assertEquals(expected.getCode(), student.getCode());
+            assertTrue(student.hasReachedMinimumClasses());
+            assertEquals(expected.getWeightedGradeSum(), student.getWeightedGradeSum());
+            assertEquals("Final", student.getEvaluations().get(1).getName());
+        }
+
+        @Test
+        @DisplayName("shouldAcceptAllAttendanceSpellings")
+        void shouldAcceptAllAttendanceSpellings() {
+            for (String value : new String[] {"s", "SI", "sí", "true", "1"}) {
+                assertTrue(RosterValidator.parseStudent("STU001," + value + ",U,10,1", 1, errors)
+                    .hasReachedMinimumClasses());
+            }
+            for (String value : new String[] {"N", "no", "FALSE", "0"}) {
+                assertFalse(RosterValidator.parseStudent("STU001," + value + ",U,10,1", 1, errors)
+                    .hasReachedMinimumClasses());
+            }
+            assertTrue(errors.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Filas Inválidas")
+    class InvalidRows {
+
+        @Test
+        @DisplayName("shouldRecordEveryErrorWithFieldPosition")
+        void shouldRecordEveryErrorWithFieldPosition() {
+            Student student = RosterValidator.parseStudent(",talvez,Parcial,25,0.4,,x,0", 7, errors);
+
+            assertNull(student);
+            assertEquals(6, errors.size());
+            assertEquals(ValidationCode.EMPTY_CODE, errors.getCode(0));
+            assertEquals(ValidationCode.INVALID_ATTENDANCE, errors.getCode(1));
+            assertEquals(ValidationCode.GRADE_OUT_OF_RANGE, errors.getCode(2));
+            assertEquals(4, errors.getField(2));
+            assertEquals(25.0, errors.getValue(2));
+            assertEquals(ValidationCode.EMPTY_EVALUATION_NAME, errors.getCode(3));
+            assertEquals(ValidationCode.INVALID_NUMBER, errors.getCode(4));
+            assertEquals(ValidationCode.WEIGHT_OUT_OF_RANGE, errors.getCode(5));
+            assertEquals(8, errors.getField(5));
+            assertEquals(7, errors.getLine(5));
+            assertNull(errors.getStudentCode(5));
+        }
+
+        @Test
+        @DisplayName("shouldRecordWeightSumWithoutThrowing")
+        void shouldRecordWeightSumWithoutThrowing() {
+            assertNull(RosterValidator.parseStudent("STU001,s,Parcial,15,0.3,Final,15,0.3", 1, errors));
+            assertNotNull(RosterValidator.parseStudent("STU002,s,Parcial,15,0.3,Final,15,0.7004", 2, errors));
+            assertNull(RosterValidator.parseStudent("STU003,s,Parcial,15,0,Final,15,0.6", 3, errors));
+
+            assertEquals(2, errors.size());
+            assertEquals(ValidationCode.WEIGHT_SUM, errors.getCode(0));
+            assertEquals(ValidationErrors.WHOLE_ROW, errors.getField(0));
+            assertEquals(0.6, errors.getValue(0), 1e-9);
+            assertEquals("STU001", errors.getStudentCode(0));
+            assertEquals(ValidationCode.WEIGHT_OUT_OF_RANGE, errors.getCode(1));
+        }
+
+        @Test
+        @DisplayName("shouldKeepStudentCodeOfInvalidRow")
+        void shouldKeepStudentCodeOfInvalidRow() {
+            assertNull(RosterValidator.parseStudent(" STU001 ,s,Parcial,25,1.0,Final,x,0", 1, errors));
+            assertNull(RosterValidator.parseStudent("STU002,s,Parcial,15", 2, errors));
+
+            assertEquals(4, errors.size());
+            assertEquals("STU001", errors.getStudentCode(0));
+            assertEquals("STU001", errors.getStudentCode(2));
+            assertEquals("STU002", errors.getStudentCode(3));
+            errors.clear();
+            errors.record(3, 1, ValidationCode.EMPTY_CODE);
+            assertNull(errors.getStudentCode(0));
+        }
+
+        @Test
+        @DisplayName("shouldRejectMalformedRowAndTooManyEvaluations")
+        void shouldRejectMalformedRowAndTooManyEvaluations() {
+            StringBuilder tooMany = new StringBuilder("STU001,s");
+            for (int i = 0; i < 11; i++) {
+                tooMany.append(",E").append(i).append(",10,0.05");
+            }
+
+            assertNull(RosterValidator.parseStudent("STU001,s,Parcial,15", 1, errors));
+            assertNull(RosterValidator.parseStudent(tooMany.toString(), 2, errors));
+
+            assertEquals(ValidationCode.MALFORMED_ROW, errors.getCode(0));
+            assertEquals(ValidationErrors.WHOLE_ROW, errors.getField(0));
+            assertEquals(ValidationCode.TOO_MANY_EVALUATIONS, errors.getCode(1));
+        }
+
+        @Test
+        @DisplayName("shouldFormatMessagesOnlyOnRequest")
+        void shouldFormatMessagesOnlyOnRequest() {
+            RosterValidator.parseStudent("STU001,s,Parcial,20.5,1.0", 3, errors);
+            RosterValidator.parseStudent("STU002,s", 4, errors);
+
+            assertEquals("Línea 3, campo 4: la nota debe estar entre 0.0 y 20.0. Valor recibido: 20.50",
+                errors.getMessage(0));
+            assertTrue(errors.getMessage(1).startsWith("Línea 4: se esperaba"));
+            assertThrows(IndexOutOfBoundsException.class, () -> errors.getMessage(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Registro de Errores")
+    class ErrorSink {
+
+        @Test
+        @DisplayName("shouldGrowAndCountByCode")
+        void shouldGrowAndCountByCode() {
+            for (int i = 0; i < 1000; i++) {
+                errors.record(i + 1, 4, i % 2 == 0 ? ValidationCode.INVALID_NUMBER : ValidationCode.GRADE_OUT_OF_RANGE,
+                    i);
+            }
+
+            assertEquals(1000, errors.size());
+            assertEquals(500, errors.count(ValidationCode.INVALID_NUMBER));
+            assertEquals(999, errors.getValue(999));
+            errors.clear();
+            assertTrue(errors.isEmpty());
+        }
+
+        @Test
+        @DisplayName("shouldSkipInvalidRowsWhenReadingRoster")
+        void shouldSkipInvalidRowsWhenReadingRoster() throws IOException {
+            String csv = "STU001,s,Unica,15,1.0\nSTU002,s,Unica,x,1.0\n\nSTU003,n,Unica,12,1.0\n";
+            CsvRosterReader reader = new CsvRosterReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals("STU001", reader.readStudent(errors).getCode());
+            assertEquals("STU003", reader.readStudent(errors).getCode());
+            assertNull(reader.readStudent(errors));
+            assertEquals(1, errors.size());
+            assertEquals(2, errors.getLine(0));
+        }
+    }
+}